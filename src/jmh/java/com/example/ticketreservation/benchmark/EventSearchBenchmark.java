@@ -0,0 +1,91 @@
+package com.example.ticketreservation.benchmark;
+
+import com.example.ticketreservation.service.EventSearchIndex;
+import com.example.ticketreservation.service.TrigramIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares event name search through {@link TrigramIndex} with the full scan behind
+ * {@code LOWER(name) LIKE '%query%'}, over one million generated event names. The scan lowers and
+ * searches every name as the database would without a usable index; the index searches return the
+ * first page of ranked ids, as {@link EventSearchIndex} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSearchBenchmark {
+
+    private static final int EVENTS = 1_000_000;
+    private static final int PAGE_SIZE = 50;
+    private static final String[] ADJECTIVES = {
+        "Moonlight", "Sunset", "Electric", "Golden", "Midnight", "Spring", "Winter", "Grand", "Neon", "Silent"
+    };
+    private static final String[] GENRES = {
+        "Jazz", "Rock", "Symphony", "Opera", "Ballet", "Comedy", "Hip Hop", "Folk", "Techno", "Gospel"
+    };
+    private static final String[] FORMATS = {
+        "Night", "Festival", "Tour", "Gala", "Session", "Showcase", "Live", "Revue", "Marathon", "Party"
+    };
+    private static final String[] CITIES = {
+        "Tokyo", "Osaka", "Kyoto", "Nagoya", "Sapporo", "Fukuoka", "Sendai", "Kobe", "Yokohama", "Naha"
+    };
+
+    /** Queries matching a tenth, a hundredth and a handful of the events. */
+    @Param({"symphony", "moonlight opera", "yokohama 4242"})
+    public String query;
+
+    private final List<String> names = new ArrayList<>(EVENTS);
+    private final TrigramIndex index = new TrigramIndex();
+    private String typo;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int id = 1; id <= EVENTS; id++) {
+            String name = pick(random, ADJECTIVES) + " " + pick(random, GENRES) + " " + pick(random, FORMATS)
+                    + " " + pick(random, CITIES) + " " + id;
+            names.add(name);
+            index.put(id, name);
+        }
+        typo = query.substring(0, 3) + query.substring(4);
+    }
+
+    @Benchmark
+    public int likeScan() {
+        String needle = query.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (String name : names) {
+            if (name.toLowerCase(Locale.ROOT).contains(needle)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Long> trigramSearch() {
+        return EventSearchIndex.top(index.search(query, false), PAGE_SIZE + 1);
+    }
+
+    /** The query with its fourth character dropped, found only through typo tolerance. */
+    @Benchmark
+    public List<Long> trigramFuzzySearch() {
+        return EventSearchIndex.top(index.search(typo, true), PAGE_SIZE + 1);
+    }
+
+    private static String pick(SplittableRandom random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
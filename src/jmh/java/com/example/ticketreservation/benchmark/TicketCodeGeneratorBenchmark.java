@@ -0,0 +1,34 @@
+package com.example.ticketreservation.benchmark;
+
+import com.example.ticketreservation.service.TicketCodeGenerator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the previous UUID-based ticket code with {@link TicketCodeGenerator}. The thread count
+ * comes from the {@code jmh} block in build.gradle (64 by default) so both run under the same
+ * contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TicketCodeGeneratorBenchmark {
+
+    private final TicketCodeGenerator generator = new TicketCodeGenerator(0);
+
+    @Benchmark
+    public String uuidTruncated() {
+        return "TKT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Benchmark
+    public String stripedCounter() {
+        return generator.next();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ticketreservation.config;
+
+import com.example.ticketreservation.entity.TimeOrderedIdGenerator;
+import com.example.ticketreservation.service.LocalPaymentProcessor;
+import com.example.ticketreservation.service.PaymentProcessor;
+import com.example.ticketreservation.service.TicketCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties(BookingProperties.class)
+public class BookingConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public BookingExecutors bookingExecutors(BookingProperties bookingProperties, Environment environment) {
+        return new BookingExecutors(bookingProperties, Threading.VIRTUAL.isActive(environment));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(PaymentProcessor.class)
+    public PaymentProcessor paymentProcessor(BookingProperties bookingProperties) {
+        return new LocalPaymentProcessor(bookingProperties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer timeOrderedIdProperties(BookingProperties bookingProperties) {
+        return properties -> properties.put(
+                TimeOrderedIdGenerator.NODE_ID_SETTING,
+                String.valueOf(bookingProperties.getIds().getNodeId()));
+    }
+
+    @Bean
+    public TicketCodeGenerator ticketCodeGenerator(BookingProperties bookingProperties) {
+        return new TicketCodeGenerator(bookingProperties.getIds().getNodeId());
+    }
+}
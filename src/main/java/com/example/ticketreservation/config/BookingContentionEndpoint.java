@@ -0,0 +1,36 @@
+package com.example.ticketreservation.config;
+
+import com.example.ticketreservation.dto.EventContentionResponse;
+import com.example.ticketreservation.service.BookingContentionTracker;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-event optimistic booking retries and aborts at {@code /actuator/bookingcontention}. They are
+ * served here rather than as tagged meters so the number of time series does not grow with the
+ * number of events. Only events booked within {@code booking.optimistic.contention-idle-ttl} are
+ * listed; an unknown or idle event answers 404.
+ */
+@Component
+@Endpoint(id = "bookingcontention")
+@RequiredArgsConstructor
+public class BookingContentionEndpoint {
+
+    static final int MOST_CONTENDED = 20;
+
+    private final BookingContentionTracker contentionTracker;
+
+    @ReadOperation
+    public List<EventContentionResponse> mostContended() {
+        return contentionTracker.mostContended(MOST_CONTENDED);
+    }
+
+    @ReadOperation
+    public EventContentionResponse event(@Selector Long eventId) {
+        return contentionTracker.contention(eventId).orElse(null);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ticketreservation.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Executors owned by the booking services. With {@code virtualThreads} every executor starts
+ * virtual threads instead of platform threads; pool sizes still bound the concurrency.
+ */
+public class BookingExecutors {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService pipelineWriters;
+    private final ScheduledExecutorService holdExpiryTicker;
+    private final ScheduledExecutorService waitingRoomTicker;
+    private final ScheduledExecutorService suggestionRefresher;
+    private final ScheduledExecutorService searchRefresher;
+    private final ExecutorService paymentWorkers;
+    private final boolean virtualThreads;
+
+    public BookingExecutors(BookingProperties bookingProperties, boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        this.pipelineWriters = Executors.newFixedThreadPool(
+                bookingProperties.getPipeline().getWriterThreads(), threadFactory("booking-writer-"));
+        this.holdExpiryTicker = Executors.newSingleThreadScheduledExecutor(threadFactory("seat-hold-expiry-"));
+        this.waitingRoomTicker = Executors.newSingleThreadScheduledExecutor(threadFactory("waiting-room-"));
+        this.suggestionRefresher = Executors.newSingleThreadScheduledExecutor(threadFactory("event-suggestions-"));
+        this.searchRefresher = Executors.newSingleThreadScheduledExecutor(threadFactory("event-search-"));
+        BookingProperties.Staged staged = bookingProperties.getStaged();
+        // A full queue runs the payment on the submitting request thread, which throttles new reservations
+        this.paymentWorkers = new ThreadPoolExecutor(
+                staged.getPaymentConcurrency(),
+                staged.getPaymentConcurrency(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(staged.getQueueCapacity()),
+                threadFactory("booking-payment-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public ExecutorService pipelineWriters() {
+        return pipelineWriters;
+    }
+
+    public ScheduledExecutorService holdExpiryTicker() {
+        return holdExpiryTicker;
+    }
+
+    public ScheduledExecutorService waitingRoomTicker() {
+        return waitingRoomTicker;
+    }
+
+    public ScheduledExecutorService suggestionRefresher() {
+        return suggestionRefresher;
+    }
+
+    public ScheduledExecutorService searchRefresher() {
+        return searchRefresher;
+    }
+
+    public ExecutorService paymentWorkers() {
+        return paymentWorkers;
+    }
+
+    public void shutdown() throws InterruptedException {
+        holdExpiryTicker.shutdownNow();
+        waitingRoomTicker.shutdownNow();
+        suggestionRefresher.shutdownNow();
+        searchRefresher.shutdownNow();
+        pipelineWriters.shutdown();
+        paymentWorkers.shutdown();
+        pipelineWriters.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        paymentWorkers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private ThreadFactory threadFactory(String threadNamePrefix) {
+        return virtualThreads
+                ? new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory()
+                : new CustomizableThreadFactory(threadNamePrefix);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.ticketreservation.config;
+
+import com.example.ticketreservation.service.BookingMode;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "booking")
+public class BookingProperties {
+
+    private BookingMode mode = BookingMode.PESSIMISTIC;
+
+    private Pipeline pipeline = new Pipeline();
+
+    private Optimistic optimistic = new Optimistic();
+
+    private Holds holds = new Holds();
+
+    private WaitingRoom waitingRoom = new WaitingRoom();
+
+    private Staged staged = new Staged();
+
+    private VirtualThreads virtualThreads = new VirtualThreads();
+
+    private Idempotency idempotency = new Idempotency();
+
+    private EventImport eventImport = new EventImport();
+
+    private Ids ids = new Ids();
+
+    private Pagination pagination = new Pagination();
+
+    private Search search = new Search();
+
+    private Suggestions suggestions = new Suggestions();
+
+    private NearCache nearCache = new NearCache();
+
+    private EventCache eventCache = new EventCache();
+
+    @Data
+    public static class Pipeline {
+
+        private int batchSize = 200;
+
+        private int writerThreads = 8;
+
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Optimistic {
+
+        private int maxAttempts = 5;
+
+        private Duration initialBackoff = Duration.ofMillis(5);
+
+        private Duration maxBackoff = Duration.ofMillis(200);
+
+        private double conflictRateThreshold = 0.5;
+
+        private int minSamples = 20;
+
+        private Duration pessimisticCooldown = Duration.ofMinutes(5);
+
+        private Duration contentionIdleTtl = Duration.ofMinutes(30);
+    }
+
+    @Data
+    public static class Holds {
+
+        private Duration ttl = Duration.ofMinutes(10);
+
+        private Duration tickDuration = Duration.ofSeconds(1);
+
+        private int wheelSize = 512;
+
+        private int expiryBatchSize = 500;
+    }
+
+    @Data
+    public static class WaitingRoom {
+
+        private boolean enabled = false;
+
+        private int admissionRate = 50;
+
+        private Duration tickInterval = Duration.ofMillis(100);
+
+        private Duration admissionTtl = Duration.ofMinutes(2);
+
+        private Duration waitingTtl = Duration.ofMinutes(5);
+
+        private int maxQueueSize = 100_000;
+
+        private Duration soldOutCheckInterval = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Staged {
+
+        private int paymentConcurrency = 64;
+
+        private int queueCapacity = 10_000;
+
+        private Duration paymentLatency = Duration.ofMillis(50);
+
+        private double declineRate = 0.0;
+    }
+
+    @Data
+    public static class VirtualThreads {
+
+        private Duration pinnedThreshold = Duration.ofMillis(20);
+    }
+
+    @Data
+    public static class Idempotency {
+
+        private long maxEntries = 100_000;
+
+        private Duration ttl = Duration.ofHours(24);
+    }
+
+    @Data
+    public static class EventImport {
+
+        private int batchSize = 1000;
+
+        private int maxReportedErrors = 1000;
+    }
+
+    @Data
+    public static class Ids {
+
+        /**
+         * Distinct per instance sharing a database, 0 to {@code TimeOrderedIds.MAX_NODE_ID}; also
+         * keeps ticket codes from different instances apart.
+         */
+        private int nodeId = 0;
+    }
+
+    @Data
+    public static class Pagination {
+
+        private int defaultPageSize = 50;
+
+        /** Larger requested sizes are capped to this. */
+        private int maxPageSize = 500;
+    }
+
+    @Data
+    public static class Search {
+
+        /** How often the index is rebuilt to pick up events written by other instances. */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Suggestions {
+
+        private int defaultLimit = 10;
+
+        /** Larger requested limits are capped to this. */
+        private int maxLimit = 50;
+
+        /** How often the index is rebuilt to pick up sales and drop events that have taken place. */
+        private Duration refreshInterval = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class NearCache {
+
+        /** Entries kept in process per cache, in front of Redis. */
+        private long maxEntries = 10_000;
+
+        /** Also bounds how long an entry can stay stale on an instance that missed an invalidation. */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /** Whether a miss takes a Redis lock so that only one instance loads the key. */
+        private boolean distributedLoadLock = false;
+
+        /** How long the other instances wait for the lock holder's value before loading it themselves. */
+        private Duration loadLockTtl = Duration.ofSeconds(2);
+
+        private Duration loadLockPollInterval = Duration.ofMillis(20);
+    }
+
+    @Data
+    public static class EventCache {
+
+        /** Event metadata only changes when the event is edited, which evicts it. */
+        private Duration metadataTtl = Duration.ofHours(1);
+
+        /** Also bounds how long a seat count loaded while a booking committed can stay off. */
+        private Duration availabilityTtl = Duration.ofMinutes(1);
+
+        /** Whether bookings and cancellations change the stored seat count in place instead of dropping it. */
+        private boolean writeThroughSeats = true;
+
+        /** Most events one availability request may ask for. */
+        private int maxAvailabilityIds = 100;
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.ticketreservation.config;
 
-import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.dto.EventMetadata;
+import com.example.ticketreservation.service.CachedSeatCounter;
+import com.example.ticketreservation.service.SeatAvailabilityBroadcaster;
+import com.example.ticketreservation.service.SeatShardInventory;
+import com.example.ticketreservation.service.SoldOutRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,15 +22,28 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * With Redis, cached values are kept in two levels: a bounded in-process cache sized and expired by
+ * {@code booking.near-cache}, in front of Redis. Evictions reach the other instances over Redis
+ * pub/sub, so each drops its in-process copy. Concurrent misses on a key share one load, and with
+ * {@code booking.near-cache.distributed-load-lock} one load across instances. The {@code events}
+ * cache holds only {@link EventMetadata}, kept for {@code booking.event-cache.metadata-ttl}; seat
+ * counts live apart in {@link CachedSeatCounter}, which bookings and cancellations change in place.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+    private static final String SEAT_AVAILABILITY_CHANNEL = "seat-availability-changed";
+    private static final String EVENTS_CACHE = "events";
 
     private static ObjectMapper createObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -34,27 +55,48 @@ public class CacheConfig {
     @Bean
     @Profile({"docker", "redis-test"})
     @ConditionalOnClass(RedisConnectionFactory.class)
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        Jackson2JsonRedisSerializer<EventResponse> serializer =
-                new Jackson2JsonRedisSerializer<>(OBJECT_MAPPER, EventResponse.class);
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+            BookingProperties bookingProperties,
+            MeterRegistry meterRegistry) {
+        BookingProperties.NearCache settings = bookingProperties.getNearCache();
+        CacheLoadLock loadLock = settings.isDistributedLoadLock()
+                ? new RedisCacheLoadLock(new StringRedisTemplate(connectionFactory))
+                : CacheLoadLock.NONE;
+        return new TwoLevelCacheManager(
+                redisCacheManager(connectionFactory, bookingProperties.getEventCache()),
+                cacheInvalidationBus.getIfAvailable(InMemoryCacheInvalidationBus::new),
+                loadLock,
+                settings,
+                meterRegistry);
+    }
 
-        RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
-                .serializeKeysWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    @Bean
+    @Profile({"docker", "redis-test"})
+    @ConditionalOnClass(RedisConnectionFactory.class)
+    public CacheInvalidationBus cacheInvalidationBus(
+            RedisConnectionFactory connectionFactory, RedisMessageListenerContainer redisMessageListenerContainer) {
+        return new RedisCacheInvalidationBus(
+                new StringRedisTemplate(connectionFactory), redisMessageListenerContainer);
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(cacheConfig)
-                .build();
+    @Bean
+    @Profile({"docker", "redis-test"})
+    @ConditionalOnClass(RedisConnectionFactory.class)
+    public CachedSeatCounter cachedSeatCounter(
+            RedisConnectionFactory connectionFactory, BookingProperties bookingProperties) {
+        return new RedisSeatCounter(
+                new StringRedisTemplate(connectionFactory),
+                bookingProperties.getEventCache().getAvailabilityTtl());
     }
 
     @Bean
     @Profile({"docker", "redis-test"})
     @ConditionalOnClass(RedisConnectionFactory.class)
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        Jackson2JsonRedisSerializer<EventResponse> serializer =
-                new Jackson2JsonRedisSerializer<>(OBJECT_MAPPER, EventResponse.class);
+        Jackson2JsonRedisSerializer<EventMetadata> serializer =
+                new Jackson2JsonRedisSerializer<>(OBJECT_MAPPER, EventMetadata.class);
 
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
@@ -64,4 +106,52 @@ public class CacheConfig {
         template.setHashValueSerializer(serializer);
         return template;
     }
+
+    @Bean
+    @Profile({"docker", "redis-test"})
+    @ConditionalOnClass(RedisConnectionFactory.class)
+    public SeatAvailabilityBroadcaster seatAvailabilityBroadcaster(RedisConnectionFactory connectionFactory) {
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        return eventId -> template.convertAndSend(SEAT_AVAILABILITY_CHANNEL, String.valueOf(eventId));
+    }
+
+    @Bean
+    @Profile({"docker", "redis-test"})
+    @ConditionalOnClass(RedisConnectionFactory.class)
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SoldOutRegistry soldOutRegistry,
+            SeatShardInventory seatShardInventory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> {
+                    Long eventId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+                    soldOutRegistry.invalidateLocal(eventId);
+                    seatShardInventory.forgetShardCount(eventId);
+                },
+                new ChannelTopic(SEAT_AVAILABILITY_CHANNEL));
+        return container;
+    }
+
+    private static RedisCacheManager redisCacheManager(
+            RedisConnectionFactory connectionFactory, BookingProperties.EventCache eventCache) {
+        RedisCacheManager cacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(cacheConfiguration(Duration.ofMinutes(10)))
+                .withCacheConfiguration(EVENTS_CACHE, cacheConfiguration(eventCache.getMetadataTtl()))
+                .build();
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    private static RedisCacheConfiguration cacheConfiguration(Duration ttl) {
+        Jackson2JsonRedisSerializer<EventMetadata> serializer =
+                new Jackson2JsonRedisSerializer<>(OBJECT_MAPPER, EventMetadata.class);
+
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .serializeKeysWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
 }
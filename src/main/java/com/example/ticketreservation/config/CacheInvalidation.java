@@ -0,0 +1,15 @@
+package com.example.ticketreservation.config;
+
+import lombok.Value;
+
+/** An eviction made by one instance, to be applied to the in-process caches of the others. */
+@Value
+public class CacheInvalidation {
+    /** Identifies the publishing {@link TwoLevelCacheManager}, which ignores its own invalidations. */
+    String origin;
+
+    String cacheName;
+
+    /** The evicted key in its string form, or null when the whole cache was cleared. */
+    String key;
+}
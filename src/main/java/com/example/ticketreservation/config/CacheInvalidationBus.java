@@ -0,0 +1,14 @@
+package com.example.ticketreservation.config;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between application instances. Delivery is best effort: a lost
+ * invalidation leaves a stale in-process entry until {@code booking.near-cache.ttl} expires it.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,30 @@
+package com.example.ticketreservation.config;
+
+import java.time.Duration;
+
+/**
+ * Lets one instance at a time load a missing cache entry, so a miss on a hot key reaches the
+ * database once across all instances rather than once per instance. Locks expire on their own, so
+ * an instance that dies while loading holds the others up for the TTL at most.
+ */
+public interface CacheLoadLock {
+
+    /** Never contended: every instance loads for itself. */
+    CacheLoadLock NONE = new CacheLoadLock() {
+        @Override
+        public String tryLock(String cacheName, String key, Duration ttl) {
+            return "";
+        }
+
+        @Override
+        public void unlock(String cacheName, String key, String token) {}
+    };
+
+    /**
+     * Returns the token to pass to {@link #unlock}, an empty token when nothing needs unlocking, or
+     * null when another instance holds the lock.
+     */
+    String tryLock(String cacheName, String key, Duration ttl);
+
+    void unlock(String cacheName, String key, String token);
+}
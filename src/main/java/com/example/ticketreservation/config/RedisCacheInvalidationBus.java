@@ -0,0 +1,65 @@
+package com.example.ticketreservation.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Publishes invalidations on a Redis pub/sub channel that every instance subscribes to. Pub/sub
+ * does not queue messages for disconnected subscribers, so an instance that misses one relies on
+ * the in-process TTL instead.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "cache-invalidated";
+
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisCacheInvalidationBus(
+            StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        redisTemplate.convertAndSend(CHANNEL, encode(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+                    try {
+                        listener.accept(decode(payload));
+                    } catch (IllegalArgumentException e) {
+                        log.warn("Ignoring malformed cache invalidation: payload={}", payload, e);
+                    }
+                },
+                new ChannelTopic(CHANNEL));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /** Origin, cache name and key on separate lines; the key line is left out for a cleared cache. */
+    static String encode(CacheInvalidation invalidation) {
+        String header = invalidation.getOrigin() + SEPARATOR + invalidation.getCacheName();
+        return invalidation.getKey() == null ? header : header + SEPARATOR + invalidation.getKey();
+    }
+
+    static CacheInvalidation decode(String payload) {
+        String[] parts = payload.split(SEPARATOR, 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Expected an origin and a cache name: " + payload);
+        }
+        return new CacheInvalidation(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
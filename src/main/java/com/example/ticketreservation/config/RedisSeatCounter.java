@@ -0,0 +1,145 @@
+package com.example.ticketreservation.config;
+
+import com.example.ticketreservation.service.CachedSeatCounter;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Seat counts as plain Redis integers under {@code event-seats:{<id>}}, each expiring {@code ttl}
+ * after it was loaded. Reads for many events take one {@code MGET} and loads one pipelined round of
+ * conditional {@code SET NX}; a booking is a single {@code INCRBY}, which keeps the expiry.
+ *
+ * <p>Every change also increments {@code event-seats:{<id>}:version}, which lives for {@code ttl}
+ * after the last change. A load only stores its count if the version is still the one read before
+ * it, so a change that committed after the load read the database is never lost. The braces keep
+ * both keys of an event in one cluster slot for the scripts.
+ */
+public class RedisSeatCounter implements CachedSeatCounter {
+
+    private static final String KEY_PREFIX = "event-seats:";
+    private static final String VERSION_SUFFIX = ":version";
+
+    private static final String PUT_IF_UNCHANGED =
+            """
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3], 'NX')
+            end
+            return 0
+            """;
+
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+            """
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            if redis.call('EXISTS', KEYS[1]) == 0 then return nil end
+            local seats = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if seats < 0 then
+                redis.call('DEL', KEYS[1])
+                return nil
+            end
+            return seats
+            """,
+            Long.class);
+
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+            """
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """,
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisSeatCounter(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Map<Long, Integer> get(Collection<Long> eventIds) {
+        List<Long> ids = List.copyOf(eventIds);
+        List<String> counts = redisTemplate
+                .opsForValue()
+                .multiGet(ids.stream().map(RedisSeatCounter::key).toList());
+        Map<Long, Integer> seats = new HashMap<>(Math.max(16, ids.size() * 2));
+        for (int index = 0; counts != null && index < ids.size(); index++) {
+            if (counts.get(index) != null) {
+                seats.put(ids.get(index), Integer.valueOf(counts.get(index)));
+            }
+        }
+        return seats;
+    }
+
+    @Override
+    public Map<Long, Long> versions(Collection<Long> eventIds) {
+        List<Long> ids = List.copyOf(eventIds);
+        List<String> stored = redisTemplate
+                .opsForValue()
+                .multiGet(ids.stream().map(RedisSeatCounter::versionKey).toList());
+        Map<Long, Long> versions = new HashMap<>(Math.max(16, ids.size() * 2));
+        for (int index = 0; stored != null && index < ids.size(); index++) {
+            versions.put(ids.get(index), stored.get(index) == null ? 0 : Long.parseLong(stored.get(index)));
+        }
+        return versions;
+    }
+
+    @Override
+    public void putIfUnchanged(Map<Long, Integer> seats, Map<Long, Long> versions) {
+        Map<Long, Integer> versioned = new HashMap<>(seats);
+        versioned.keySet().retainAll(versions.keySet());
+        if (versioned.isEmpty()) {
+            return;
+        }
+        String ttlMillis = String.valueOf(ttl.toMillis());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection strings = (StringRedisConnection) connection;
+            versioned.forEach((eventId, count) -> strings.eval(
+                    PUT_IF_UNCHANGED,
+                    ReturnType.INTEGER,
+                    2,
+                    key(eventId),
+                    versionKey(eventId),
+                    String.valueOf(versions.get(eventId)),
+                    String.valueOf(count),
+                    ttlMillis));
+            return null;
+        });
+    }
+
+    @Override
+    public Integer add(Long eventId, int delta) {
+        Long seats = redisTemplate.execute(
+                ADD,
+                List.of(key(eventId), versionKey(eventId)),
+                String.valueOf(delta),
+                String.valueOf(ttl.toMillis()));
+        return seats == null ? null : seats.intValue();
+    }
+
+    @Override
+    public void remove(Long eventId) {
+        redisTemplate.execute(
+                REMOVE, List.of(key(eventId), versionKey(eventId)), String.valueOf(ttl.toMillis()));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static String key(Long eventId) {
+        return KEY_PREFIX + "{" + eventId + "}";
+    }
+
+    static String versionKey(Long eventId) {
+        return key(eventId) + VERSION_SUFFIX;
+    }
+}
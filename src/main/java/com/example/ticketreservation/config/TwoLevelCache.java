@@ -0,0 +1,337 @@
+package com.example.ticketreservation.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * A bounded in-process cache (L1) in front of a shared one (L2). Reads try L1 first and copy an L2
+ * hit into it; writes and evictions go to both, and evictions are handed to {@code onEviction} so
+ * the other instances drop their L1 copies too. L1 holds the deserialized values themselves, so a
+ * hit costs a hash lookup and nothing else.
+ *
+ * <p>An L2 read can race with an eviction and return the value just evicted. To keep such a value
+ * out of L1, every eviction bumps a generation for its key's stripe, and a value read from L2 is
+ * only kept if the stripe's generation is unchanged since the read started. L1 keys are the string
+ * form of the cache key, as in L2 and in the invalidations sent between instances.
+ *
+ * <p>Loads through {@link #get(Object, Callable)}, which {@code @Cacheable(sync = true)} uses, are
+ * single-flight: concurrent misses on a key in this instance wait for one load and share its value
+ * or exception. With a {@link CacheLoadLock}, the instance that takes the lock loads and the others
+ * poll L2 for its value, loading themselves only if it has not arrived when the lock expires.
+ */
+@Slf4j
+public final class TwoLevelCache implements Cache {
+
+    private static final int STRIPES = 64;
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final BookingProperties.NearCache settings;
+    private final CacheLoadLock loadLock;
+    private final Consumer<String> onEviction;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder remoteLoads = new LongAdder();
+
+    /** {@code onEviction} receives the evicted key in its string form, or null when the cache is cleared. */
+    public TwoLevelCache(
+            String name,
+            Cache remote,
+            BookingProperties.NearCache settings,
+            CacheLoadLock loadLock,
+            Consumer<String> onEviction) {
+        this.name = name;
+        this.remote = remote;
+        this.settings = settings;
+        this.loadLock = loadLock;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxEntries())
+                .expireAfterWrite(settings.getTtl())
+                .build();
+        this.onEviction = onEviction;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+        long generation = generation(localKey);
+        ValueWrapper loaded = remote.get(key);
+        if (loaded == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        keepIfCurrent(localKey, generation, loaded);
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper cached = get(key);
+        Object value = cached == null ? null : cached.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        String localKey = localKey(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return (T) await(existing);
+        }
+        try {
+            ValueWrapper loadedMeanwhile = local.getIfPresent(localKey);
+            Object value = loadedMeanwhile != null ? loadedMeanwhile.get() : load(key, localKey, valueLoader);
+            flight.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        bumpGeneration(localKey);
+        local.put(localKey, new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = localKey(key);
+        bumpGeneration(localKey);
+        local.put(localKey, existing != null ? existing : new SimpleValueWrapper(value));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        evictLocal(localKey);
+        onEviction.accept(localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        onEviction.accept(null);
+    }
+
+    /** Drops this instance's copy only, for an eviction made by another instance. */
+    public void evictLocal(String localKey) {
+        bumpGeneration(localKey);
+        local.invalidate(localKey);
+    }
+
+    public void clearLocal() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        local.invalidateAll();
+    }
+
+    long localHits() {
+        return localHits.sum();
+    }
+
+    long localMisses() {
+        return localMisses.sum();
+    }
+
+    long remoteHits() {
+        return remoteHits.sum();
+    }
+
+    long remoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    long loads() {
+        return loads.sum();
+    }
+
+    long coalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    long remoteLoads() {
+        return remoteLoads.sum();
+    }
+
+    // === Private methods with side effects ===
+
+    /**
+     * Loads the value under the cross-instance lock, or takes the value its holder writes to L2. The
+     * loaded value is written back only if no eviction seen here may have outdated it meanwhile.
+     */
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        long generation = generation(localKey);
+        String token = tryLock(localKey);
+        try {
+            if (token == null) {
+                ValueWrapper published = awaitRemote(key);
+                if (published != null) {
+                    remoteLoads.increment();
+                    keepIfCurrent(localKey, generation, published);
+                    return published.get();
+                }
+            }
+            Object value = call(key, valueLoader);
+            loads.increment();
+            if (generation(localKey) == generation) {
+                remote.put(key, value);
+                keepIfCurrent(localKey, generation, new SimpleValueWrapper(value));
+            }
+            return value;
+        } finally {
+            unlock(localKey, token);
+        }
+    }
+
+    /** Polls L2 until the lock holder's value arrives or the lock would have expired. */
+    private ValueWrapper awaitRemote(Object key) {
+        long deadline = System.nanoTime() + settings.getLoadLockTtl().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(settings.getLoadLockPollInterval().toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper published = remote.get(key);
+            if (published != null) {
+                return published;
+            }
+        }
+        return null;
+    }
+
+    /** A failing lock is treated as taken, so the load falls back to this instance alone. */
+    private String tryLock(String localKey) {
+        try {
+            return loadLock.tryLock(name, localKey, settings.getLoadLockTtl());
+        } catch (RuntimeException e) {
+            log.warn("Failed to take cache load lock: cache={}, key={}", name, localKey, e);
+            return "";
+        }
+    }
+
+    private void unlock(String localKey, String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        try {
+            loadLock.unlock(name, localKey, token);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release cache load lock: cache={}, key={}", name, localKey, e);
+        }
+    }
+
+    /**
+     * Stores the value read from L2 unless an eviction of its stripe happened since the read began.
+     * Checking inside {@code compute} orders the check against concurrent puts and evictions of the key.
+     */
+    private void keepIfCurrent(String localKey, long generation, ValueWrapper loaded) {
+        local.asMap()
+                .compute(localKey, (ignored, current) -> generation(localKey) == generation ? loaded : current);
+    }
+
+    private long generation(String localKey) {
+        return generations.get(stripe(localKey));
+    }
+
+    private void bumpGeneration(String localKey) {
+        generations.incrementAndGet(stripe(localKey));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /** Runs the loader, wrapping what it throws as {@code Cache.get(key, Callable)} requires. */
+    private static Object call(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /** The shared value, or the leader's exception rethrown as it was. */
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    static double hitRatio(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    private static int stripe(String localKey) {
+        int hash = localKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.ticketreservation.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Puts a {@link TwoLevelCache} in front of every cache of the shared {@code remote} manager and keeps
+ * the in-process level consistent across instances through a {@link CacheInvalidationBus}: evictions
+ * made here are published, and those published by other instances drop the local copies here.
+ *
+ * <p>Per cache, lookups are counted as {@value #GETS_METRIC} by level and result, and the hit ratio
+ * of each level as {@value #HIT_RATIO_METRIC}. The L2 ratio covers only the lookups L1 missed.
+ * Misses loaded through the cache are counted as {@value #LOADS_METRIC} by outcome: {@code loaded}
+ * here, {@code coalesced} into a load already running here, or {@code remote} when another instance
+ * held the {@link CacheLoadLock} and its value was taken from L2.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    static final String GETS_METRIC = "cache.level.gets";
+    static final String HIT_RATIO_METRIC = "cache.level.hit.ratio";
+    static final String LOADS_METRIC = "cache.loads";
+
+    private final String origin = UUID.randomUUID().toString();
+    private final CacheManager remote;
+    private final CacheInvalidationBus bus;
+    private final CacheLoadLock loadLock;
+    private final BookingProperties.NearCache settings;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remote,
+            CacheInvalidationBus bus,
+            CacheLoadLock loadLock,
+            BookingProperties.NearCache settings,
+            MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.bus = bus;
+        this.loadLock = loadLock;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    // === Public methods (orchestration with side effects) ===
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, ignored -> register(new TwoLevelCache(
+                name,
+                remoteCache,
+                settings,
+                loadLock,
+                key -> publish(new CacheInvalidation(origin, name, key)))));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    /** Applies an invalidation published by another instance to the in-process level. */
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (origin.equals(invalidation.getOrigin())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(invalidation.getCacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.getKey() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.getKey());
+        }
+    }
+
+    // === Private methods with side effects ===
+
+    private void publish(CacheInvalidation invalidation) {
+        try {
+            bus.publish(invalidation);
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Failed to publish cache invalidation: cache={}, key={}",
+                    invalidation.getCacheName(),
+                    invalidation.getKey(),
+                    e);
+        }
+    }
+
+    private TwoLevelCache register(TwoLevelCache cache) {
+        registerGets(cache, "l1", "hit", TwoLevelCache::localHits);
+        registerGets(cache, "l1", "miss", TwoLevelCache::localMisses);
+        registerGets(cache, "l2", "hit", TwoLevelCache::remoteHits);
+        registerGets(cache, "l2", "miss", TwoLevelCache::remoteMisses);
+        registerHitRatio(cache, "l1", level -> TwoLevelCache.hitRatio(level.localHits(), level.localMisses()));
+        registerHitRatio(cache, "l2", level -> TwoLevelCache.hitRatio(level.remoteHits(), level.remoteMisses()));
+        registerLoads(cache, "loaded", TwoLevelCache::loads);
+        registerLoads(cache, "coalesced", TwoLevelCache::coalescedLoads);
+        registerLoads(cache, "remote", TwoLevelCache::remoteLoads);
+        return cache;
+    }
+
+    private void registerGets(TwoLevelCache cache, String level, String result, ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder(GETS_METRIC, cache, count)
+                .tag("cache", cache.getName())
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void registerLoads(TwoLevelCache cache, String outcome, ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder(LOADS_METRIC, cache, count)
+                .tag("cache", cache.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void registerHitRatio(TwoLevelCache cache, String level, ToDoubleFunction<TwoLevelCache> ratio) {
+        Gauge.builder(HIT_RATIO_METRIC, cache, ratio)
+                .tag("cache", cache.getName())
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.ticketreservation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.ConditionalOnThreading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier longer than
+ * {@code booking.virtual-threads.pinned-threshold}, typically a blocking call inside a
+ * {@code synchronized} block of a JDBC driver, the connection pool or Lettuce. Each occurrence is
+ * logged with the blocking frames and counted in {@code jvm.threads.virtual.pinned}, tagged with
+ * the library holding the monitor.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final BookingProperties bookingProperties;
+
+    private RecordingStream stream;
+
+    // === Public methods (orchestration with side effects) ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(bookingProperties.getVirtualThreads().getPinnedThreshold())
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info(
+                "Virtual thread pinning monitor started: threshold={}",
+                bookingProperties.getVirtualThreads().getPinnedThreshold());
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    // === Private methods with side effects ===
+
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null
+                ? List.of()
+                : event.getStackTrace().getFrames().stream()
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .toList();
+        String source = pinnedBy(frames);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+        log.warn(
+                "Virtual thread pinned for {} ms by {}: {}",
+                event.getDuration().toMillis(),
+                source,
+                frames.subList(0, Math.min(LOGGED_FRAMES, frames.size())));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /** Classifies a pinning stack trace, innermost frame first, by the first library frame found. */
+    static String pinnedBy(List<String> frames) {
+        for (String frame : frames) {
+            if (frame.startsWith("org.postgresql.")
+                    || frame.startsWith("org.h2.")
+                    || frame.startsWith("com.zaxxer.hikari.")) {
+                return "jdbc";
+            }
+            if (frame.startsWith("io.lettuce.") || frame.startsWith("io.netty.")) {
+                return "lettuce";
+            }
+            if (frame.startsWith("com.example.ticketreservation.")) {
+                return "application";
+            }
+        }
+        return "other";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ticketreservation.controller;
+
+import com.example.ticketreservation.dto.CursorPage;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+
+/** List endpoints return the page items as the body and the next cursor, if any, in a header. */
+final class CursorPages {
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private CursorPages() {}
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.ticketreservation.controller;
 
+import com.example.ticketreservation.dto.EventAvailabilityResponse;
+import com.example.ticketreservation.dto.EventImportResponse;
 import com.example.ticketreservation.dto.EventRequest;
 import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.dto.EventSuggestionsResponse;
+import com.example.ticketreservation.service.EventImportService;
 import com.example.ticketreservation.service.EventService;
+import com.example.ticketreservation.service.EventSuggestions;
 import jakarta.validation.Valid;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,11 +31,17 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class EventController {
 
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
     private final EventService eventService;
+    private final EventImportService eventImportService;
+    private final EventSuggestions eventSuggestions;
 
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEvents());
+    public ResponseEntity<List<EventResponse>> getAllEvents(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        return CursorPages.ok(eventService.getAllEvents(cursor, size));
     }
 
     @GetMapping("/{id}")
@@ -35,14 +49,37 @@ public class EventController {
         return ResponseEntity.ok(eventService.getEventById(id));
     }
 
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<EventAvailabilityResponse> getEventAvailability(@PathVariable Long id) {
+        return ResponseEntity.ok(eventService.getAvailability(id));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<EventAvailabilityResponse>> getAvailability(
+            @RequestParam(required = false) List<Long> ids) {
+        return ResponseEntity.ok(eventService.getAvailability(ids));
+    }
+
     @GetMapping("/available")
-    public ResponseEntity<List<EventResponse>> getAvailableEvents() {
-        return ResponseEntity.ok(eventService.getAvailableEvents());
+    public ResponseEntity<List<EventResponse>> getAvailableEvents(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        return CursorPages.ok(eventService.getAvailableEvents(cursor, size));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<EventResponse>> searchEvents(@RequestParam String name) {
-        return ResponseEntity.ok(eventService.searchEventsByName(name));
+    public ResponseEntity<List<EventResponse>> searchEvents(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String venue,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return CursorPages.ok(eventService.searchEvents(name, venue, fuzzy, cursor, size));
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<EventSuggestionsResponse> suggestEvents(
+            @RequestParam(required = false) String prefix, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(eventSuggestions.suggest(prefix, limit));
     }
 
     @PostMapping
@@ -51,6 +88,16 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEvent);
     }
 
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<EventImportResponse> importEventsFromNdjson(InputStream body) {
+        return ResponseEntity.ok(eventImportService.importNdjson(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
+    @PostMapping(value = "/import", consumes = CSV)
+    public ResponseEntity<EventImportResponse> importEventsFromCsv(InputStream body) {
+        return ResponseEntity.ok(eventImportService.importCsv(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EventResponse> updateEvent(@PathVariable Long id, @Valid @RequestBody EventRequest request) {
         return ResponseEntity.ok(eventService.updateEvent(id, request));
@@ -0,0 +1,48 @@
+package com.example.ticketreservation.controller;
+
+import com.example.ticketreservation.dto.SeatHoldResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.service.SeatHoldService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    @PostMapping("/events/{eventId}/holds")
+    public ResponseEntity<SeatHoldResponse> holdSeats(
+            @PathVariable Long eventId, @Valid @RequestBody TicketRequest request) {
+        SeatHoldResponse hold = seatHoldService.holdSeats(eventId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    @GetMapping("/holds/{id}")
+    public ResponseEntity<SeatHoldResponse> getHoldById(@PathVariable Long id) {
+        return ResponseEntity.ok(seatHoldService.getHoldById(id));
+    }
+
+    @PostMapping("/holds/{id}/confirm")
+    public ResponseEntity<TicketResponse> confirmHold(@PathVariable Long id) {
+        TicketResponse ticket = seatHoldService.confirmHold(id);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ticket);
+    }
+
+    @PatchMapping("/holds/{id}/release")
+    public ResponseEntity<SeatHoldResponse> releaseHold(@PathVariable Long id) {
+        return ResponseEntity.ok(seatHoldService.releaseHold(id));
+    }
+}
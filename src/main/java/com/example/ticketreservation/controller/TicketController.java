@@ -1,31 +1,56 @@
 package com.example.ticketreservation.controller;
 
+import com.example.ticketreservation.dto.BulkTicketItem;
+import com.example.ticketreservation.dto.BulkTicketRequest;
+import com.example.ticketreservation.dto.BulkTicketResponse;
 import com.example.ticketreservation.dto.TicketRequest;
 import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.service.BulkBookingService;
+import com.example.ticketreservation.service.TicketExportFormat;
+import com.example.ticketreservation.service.TicketExportService;
 import com.example.ticketreservation.service.TicketService;
+import com.example.ticketreservation.service.WaitingRoom;
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class TicketController {
 
+    static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final TicketService ticketService;
+    private final WaitingRoom waitingRoom;
+    private final BulkBookingService bulkBookingService;
+    private final TicketExportService ticketExportService;
 
     @GetMapping("/tickets")
-    public ResponseEntity<List<TicketResponse>> getAllTickets() {
-        return ResponseEntity.ok(ticketService.getAllTickets());
+    public ResponseEntity<List<TicketResponse>> getAllTickets(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        return CursorPages.ok(ticketService.getAllTickets(cursor, size));
     }
 
     @GetMapping("/tickets/{id}")
@@ -39,22 +64,64 @@ public class TicketController {
     }
 
     @GetMapping("/tickets/email/{email}")
-    public ResponseEntity<List<TicketResponse>> getTicketsByEmail(@PathVariable String email) {
-        return ResponseEntity.ok(ticketService.getTicketsByEmail(email));
+    public ResponseEntity<List<TicketResponse>> getTicketsByEmail(
+            @PathVariable String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return CursorPages.ok(ticketService.getTicketsByEmail(email, cursor, size));
     }
 
     @GetMapping("/events/{eventId}/tickets")
-    public ResponseEntity<List<TicketResponse>> getTicketsByEventId(@PathVariable Long eventId) {
-        return ResponseEntity.ok(ticketService.getTicketsByEventId(eventId));
+    public ResponseEntity<List<TicketResponse>> getTicketsByEventId(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return CursorPages.ok(ticketService.getTicketsByEventId(eventId, cursor, size));
+    }
+
+    /** Streams every ticket of the event as NDJSON (default) or CSV, for box-office reconciliation. */
+    @GetMapping("/events/{eventId}/tickets/export")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @PathVariable Long eventId, @RequestParam(defaultValue = "ndjson") String format) {
+        TicketExportFormat exportFormat = TicketExportFormat.fromParameter(format);
+        ticketExportService.requireEvent(eventId);
+        boolean csv = exportFormat == TicketExportFormat.CSV;
+        ContentDisposition attachment = ContentDisposition.attachment()
+                .filename("event-" + eventId + "-tickets." + (csv ? "csv" : "ndjson"))
+                .build();
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+                .body(out -> ticketExportService.exportTickets(eventId, exportFormat, out));
     }
 
     @PostMapping("/events/{eventId}/tickets")
     public ResponseEntity<TicketResponse> createTicket(
-            @PathVariable Long eventId, @Valid @RequestBody TicketRequest request) {
-        TicketResponse createdTicket = ticketService.createTicket(eventId, request);
+            @PathVariable Long eventId,
+            @RequestHeader(value = QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TicketRequest request) {
+        TicketRequest keyedRequest = request.withIdempotencyKey(idempotencyKey);
+        if (idempotencyKey != null && waitingRoom.isEnabled()) {
+            // A retry must get its ticket back even though the first attempt used up the queue token
+            Optional<TicketResponse> replayed = ticketService.findReplayedTicket(eventId, keyedRequest);
+            if (replayed.isPresent()) {
+                return ResponseEntity.status(HttpStatus.CREATED).body(replayed.get());
+            }
+        }
+        waitingRoom.admit(eventId, queueToken);
+        TicketResponse createdTicket = ticketService.createTicket(eventId, keyedRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTicket);
     }
 
+    @PostMapping("/tickets/bulk")
+    public ResponseEntity<BulkTicketResponse> createTickets(@Valid @RequestBody BulkTicketRequest request) {
+        Set<Long> eventIds =
+                request.getItems().stream().map(BulkTicketItem::getEventId).collect(Collectors.toSet());
+        waitingRoom.admitAll(eventIds, request.getQueueTokens());
+        return ResponseEntity.status(HttpStatus.CREATED).body(bulkBookingService.book(request));
+    }
+
     @PatchMapping("/tickets/{id}/cancel")
     public ResponseEntity<TicketResponse> cancelTicket(@PathVariable Long id) {
         return ResponseEntity.ok(ticketService.cancelTicket(id));
@@ -0,0 +1,30 @@
+package com.example.ticketreservation.controller;
+
+import com.example.ticketreservation.dto.QueueTokenResponse;
+import com.example.ticketreservation.service.WaitingRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/queue")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoom waitingRoom;
+
+    @PostMapping
+    public ResponseEntity<QueueTokenResponse> joinQueue(@PathVariable Long eventId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(waitingRoom.join(eventId));
+    }
+
+    @GetMapping("/{token}")
+    public ResponseEntity<QueueTokenResponse> getQueueStatus(@PathVariable Long eventId, @PathVariable String token) {
+        return ResponseEntity.ok(waitingRoom.status(eventId, token));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ticketreservation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class BulkTicketItem {
+
+    @NotNull(message = "Event id is required")
+    Long eventId;
+
+    @NotNull(message = "Ticket is required")
+    @Valid
+    TicketRequest ticket;
+}
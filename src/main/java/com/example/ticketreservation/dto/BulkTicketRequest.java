@@ -0,0 +1,32 @@
+package com.example.ticketreservation.dto;
+
+import com.example.ticketreservation.service.BulkBookingPolicy;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class BulkTicketRequest {
+
+    @NotNull(message = "Policy is required")
+    @Builder.Default
+    BulkBookingPolicy policy = BulkBookingPolicy.ALL_OR_NOTHING;
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 500, message = "A bulk order may contain at most 500 items")
+    @Valid
+    List<BulkTicketItem> items;
+
+    /** An admitted waiting-room token per event of the order, required while the waiting room is enabled. */
+    @NotNull(message = "Queue tokens must not be null")
+    @Builder.Default
+    Map<Long, String> queueTokens = Map.of();
+}
@@ -0,0 +1,17 @@
+package com.example.ticketreservation.dto;
+
+import com.example.ticketreservation.service.BulkBookingPolicy;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class BulkTicketResponse {
+    BulkBookingPolicy policy;
+    int bookedCount;
+    int rejectedCount;
+    List<BulkTicketResult> results;
+}
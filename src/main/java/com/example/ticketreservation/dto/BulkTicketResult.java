@@ -0,0 +1,15 @@
+package com.example.ticketreservation.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class BulkTicketResult {
+    int index;
+    Long eventId;
+    TicketResponse ticket;
+    String error;
+}
@@ -0,0 +1,17 @@
+package com.example.ticketreservation.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class CursorPage<T> {
+
+    List<T> items;
+
+    /** Opaque token for the next page, or null on the last page. */
+    String nextCursor;
+}
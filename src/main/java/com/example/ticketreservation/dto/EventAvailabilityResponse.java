@@ -0,0 +1,13 @@
+package com.example.ticketreservation.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class EventAvailabilityResponse {
+    Long eventId;
+    Integer availableSeats;
+}
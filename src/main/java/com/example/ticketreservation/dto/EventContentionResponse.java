@@ -0,0 +1,16 @@
+package com.example.ticketreservation.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class EventContentionResponse {
+    Long eventId;
+    long retries;
+    long aborts;
+    double conflictRate;
+    boolean pessimistic;
+}
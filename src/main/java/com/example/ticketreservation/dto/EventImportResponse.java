@@ -0,0 +1,16 @@
+package com.example.ticketreservation.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class EventImportResponse {
+    long imported;
+    long rejected;
+    List<EventImportError> errors;
+    boolean errorsTruncated;
+}
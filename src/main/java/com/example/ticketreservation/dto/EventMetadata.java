@@ -0,0 +1,32 @@
+package com.example.ticketreservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * The fields of an event that change only when the event is edited, as cached under {@code events}.
+ * Unknown properties are ignored so that entries cached as a whole {@link EventResponse} still read.
+ * Field order is the constructor order used by the projection query in {@code EventReadRepository}.
+ */
+@Value
+@Builder
+@Jacksonized
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EventMetadata {
+    Long id;
+    String name;
+    String description;
+    String venue;
+    LocalDateTime eventDate;
+    Integer totalSeats;
+    Integer seatShards;
+    BigDecimal price;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
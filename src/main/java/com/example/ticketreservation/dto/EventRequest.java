@@ -3,6 +3,7 @@ package com.example.ticketreservation.dto;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -41,4 +42,8 @@ public class EventRequest {
     @DecimalMin(value = "0.01", message = "Price must be positive")
     @Digits(integer = 8, fraction = 2, message = "Price must have at most 8 integer digits and 2 decimal places")
     BigDecimal price;
+
+    @Positive(message = "Seat shards must be positive")
+    @Max(value = 256, message = "Seat shards must be at most 256")
+    Integer seatShards;
 }
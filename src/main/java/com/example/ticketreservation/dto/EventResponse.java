@@ -2,13 +2,16 @@ package com.example.ticketreservation.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
 
+/** Field order is the constructor order used by the projection queries in {@code EventReadRepository}. */
 @Value
 @Builder
 @Jacksonized
+@AllArgsConstructor
 public class EventResponse {
     Long id;
     String name;
@@ -17,6 +20,7 @@ public class EventResponse {
     LocalDateTime eventDate;
     Integer totalSeats;
     Integer availableSeats;
+    Integer seatShards;
     BigDecimal price;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
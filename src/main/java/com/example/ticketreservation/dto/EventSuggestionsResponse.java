@@ -0,0 +1,14 @@
+package com.example.ticketreservation.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class EventSuggestionsResponse {
+    List<String> names;
+    List<String> venues;
+}
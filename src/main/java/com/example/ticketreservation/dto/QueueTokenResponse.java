@@ -0,0 +1,17 @@
+package com.example.ticketreservation.dto;
+
+import com.example.ticketreservation.service.QueueTokenStatus;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class QueueTokenResponse {
+    String token;
+    Long eventId;
+    QueueTokenStatus status;
+    long position;
+    long estimatedWaitSeconds;
+}
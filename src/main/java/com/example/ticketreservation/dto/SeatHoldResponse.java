@@ -0,0 +1,23 @@
+package com.example.ticketreservation.dto;
+
+import com.example.ticketreservation.entity.SeatHoldStatus;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class SeatHoldResponse {
+    Long id;
+    Long eventId;
+    String customerName;
+    String customerEmail;
+    Integer numberOfSeats;
+    SeatHoldStatus status;
+    LocalDateTime expiresAt;
+    Long ticketId;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
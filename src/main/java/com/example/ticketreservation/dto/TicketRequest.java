@@ -1,5 +1,6 @@
 package com.example.ticketreservation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,6 +8,7 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Value;
+import lombok.With;
 import lombok.extern.jackson.Jacksonized;
 
 @Value
@@ -26,4 +28,9 @@ public class TicketRequest {
     @NotNull(message = "Number of seats is required")
     @Positive(message = "Number of seats must be positive")
     Integer numberOfSeats;
+
+    /** Taken from the {@code Idempotency-Key} header, never from the body. */
+    @JsonIgnore
+    @With
+    String idempotencyKey;
 }
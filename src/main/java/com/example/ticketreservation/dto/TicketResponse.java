@@ -3,13 +3,16 @@ package com.example.ticketreservation.dto;
 import com.example.ticketreservation.entity.TicketStatus;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
 
+/** Field order is the constructor order used by the projection queries in {@code TicketReadRepository}. */
 @Value
 @Builder
 @Jacksonized
+@AllArgsConstructor
 public class TicketResponse {
     Long id;
     String ticketCode;
@@ -0,0 +1,37 @@
+package com.example.ticketreservation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+        name = "event_seat_shards",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "shard_index"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSeatShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    @Column(name = "available_seats", nullable = false)
+    private Integer availableSeats;
+}
@@ -0,0 +1,8 @@
+package com.example.ticketreservation.entity;
+
+public enum SeatHoldStatus {
+    HELD,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
@@ -5,9 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -21,7 +20,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tickets")
+@Table(
+        name = "tickets",
+        indexes = {
+            @Index(name = "idx_tickets_created_at_id", columnList = "created_at, id"),
+            @Index(name = "idx_tickets_customer_email_created_at_id", columnList = "customer_email, created_at, id"),
+            @Index(name = "idx_tickets_event_id_created_at_id", columnList = "event_id, created_at, id")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,7 +34,7 @@ import lombok.NoArgsConstructor;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(name = "ticket_code", nullable = false, unique = true)
@@ -45,6 +50,9 @@ public class Ticket {
     @Column(name = "customer_email", nullable = false)
     private String customerEmail;
 
+    @Column(name = "idempotency_key", unique = true)
+    private String idempotencyKey;
+
     @Column(name = "number_of_seats", nullable = false)
     private Integer numberOfSeats;
 
@@ -1,6 +1,7 @@
 package com.example.ticketreservation.entity;
 
 public enum TicketStatus {
+    PENDING,
     CONFIRMED,
     CANCELLED,
     COMPLETED
@@ -0,0 +1,83 @@
+package com.example.ticketreservation.entity;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process generator of time-ordered {@code long} ids, so inserts never need a database round
+ * trip to learn their key and can be JDBC-batched.
+ *
+ * <p>An id packs 40 bits of milliseconds since 2024-01-01 UTC, a 5-bit node id and an 8-bit
+ * per-millisecond sequence, which keeps every id below 2<sup>53</sup> and therefore exact as a
+ * JSON number in JavaScript clients. Ids from one node are strictly increasing; instances sharing
+ * a database must use distinct node ids. When the sequence of a millisecond is exhausted, or the
+ * wall clock moves backwards, the generator runs ahead of the clock instead of blocking.
+ *
+ * <p>Nothing about that lead survives a restart, so a node restarted before the clock caught up
+ * would hand out ids it had already issued. {@link #advancePast} is therefore called at startup
+ * with the highest id stored, which puts the first new id above it.
+ */
+public final class TimeOrderedIds {
+
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final int SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    private static final ConcurrentMap<Integer, TimeOrderedIds> BY_NODE = new ConcurrentHashMap<>();
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private long lastMillis = -1;
+    private int sequence;
+
+    TimeOrderedIds(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /** Returns the process-wide generator for the node, shared by Hibernate and the JDBC batch writers. */
+    public static TimeOrderedIds forNode(int nodeId) {
+        TimeOrderedIds ids = BY_NODE.get(nodeId);
+        return ids != null
+                ? ids
+                : BY_NODE.computeIfAbsent(nodeId, id -> new TimeOrderedIds(id, System::currentTimeMillis));
+    }
+
+    public synchronized long next() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                lastMillis++;
+            }
+        }
+        return compose(lastMillis, nodeId, sequence);
+    }
+
+    /** Makes every later id greater than {@code id}, such as the highest one already stored. */
+    public synchronized void advancePast(long id) {
+        long millis = id >>> (NODE_BITS + SEQUENCE_BITS);
+        if (millis >= lastMillis) {
+            lastMillis = millis;
+            sequence = SEQUENCE_MASK;
+        }
+    }
+
+    static long compose(long elapsedMillis, int nodeId, int sequence) {
+        return (elapsedMillis << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /** Creation time encoded in an id, in epoch milliseconds. */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
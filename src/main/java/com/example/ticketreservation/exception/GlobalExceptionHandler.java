@@ -3,8 +3,10 @@ package com.example.ticketreservation.exception;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -12,6 +14,14 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /** Sold-out rejections are the bulk of post-sellout traffic, so their response is built once. */
+    private static final ResponseEntity<Map<String, Object>> SOLD_OUT_RESPONSE = new ResponseEntity<>(
+            Map.of(
+                    "status", HttpStatus.BAD_REQUEST.value(),
+                    "error", HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    "message", SoldOutException.INSTANCE.getMessage()),
+            HttpStatus.BAD_REQUEST);
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationException(MethodArgumentNotValidException ex) {
         List<String> errors = ex.getBindingResult().getFieldErrors().stream()
@@ -32,11 +42,41 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(SoldOutException.class)
+    public ResponseEntity<Map<String, Object>> handleSoldOutException(SoldOutException ex) {
+        return SOLD_OUT_RESPONSE;
+    }
+
     @ExceptionHandler(InsufficientSeatsException.class)
     public ResponseEntity<Map<String, Object>> handleInsufficientSeatsException(InsufficientSeatsException ex) {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException ex) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @ExceptionHandler(QueueAdmissionException.class)
+    public ResponseEntity<Map<String, Object>> handleQueueAdmissionException(QueueAdmissionException ex) {
+        Map<String, Object> errorResponse = Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", HttpStatus.TOO_MANY_REQUESTS.value(),
+                "error", HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "message", ex.getMessage(),
+                "position", ex.getPosition(),
+                "estimatedWaitSeconds", ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex) {
+        return buildErrorResponse("The resource was modified concurrently, please retry", HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalStateException(IllegalStateException ex) {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
@@ -0,0 +1,8 @@
+package com.example.ticketreservation.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException(String idempotencyKey) {
+        super("Idempotency key '" + idempotencyKey + "' was already used for a different request");
+    }
+}
@@ -1,12 +1,26 @@
 package com.example.ticketreservation.exception;
 
+import lombok.Getter;
+
+@Getter
 public class InsufficientSeatsException extends RuntimeException {
 
+    /** Seats that were left when the request was rejected, or {@code -1} when unknown. */
+    private final int availableSeats;
+
     public InsufficientSeatsException(String message) {
         super(message);
+        this.availableSeats = -1;
     }
 
     public InsufficientSeatsException(int requested, int available) {
         super(String.format("Requested %d seats but only %d available", requested, available));
+        this.availableSeats = available;
+    }
+
+    /** For preallocated rejections: no stack trace and no suppressed exceptions. */
+    protected InsufficientSeatsException(String message, int availableSeats, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.availableSeats = availableSeats;
     }
 }
@@ -0,0 +1,16 @@
+package com.example.ticketreservation.exception;
+
+import lombok.Getter;
+
+@Getter
+public class QueueAdmissionException extends RuntimeException {
+
+    private final long position;
+    private final long retryAfterSeconds;
+
+    public QueueAdmissionException(String message, long position, long retryAfterSeconds) {
+        super(message);
+        this.position = position;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
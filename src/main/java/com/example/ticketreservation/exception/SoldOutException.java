@@ -0,0 +1,14 @@
+package com.example.ticketreservation.exception;
+
+/**
+ * Rejection raised by the sold-out fast path before any transaction starts. It is thrown on every
+ * request for an exhausted event, so a single stackless instance is shared.
+ */
+public final class SoldOutException extends InsufficientSeatsException {
+
+    public static final SoldOutException INSTANCE = new SoldOutException();
+
+    private SoldOutException() {
+        super("Event is sold out or has fewer seats than requested", -1, false);
+    }
+}
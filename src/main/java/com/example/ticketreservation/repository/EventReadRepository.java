@@ -0,0 +1,69 @@
+package com.example.ticketreservation.repository;
+
+import com.example.ticketreservation.dto.EventMetadata;
+import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.entity.Event;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Read model for events: every query builds its result straight from the result set, with a
+ * constructor expression or an interface projection, so no entity is hydrated, snapshotted for
+ * dirty checking or kept in the persistence context. Seats held by shards are summed in the same
+ * statement.
+ */
+public interface EventReadRepository extends Repository<Event, Long> {
+
+    String SELECT_RESPONSE = "SELECT new com.example.ticketreservation.dto.EventResponse("
+            + "e.id, e.name, e.description, e.venue, e.eventDate, e.totalSeats, "
+            + "e.availableSeats + CAST(COALESCE((SELECT SUM(s.availableSeats) FROM EventSeatShard s "
+            + "WHERE s.eventId = e.id), 0) AS Integer), "
+            + "CASE WHEN e.seatShards > 1 THEN e.seatShards ELSE 1 END, "
+            + "e.price, e.createdAt, e.updatedAt) FROM Event e ";
+
+    String SELECT_METADATA = "SELECT new com.example.ticketreservation.dto.EventMetadata("
+            + "e.id, e.name, e.description, e.venue, e.eventDate, e.totalSeats, "
+            + "CASE WHEN e.seatShards > 1 THEN e.seatShards ELSE 1 END, "
+            + "e.price, e.createdAt, e.updatedAt) FROM Event e ";
+
+    String AFTER_CURSOR = "e.eventDate >= :after AND (e.eventDate > :after OR e.id > :afterId) "
+            + "ORDER BY e.eventDate ASC, e.id ASC";
+
+    @Query(SELECT_METADATA + "WHERE e.id = :id")
+    Optional<EventMetadata> findMetadataById(@Param("id") Long id);
+
+    @Query("SELECT e.id AS id, e.availableSeats + CAST(COALESCE((SELECT SUM(s.availableSeats) "
+            + "FROM EventSeatShard s WHERE s.eventId = e.id), 0) AS Integer) AS availableSeats "
+            + "FROM Event e WHERE e.id IN :ids")
+    List<EventSeatCount> findSeatCountsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_RESPONSE + "WHERE e.id IN :ids")
+    List<EventResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_RESPONSE + "WHERE e.eventDate > :now")
+    Stream<EventResponse> streamUpcoming(@Param("now") LocalDateTime now);
+
+    @Query(SELECT_RESPONSE + "WHERE " + AFTER_CURSOR)
+    List<EventResponse> findPageByEventDate(
+            @Param("after") LocalDateTime after, @Param("afterId") Long afterId, Pageable limit);
+
+    @Query(SELECT_RESPONSE + "WHERE e.eventDate > :now AND (e.availableSeats > 0 OR EXISTS "
+            + "(SELECT s FROM EventSeatShard s WHERE s.eventId = e.id AND s.availableSeats > 0)) AND "
+            + AFTER_CURSOR)
+    List<EventResponse> findAvailablePage(
+            @Param("now") LocalDateTime now,
+            @Param("after") LocalDateTime after,
+            @Param("afterId") Long afterId,
+            Pageable limit);
+}
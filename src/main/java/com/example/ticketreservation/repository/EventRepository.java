@@ -2,12 +2,17 @@ package com.example.ticketreservation.repository;
 
 import com.example.ticketreservation.entity.Event;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,9 +23,6 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByAvailableSeatsGreaterThan(Integer seats);
 
-    @Query("SELECT e FROM Event e WHERE e.eventDate > :now AND e.availableSeats > 0 ORDER BY e.eventDate ASC")
-    List<Event> findAvailableEvents(@Param("now") LocalDateTime now);
-
     List<Event> findByNameContainingIgnoreCase(String name);
 
     List<Event> findByVenueContainingIgnoreCase(String venue);
@@ -28,4 +30,34 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT e FROM Event e WHERE e.id = :id")
     Optional<Event> findByIdWithLock(@Param("id") Long id);
+
+    @Query("SELECT e.availableSeats FROM Event e WHERE e.id = :id")
+    Optional<Integer> findAvailableSeatsById(@Param("id") Long id);
+
+    @Query("SELECT e.availableSeats + COALESCE((SELECT SUM(s.availableSeats) FROM EventSeatShard s "
+            + "WHERE s.eventId = e.id), 0) FROM Event e WHERE e.id = :id")
+    Optional<Long> findTotalAvailableSeatsById(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(e.seatShards, 1) FROM Event e WHERE e.id = :id")
+    Optional<Integer> findSeatShardsById(@Param("id") Long id);
+
+    @Query("SELECT MAX(e.id) FROM Event e")
+    Optional<Long> findMaxId();
+
+    @Query("SELECT e.id AS id, e.availableSeats AS availableSeats FROM Event e")
+    List<EventSeatCount> findAllSeatCounts();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id AS id, e.name AS name, e.venue AS venue FROM Event e")
+    Stream<EventSearchRow> streamSearchRows();
+
+    @Modifying
+    @Query("UPDATE Event e SET e.availableSeats = e.availableSeats - :seats, e.version = e.version + 1, "
+            + "e.updatedAt = :now WHERE e.id = :id AND e.availableSeats >= :seats")
+    int decrementAvailableSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.availableSeats = e.availableSeats + :seats, e.version = e.version + 1, "
+            + "e.updatedAt = :now WHERE e.id = :id")
+    int incrementAvailableSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
 }
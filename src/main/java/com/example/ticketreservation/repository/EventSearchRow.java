@@ -0,0 +1,10 @@
+package com.example.ticketreservation.repository;
+
+public interface EventSearchRow {
+
+    Long getId();
+
+    String getName();
+
+    String getVenue();
+}
@@ -0,0 +1,8 @@
+package com.example.ticketreservation.repository;
+
+public interface EventSeatCount {
+
+    Long getId();
+
+    Integer getAvailableSeats();
+}
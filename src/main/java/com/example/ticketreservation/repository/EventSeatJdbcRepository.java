@@ -0,0 +1,76 @@
+package com.example.ticketreservation.repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Seat updates issued as a single guarded statement, returning the new seat count in the same
+ * round trip ({@code UPDATE ... RETURNING} on PostgreSQL, {@code FINAL TABLE} on H2).
+ */
+@Repository
+@Slf4j
+public class EventSeatJdbcRepository {
+
+    private static final String GUARDED_DECREMENT = "UPDATE events SET available_seats = available_seats - ?, "
+            + "version = version + 1, updated_at = ? WHERE id = ? AND available_seats >= ?";
+
+    private static final String RETURNED_COLUMNS = "available_seats, version, name, price";
+
+    private static final RowMapper<RemainingSeats> REMAINING_SEATS_MAPPER = (rs, rowNum) -> new RemainingSeats(
+            rs.getInt("available_seats"), rs.getLong("version"), rs.getString("name"), rs.getBigDecimal("price"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String decrementSql;
+
+    public EventSeatJdbcRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.decrementSql = decrementSqlFor(databaseProductName(dataSource));
+    }
+
+    public Optional<RemainingSeats> decrementAvailableSeats(Long eventId, int seats) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (decrementSql == null) {
+            return decrementWithFollowUpRead(eventId, seats, now);
+        }
+        return jdbcTemplate.query(decrementSql, REMAINING_SEATS_MAPPER, seats, now, eventId, seats).stream()
+                .findFirst();
+    }
+
+    private Optional<RemainingSeats> decrementWithFollowUpRead(Long eventId, int seats, Timestamp now) {
+        if (jdbcTemplate.update(GUARDED_DECREMENT, seats, now, eventId, seats) == 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate
+                .query("SELECT " + RETURNED_COLUMNS + " FROM events WHERE id = ?", REMAINING_SEATS_MAPPER, eventId)
+                .stream()
+                .findFirst();
+    }
+
+    static String decrementSqlFor(String databaseProductName) {
+        if ("PostgreSQL".equalsIgnoreCase(databaseProductName)) {
+            return GUARDED_DECREMENT + " RETURNING " + RETURNED_COLUMNS;
+        }
+        if ("H2".equalsIgnoreCase(databaseProductName)) {
+            return "SELECT " + RETURNED_COLUMNS + " FROM FINAL TABLE (" + GUARDED_DECREMENT + ")";
+        }
+        return null;
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine database product, using two-statement seat updates", e);
+            return null;
+        }
+    }
+}
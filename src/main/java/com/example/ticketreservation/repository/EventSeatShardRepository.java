@@ -0,0 +1,38 @@
+package com.example.ticketreservation.repository;
+
+import com.example.ticketreservation.entity.EventSeatShard;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventSeatShardRepository extends JpaRepository<EventSeatShard, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventSeatShard s WHERE s.eventId = :eventId ORDER BY s.shardIndex ASC")
+    List<EventSeatShard> findByEventIdForUpdate(@Param("eventId") Long eventId);
+
+    @Query("SELECT COALESCE(SUM(s.availableSeats), 0) FROM EventSeatShard s WHERE s.eventId = :eventId")
+    int sumAvailableSeatsByEventId(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("UPDATE EventSeatShard s SET s.availableSeats = s.availableSeats - :seats "
+            + "WHERE s.eventId = :eventId AND s.shardIndex = :shardIndex AND s.availableSeats >= :seats")
+    int decrementAvailableSeats(
+            @Param("eventId") Long eventId, @Param("shardIndex") int shardIndex, @Param("seats") int seats);
+
+    @Modifying
+    @Query("UPDATE EventSeatShard s SET s.availableSeats = s.availableSeats + :seats "
+            + "WHERE s.eventId = :eventId AND s.shardIndex = :shardIndex")
+    int incrementAvailableSeats(
+            @Param("eventId") Long eventId, @Param("shardIndex") int shardIndex, @Param("seats") int seats);
+
+    @Modifying
+    @Query("DELETE FROM EventSeatShard s WHERE s.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,10 @@
+package com.example.ticketreservation.repository;
+
+import java.time.LocalDateTime;
+
+public interface PendingSeatHold {
+
+    Long getId();
+
+    LocalDateTime getExpiresAt();
+}
@@ -0,0 +1,12 @@
+package com.example.ticketreservation.repository;
+
+import java.math.BigDecimal;
+import lombok.Value;
+
+@Value
+public class RemainingSeats {
+    int availableSeats;
+    long version;
+    String eventName;
+    BigDecimal price;
+}
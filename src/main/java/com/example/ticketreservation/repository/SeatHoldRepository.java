@@ -0,0 +1,29 @@
+package com.example.ticketreservation.repository;
+
+import com.example.ticketreservation.entity.SeatHold;
+import com.example.ticketreservation.entity.SeatHoldStatus;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.id = :id")
+    Optional<SeatHold> findByIdWithLock(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.id IN :ids AND h.status = :status ORDER BY h.id ASC")
+    List<SeatHold> findByIdInAndStatusWithLock(
+            @Param("ids") Collection<Long> ids, @Param("status") SeatHoldStatus status);
+
+    @Query("SELECT h.id AS id, h.expiresAt AS expiresAt FROM SeatHold h WHERE h.status = :status")
+    List<PendingSeatHold> findPendingByStatus(@Param("status") SeatHoldStatus status);
+}
@@ -0,0 +1,63 @@
+package com.example.ticketreservation.repository;
+
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Ticket;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Read model for tickets: every query builds {@link TicketResponse} straight from the result set
+ * with a constructor expression joined to the event's name, so neither tickets nor events are
+ * hydrated, snapshotted for dirty checking or kept in the persistence context.
+ */
+public interface TicketReadRepository extends Repository<Ticket, Long> {
+
+    String SELECT_RESPONSE = "SELECT new com.example.ticketreservation.dto.TicketResponse("
+            + "t.id, t.ticketCode, e.id, e.name, t.customerName, t.customerEmail, t.numberOfSeats, "
+            + "t.totalAmount, t.status, t.createdAt, t.updatedAt) FROM Ticket t JOIN t.event e ";
+
+    String AFTER_CURSOR = "t.createdAt >= :after AND (t.createdAt > :after OR t.id > :afterId) "
+            + "ORDER BY t.createdAt ASC, t.id ASC";
+
+    @Query(SELECT_RESPONSE + "WHERE t.id = :id")
+    Optional<TicketResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + "WHERE t.ticketCode = :ticketCode")
+    Optional<TicketResponse> findResponseByTicketCode(@Param("ticketCode") String ticketCode);
+
+    @Query(SELECT_RESPONSE + "WHERE " + AFTER_CURSOR)
+    List<TicketResponse> findPageByCreatedAt(
+            @Param("after") LocalDateTime after, @Param("afterId") Long afterId, Pageable limit);
+
+    @Query(SELECT_RESPONSE + "WHERE t.customerEmail = :email AND " + AFTER_CURSOR)
+    List<TicketResponse> findPageByCustomerEmail(
+            @Param("email") String email,
+            @Param("after") LocalDateTime after,
+            @Param("afterId") Long afterId,
+            Pageable limit);
+
+    @Query(SELECT_RESPONSE + "WHERE e.id = :eventId AND " + AFTER_CURSOR)
+    List<TicketResponse> findPageByEventId(
+            @Param("eventId") Long eventId,
+            @Param("after") LocalDateTime after,
+            @Param("afterId") Long afterId,
+            Pageable limit);
+
+    /**
+     * Forward-only cursor over an event's tickets in booking order. Must be consumed inside a
+     * transaction; rows arrive 1000 per round trip and nothing accumulates in the persistence
+     * context, however many there are.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_RESPONSE + "WHERE e.id = :eventId ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TicketResponse> streamByEventId(@Param("eventId") Long eventId);
+}
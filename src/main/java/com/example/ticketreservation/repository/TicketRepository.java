@@ -2,9 +2,13 @@ package com.example.ticketreservation.repository;
 
 import com.example.ticketreservation.entity.Ticket;
 import com.example.ticketreservation.entity.TicketStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -21,4 +25,18 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     List<Ticket> findByCustomerEmailAndStatus(String customerEmail, TicketStatus status);
 
     long countByEventId(Long eventId);
+
+    @Query("SELECT MAX(t.id) FROM Ticket t")
+    Optional<Long> findMaxId();
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.event WHERE t.idempotencyKey = :idempotencyKey")
+    Optional<Ticket> findByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    @Modifying
+    @Query("UPDATE Ticket t SET t.status = :to, t.updatedAt = :now WHERE t.id = :id AND t.status = :from")
+    int transitionStatus(
+            @Param("id") Long id,
+            @Param("from") TicketStatus from,
+            @Param("to") TicketStatus to,
+            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,185 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventContentionResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Tracks optimistic-locking conflicts per event. Once an event's smoothed conflict rate crosses
+ * {@code booking.optimistic.conflict-rate-threshold}, bookings for it use the pessimistic path
+ * until {@code booking.optimistic.pessimistic-cooldown} has elapsed.
+ *
+ * <p>Retries and aborts are exported as counters across all events, so the number of meters does
+ * not grow with the number of events. Per-event retries and aborts are served by the
+ * {@code bookingcontention} actuator endpoint instead. Per-event state is dropped when the event is
+ * deleted or has seen no booking for {@code booking.optimistic.contention-idle-ttl}, which also
+ * resets its counts.
+ */
+@Component
+@Slf4j
+public class BookingContentionTracker {
+
+    private static final double SMOOTHING = 0.1;
+
+    private final BookingProperties bookingProperties;
+    private final Counter retries;
+    private final Counter aborts;
+
+    private final Cache<Long, EventContention> contention;
+
+    @Autowired
+    public BookingContentionTracker(BookingProperties bookingProperties, MeterRegistry meterRegistry) {
+        this(bookingProperties, meterRegistry, Ticker.systemTicker());
+    }
+
+    BookingContentionTracker(BookingProperties bookingProperties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.bookingProperties = bookingProperties;
+        this.contention = Caffeine.newBuilder()
+                .expireAfterAccess(bookingProperties.getOptimistic().getContentionIdleTtl())
+                .ticker(ticker)
+                .build();
+        this.retries = Counter.builder("booking.optimistic.retries")
+                .description("Optimistic booking attempts retried after a version conflict")
+                .register(meterRegistry);
+        this.aborts = Counter.builder("booking.optimistic.aborts")
+                .description("Optimistic bookings aborted after exhausting retries")
+                .register(meterRegistry);
+    }
+
+    public void recordSuccess(Long eventId) {
+        contentionFor(eventId).record(false);
+    }
+
+    public void recordConflict(Long eventId) {
+        EventContention eventContention = contentionFor(eventId);
+        eventContention.record(true);
+        eventContention.retries.increment();
+        retries.increment();
+    }
+
+    /** Records the conflict that exhausted the attempts, which counts as a sample but not a retry. */
+    public void recordAbort(Long eventId) {
+        EventContention eventContention = contentionFor(eventId);
+        eventContention.record(true);
+        eventContention.aborts.increment();
+        aborts.increment();
+    }
+
+    public boolean prefersPessimistic(Long eventId) {
+        EventContention eventContention = contention.getIfPresent(eventId);
+        if (eventContention == null) {
+            return false;
+        }
+        BookingProperties.Optimistic settings = bookingProperties.getOptimistic();
+        long now = System.currentTimeMillis();
+        long pessimisticSince = eventContention.pessimisticSince.get();
+        if (pessimisticSince != 0) {
+            if (now - pessimisticSince < settings.getPessimisticCooldown().toMillis()) {
+                return true;
+            }
+            eventContention.reset();
+            log.info("Optimistic booking cooldown elapsed, resuming optimistic mode: eventId={}", eventId);
+            return false;
+        }
+        if (exceedsThreshold(
+                eventContention.samples.sum(),
+                eventContention.conflictRate(),
+                settings.getMinSamples(),
+                settings.getConflictRateThreshold())) {
+            if (eventContention.pessimisticSince.compareAndSet(0, now)) {
+                log.info(
+                        "Conflict rate {} exceeded threshold, switching to pessimistic booking: eventId={}",
+                        eventContention.conflictRate(),
+                        eventId);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /** The event's retries, aborts and conflict rate, without counting as a booking for the idle TTL. */
+    public Optional<EventContentionResponse> contention(Long eventId) {
+        return Optional.ofNullable(contention.policy().getIfPresentQuietly(eventId))
+                .map(eventContention -> toResponse(eventId, eventContention));
+    }
+
+    /** The tracked events with the most retries and aborts, most contended first. */
+    public List<EventContentionResponse> mostContended(int limit) {
+        return contention.asMap().entrySet().stream()
+                .map(entry -> toResponse(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong((EventContentionResponse response) ->
+                                response.getRetries() + response.getAborts())
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getChangeType() == EventChangedEvent.ChangeType.DELETED) {
+            contention.invalidate(change.getEventId());
+        }
+    }
+
+    static boolean exceedsThreshold(long samples, double conflictRate, int minSamples, double threshold) {
+        return samples >= minSamples && conflictRate > threshold;
+    }
+
+    private EventContention contentionFor(Long eventId) {
+        return contention.get(eventId, id -> new EventContention());
+    }
+
+    private static EventContentionResponse toResponse(Long eventId, EventContention eventContention) {
+        return EventContentionResponse.builder()
+                .eventId(eventId)
+                .retries(eventContention.retries.sum())
+                .aborts(eventContention.aborts.sum())
+                .conflictRate(eventContention.conflictRate())
+                .pessimistic(eventContention.pessimisticSince.get() != 0)
+                .build();
+    }
+
+    private static final class EventContention {
+
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder aborts = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+        private final AtomicLong conflictRateBits = new AtomicLong(Double.doubleToLongBits(0.0));
+        private final AtomicLong pessimisticSince = new AtomicLong();
+
+        private void record(boolean conflict) {
+            samples.increment();
+            double sample = conflict ? 1.0 : 0.0;
+            long current;
+            long updated;
+            do {
+                current = conflictRateBits.get();
+                double rate = Double.longBitsToDouble(current);
+                updated = Double.doubleToLongBits(rate + SMOOTHING * (sample - rate));
+            } while (!conflictRateBits.compareAndSet(current, updated));
+        }
+
+        private double conflictRate() {
+            return Double.longBitsToDouble(conflictRateBits.get());
+        }
+
+        private void reset() {
+            samples.reset();
+            conflictRateBits.set(Double.doubleToLongBits(0.0));
+            pessimisticSince.set(0);
+        }
+    }
+}
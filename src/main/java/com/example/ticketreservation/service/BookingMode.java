@@ -0,0 +1,11 @@
+package com.example.ticketreservation.service;
+
+public enum BookingMode {
+    PESSIMISTIC,
+    LEDGER,
+    PIPELINE,
+    CONDITIONAL_UPDATE,
+    OPTIMISTIC,
+    SHARDED,
+    STAGED
+}
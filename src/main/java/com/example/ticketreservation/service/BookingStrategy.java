@@ -0,0 +1,11 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+
+public interface BookingStrategy {
+
+    BookingMode mode();
+
+    TicketResponse book(Long eventId, TicketRequest request);
+}
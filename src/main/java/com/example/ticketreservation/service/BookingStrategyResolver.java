@@ -0,0 +1,41 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookingStrategyResolver {
+
+    private final BookingProperties bookingProperties;
+    private final BookingContentionTracker contentionTracker;
+    private final SeatShardInventory seatShardInventory;
+    private final Map<BookingMode, BookingStrategy> strategies = new EnumMap<>(BookingMode.class);
+
+    public BookingStrategyResolver(
+            BookingProperties bookingProperties,
+            BookingContentionTracker contentionTracker,
+            SeatShardInventory seatShardInventory,
+            List<BookingStrategy> strategies) {
+        this.bookingProperties = bookingProperties;
+        this.contentionTracker = contentionTracker;
+        this.seatShardInventory = seatShardInventory;
+        strategies.forEach(strategy -> this.strategies.put(strategy.mode(), strategy));
+    }
+
+    public BookingStrategy resolve(Long eventId) {
+        BookingMode mode = bookingProperties.getMode();
+        if (seatShardInventory.isSharded(eventId)) {
+            mode = BookingMode.SHARDED;
+        } else if (mode == BookingMode.OPTIMISTIC && contentionTracker.prefersPessimistic(eventId)) {
+            mode = BookingMode.PESSIMISTIC;
+        }
+        BookingStrategy strategy = strategies.get(mode);
+        if (strategy == null) {
+            throw new IllegalStateException("No booking strategy registered for mode " + mode);
+        }
+        return strategy;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.ticketreservation.service;
+
+public enum BulkBookingPolicy {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
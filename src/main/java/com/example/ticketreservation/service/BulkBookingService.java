@@ -0,0 +1,197 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.BulkTicketItem;
+import com.example.ticketreservation.dto.BulkTicketRequest;
+import com.example.ticketreservation.dto.BulkTicketResponse;
+import com.example.ticketreservation.dto.BulkTicketResult;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.exception.SoldOutException;
+import com.example.ticketreservation.repository.EventRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Books many tickets across one or more events in a single transaction. Events are locked in
+ * ascending id order, so concurrent bulk orders touching the same events always acquire their locks
+ * in the same order and cannot deadlock each other. A sharded event's shard rows are locked only
+ * after its event row, the same order {@link EventService} updates and deletes take. Seats for each
+ * event are checked and decremented in memory under its lock, and all tickets are written in one
+ * JDBC batch.
+ *
+ * <p>With {@link BulkBookingPolicy#ALL_OR_NOTHING} the first rejected item rolls back the whole
+ * order; with {@link BulkBookingPolicy#BEST_EFFORT} rejected items are reported and the rest commit.
+ * Before any lock is taken each event passes the {@link SoldOutRegistry} fast path: an all-or-nothing
+ * order is rejected if an event is known to have fewer seats than the order asks of it, and a
+ * best-effort order skips the events that cannot fit even its smallest item.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkBookingService {
+
+    private final EventRepository eventRepository;
+    private final SeatShardInventory seatShardInventory;
+    private final TicketBatchWriter ticketBatchWriter;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SoldOutRegistry soldOutRegistry;
+
+    // === Public methods (orchestration with side effects) ===
+
+    public BulkTicketResponse book(BulkTicketRequest request) {
+        List<BulkTicketItem> items = request.getItems();
+        SortedMap<Long, List<Integer>> itemsByEvent = groupByEvent(items);
+        log.info(
+                "Booking bulk order: items={}, events={}, policy={}",
+                items.size(),
+                itemsByEvent.size(),
+                request.getPolicy());
+
+        BulkOrder order = new BulkOrder(items, request.getPolicy() == BulkBookingPolicy.ALL_OR_NOTHING);
+        rejectKnownSoldOut(order, itemsByEvent);
+        TicketService.simulateProcessingDelay();
+        transactionTemplate.executeWithoutResult(status -> bookInEventOrder(order, itemsByEvent));
+
+        BulkTicketResponse response = toResponse(request.getPolicy(), order);
+        log.info(
+                "Bulk order booked: booked={}, rejected={}", response.getBookedCount(), response.getRejectedCount());
+        return response;
+    }
+
+    // === Private methods with side effects ===
+
+    private void rejectKnownSoldOut(BulkOrder order, SortedMap<Long, List<Integer>> itemsByEvent) {
+        Iterator<Map.Entry<Long, List<Integer>>> events = itemsByEvent.entrySet().iterator();
+        while (events.hasNext()) {
+            Map.Entry<Long, List<Integer>> entry = events.next();
+            IntStream requestedSeats = entry.getValue().stream().mapToInt(order::requestedSeats);
+            try {
+                soldOutRegistry.check(
+                        entry.getKey(), order.atomic ? requestedSeats.sum() : requestedSeats.min().orElse(0));
+            } catch (SoldOutException e) {
+                if (order.atomic) {
+                    throw e;
+                }
+                entry.getValue().forEach(index -> order.errors[index] = e.getMessage());
+                events.remove();
+            }
+        }
+    }
+
+    private void bookInEventOrder(BulkOrder order, SortedMap<Long, List<Integer>> itemsByEvent) {
+        for (Map.Entry<Long, List<Integer>> entry : itemsByEvent.entrySet()) {
+            Long eventId = entry.getKey();
+            Optional<Event> event = eventRepository.findByIdWithLock(eventId);
+            if (event.isEmpty()) {
+                ResourceNotFoundException notFound = new ResourceNotFoundException("Event", "id", eventId);
+                if (order.atomic) {
+                    throw notFound;
+                }
+                entry.getValue().forEach(index -> order.errors[index] = notFound.getMessage());
+                continue;
+            }
+            bookEvent(order, event.get(), entry.getValue());
+        }
+        ticketBatchWriter.insertAll(Arrays.stream(order.tickets).filter(Objects::nonNull).toList());
+    }
+
+    private void bookEvent(BulkOrder order, Event event, List<Integer> indexes) {
+        boolean sharded = SeatShardInventory.hasShards(event.getSeatShards());
+        int availableSeats =
+                sharded ? seatShardInventory.lockAvailableSeats(event.getId()) : event.getAvailableSeats();
+        int bookedSeats = 0;
+        for (int index : indexes) {
+            int requestedSeats = order.requestedSeats(index);
+            if (!TicketService.hasEnoughSeats(availableSeats, requestedSeats)) {
+                if (order.atomic) {
+                    throw new InsufficientSeatsException(String.format(
+                            "Item %d: requested %d seats for event %d but only %d available",
+                            index, requestedSeats, event.getId(), availableSeats));
+                }
+                order.errors[index] = new InsufficientSeatsException(requestedSeats, availableSeats).getMessage();
+                continue;
+            }
+            availableSeats = TicketService.calculateSeatsAfterBooking(availableSeats, requestedSeats);
+            bookedSeats += requestedSeats;
+            order.tickets[index] =
+                    TicketService.toNewEntity(event, order.items.get(index).getTicket(), ticketCodeGenerator);
+        }
+        if (bookedSeats == 0) {
+            return;
+        }
+        if (sharded) {
+            seatShardInventory.reserve(event, bookedSeats);
+        } else {
+            event.setAvailableSeats(availableSeats);
+            eventRepository.save(event);
+        }
+        eventPublisher.publishEvent(new TicketsBookedEvent(event.getId(), bookedSeats));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /** Item indexes per event, keyed in ascending event id order, which is the lock order. */
+    static SortedMap<Long, List<Integer>> groupByEvent(List<BulkTicketItem> items) {
+        SortedMap<Long, List<Integer>> itemsByEvent = new TreeMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            itemsByEvent
+                    .computeIfAbsent(items.get(index).getEventId(), eventId -> new ArrayList<>())
+                    .add(index);
+        }
+        return itemsByEvent;
+    }
+
+    private static BulkTicketResponse toResponse(BulkBookingPolicy policy, BulkOrder order) {
+        List<BulkTicketResult> results = IntStream.range(0, order.items.size())
+                .mapToObj(index -> BulkTicketResult.builder()
+                        .index(index)
+                        .eventId(order.items.get(index).getEventId())
+                        .ticket(order.tickets[index] == null ? null : TicketService.toResponse(order.tickets[index]))
+                        .error(order.errors[index])
+                        .build())
+                .toList();
+        int bookedCount = (int) results.stream().filter(result -> result.getTicket() != null).count();
+        return BulkTicketResponse.builder()
+                .policy(policy)
+                .bookedCount(bookedCount)
+                .rejectedCount(results.size() - bookedCount)
+                .results(results)
+                .build();
+    }
+
+    private static final class BulkOrder {
+
+        private final List<BulkTicketItem> items;
+        private final boolean atomic;
+        private final Ticket[] tickets;
+        private final String[] errors;
+
+        private BulkOrder(List<BulkTicketItem> items, boolean atomic) {
+            this.items = items;
+            this.atomic = atomic;
+            this.tickets = new Ticket[items.size()];
+            this.errors = new String[items.size()];
+        }
+
+        private int requestedSeats(int index) {
+            return items.get(index).getTicket().getNumberOfSeats();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.ticketreservation.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Live available-seat counts of events, shared between instances and kept apart from the cached
+ * event metadata, so that a booking changes one small counter and never the cached event.
+ */
+public interface CachedSeatCounter {
+
+    /** The stored counts of the given events; events without one are left out. */
+    Map<Long, Integer> get(Collection<Long> eventIds);
+
+    /**
+     * The change version of each given event, bumped by every {@link #add} and {@link #remove}; an
+     * event that has not changed lately is at version 0.
+     */
+    Map<Long, Long> versions(Collection<Long> eventIds);
+
+    /**
+     * Stores counts loaded from the database, unless a count was stored meanwhile or the event is no
+     * longer at the version read before the load. Events without a version are not stored.
+     */
+    void putIfUnchanged(Map<Long, Integer> seats, Map<Long, Long> versions);
+
+    /**
+     * Adds {@code delta} to the stored count and returns the new count, or null when the event has
+     * no count stored or the count would drop below zero, in which case it is dropped.
+     */
+    Integer add(Long eventId, int delta);
+
+    void remove(Long eventId);
+}
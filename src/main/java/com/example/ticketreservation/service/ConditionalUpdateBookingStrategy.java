@@ -0,0 +1,64 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSeatJdbcRepository;
+import com.example.ticketreservation.repository.RemainingSeats;
+import com.example.ticketreservation.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalUpdateBookingStrategy implements BookingStrategy {
+
+    private final EventSeatJdbcRepository eventSeatJdbcRepository;
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketCodeGenerator ticketCodeGenerator;
+
+    @Override
+    public BookingMode mode() {
+        return BookingMode.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public TicketResponse book(Long eventId, TicketRequest request) {
+        TicketService.simulateProcessingDelay();
+        return transactionTemplate.execute(status -> reserveAndInsert(eventId, request));
+    }
+
+    private TicketResponse reserveAndInsert(Long eventId, TicketRequest request) {
+        int requestedSeats = request.getNumberOfSeats();
+        RemainingSeats remaining = eventSeatJdbcRepository
+                .decrementAvailableSeats(eventId, requestedSeats)
+                .orElseThrow(() -> rejection(eventId, requestedSeats));
+
+        Ticket ticket = TicketService.toNewEntity(
+                eventRepository.getReferenceById(eventId), remaining.getPrice(), request, ticketCodeGenerator);
+        Ticket savedTicket = ticketRepository.save(ticket);
+
+        log.info(
+                "Ticket created successfully: ticketId={}, ticketCode={}, remainingSeats={}",
+                savedTicket.getId(),
+                savedTicket.getTicketCode(),
+                remaining.getAvailableSeats());
+
+        return TicketService.toResponse(savedTicket, remaining.getEventName());
+    }
+
+    private RuntimeException rejection(Long eventId, int requestedSeats) {
+        return eventRepository
+                .findAvailableSeatsById(eventId)
+                .<RuntimeException>map(available -> new InsufficientSeatsException(requestedSeats, available))
+                .orElseGet(() -> new ResourceNotFoundException("Event", "id", eventId));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.TimeOrderedIds;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EventBatchWriter {
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO events (id, name, description, venue, event_date, total_seats, available_seats, "
+                    + "seat_shards, price, version, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String INSERT_SHARD_SQL =
+            "INSERT INTO event_seat_shards (event_id, shard_index, available_seats) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingProperties bookingProperties;
+
+    /**
+     * Assigns time-ordered ids and timestamps to the given entities, inserts them in one JDBC batch,
+     * and creates the seat shards of sharded events in a second batch. Must run inside the caller's
+     * transaction.
+     */
+    public void insertAll(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        TimeOrderedIds ids = TimeOrderedIds.forNode(bookingProperties.getIds().getNodeId());
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT_SQL)) {
+                for (Event event : events) {
+                    event.setId(ids.next());
+                    event.setVersion(0L);
+                    event.setCreatedAt(now);
+                    event.setUpdatedAt(now);
+                    bind(statement, event);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SHARD_SQL)) {
+                if (bindShards(statement, events)) {
+                    statement.executeBatch();
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void bind(PreparedStatement statement, Event event) throws SQLException {
+        statement.setLong(1, event.getId());
+        statement.setString(2, event.getName());
+        statement.setString(3, event.getDescription());
+        statement.setString(4, event.getVenue());
+        statement.setTimestamp(5, Timestamp.valueOf(event.getEventDate()));
+        statement.setInt(6, event.getTotalSeats());
+        statement.setInt(7, event.getAvailableSeats());
+        if (event.getSeatShards() == null) {
+            statement.setNull(8, Types.INTEGER);
+        } else {
+            statement.setInt(8, event.getSeatShards());
+        }
+        statement.setBigDecimal(9, event.getPrice());
+        statement.setTimestamp(10, Timestamp.valueOf(event.getCreatedAt()));
+        statement.setTimestamp(11, Timestamp.valueOf(event.getUpdatedAt()));
+    }
+
+    private static boolean bindShards(PreparedStatement statement, List<Event> events) throws SQLException {
+        boolean any = false;
+        for (Event event : events) {
+            if (!SeatShardInventory.hasShards(event.getSeatShards())) {
+                continue;
+            }
+            int[] split = SeatShardInventory.splitSeats(event.getTotalSeats(), event.getSeatShards());
+            for (int index = 0; index < split.length; index++) {
+                statement.setLong(1, event.getId());
+                statement.setInt(2, index);
+                statement.setInt(3, split[index]);
+                statement.addBatch();
+                any = true;
+            }
+        }
+        return any;
+    }
+}
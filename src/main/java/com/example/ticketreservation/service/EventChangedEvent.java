@@ -0,0 +1,30 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.EventResponse;
+import lombok.Value;
+
+@Value
+public class EventChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    Long eventId;
+    ChangeType changeType;
+    EventResponse event;
+
+    public static EventChangedEvent created(EventResponse event) {
+        return new EventChangedEvent(event.getId(), ChangeType.CREATED, event);
+    }
+
+    public static EventChangedEvent updated(EventResponse event) {
+        return new EventChangedEvent(event.getId(), ChangeType.UPDATED, event);
+    }
+
+    public static EventChangedEvent deleted(Long eventId) {
+        return new EventChangedEvent(eventId, ChangeType.DELETED, null);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventImportError;
+import com.example.ticketreservation.dto.EventImportResponse;
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.entity.Event;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates events from a streamed NDJSON or CSV body. Rows are parsed and validated one at a time
+ * and inserted through {@link EventBatchWriter} in batches of {@code booking.event-import.batch-size},
+ * each committed in its own transaction, so memory stays bounded by one batch however large the
+ * upload is. Rejected rows are reported by row number and do not stop the import.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventImportService {
+
+    static final List<String> CSV_REQUIRED_COLUMNS = List.of("name", "venue", "eventdate", "totalseats", "price");
+
+    private final EventBatchWriter eventBatchWriter;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventSuggestions eventSuggestions;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final BookingProperties bookingProperties;
+
+    // === Public methods (orchestration with side effects) ===
+
+    /** Imports one JSON {@link EventRequest} per line. Blank lines are skipped. */
+    public EventImportResponse importNdjson(Reader body) {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(body)) {
+            long row = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (!line.isBlank()) {
+                    run.accept(row, parseJson(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read event import", e);
+        }
+        return run.finish("ndjson");
+    }
+
+    /**
+     * Imports CSV with a header row naming the {@link EventRequest} properties, in any order and
+     * case. Row numbers count records after the header.
+     */
+    public EventImportResponse importCsv(Reader body) {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(body)) {
+            CsvRecordReader records = new CsvRecordReader(reader);
+            List<String> header = records.next();
+            if (header == null) {
+                return run.finish("csv");
+            }
+            Map<String, Integer> columns = columnIndexes(header);
+            List<String> record;
+            while ((record = records.next()) != null) {
+                run.accept(records.recordNumber() - 1, parseCsv(columns, record));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read event import", e);
+        }
+        return run.finish("csv");
+    }
+
+    // === Private methods with side effects ===
+
+    private ParsedRow parseJson(String line) {
+        try {
+            return ParsedRow.of(objectMapper.readValue(line, EventRequest.class));
+        } catch (JsonProcessingException e) {
+            return ParsedRow.error("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static Map<String, Integer> columnIndexes(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int index = 0; index < header.size(); index++) {
+            columns.put(header.get(index).strip().toLowerCase(Locale.ROOT), index);
+        }
+        List<String> missing = CSV_REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    static ParsedRow parseCsv(Map<String, Integer> columns, List<String> record) {
+        try {
+            return ParsedRow.of(EventRequest.builder()
+                    .name(field(columns, record, "name", Function.identity()))
+                    .description(field(columns, record, "description", Function.identity()))
+                    .venue(field(columns, record, "venue", Function.identity()))
+                    .eventDate(field(columns, record, "eventdate", LocalDateTime::parse))
+                    .totalSeats(field(columns, record, "totalseats", Integer::valueOf))
+                    .price(field(columns, record, "price", BigDecimal::new))
+                    .seatShards(field(columns, record, "seatshards", Integer::valueOf))
+                    .build());
+        } catch (RuntimeException e) {
+            return ParsedRow.error("Malformed CSV value: " + e.getMessage());
+        }
+    }
+
+    private static <T> T field(
+            Map<String, Integer> columns, List<String> record, String column, Function<String, T> parser) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        return parser.apply(record.get(index).strip());
+    }
+
+    static String describe(Set<ConstraintViolation<EventRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    static final class ParsedRow {
+
+        private final EventRequest request;
+        private final String error;
+
+        private ParsedRow(EventRequest request, String error) {
+            this.request = request;
+            this.error = error;
+        }
+
+        static ParsedRow of(EventRequest request) {
+            return new ParsedRow(request, null);
+        }
+
+        static ParsedRow error(String error) {
+            return new ParsedRow(null, error);
+        }
+    }
+
+    /** Accumulates one batch of accepted rows plus the error report for a single import. */
+    private final class ImportRun {
+
+        private final int batchSize = bookingProperties.getEventImport().getBatchSize();
+        private final int maxReportedErrors = bookingProperties.getEventImport().getMaxReportedErrors();
+        private final List<Event> batch = new ArrayList<>(batchSize);
+        private final List<EventImportError> errors = new ArrayList<>();
+        private final long startedAtNanos = System.nanoTime();
+        private long imported;
+        private long rejected;
+
+        private void accept(long row, ParsedRow parsed) {
+            String error = parsed.error;
+            if (error == null) {
+                Set<ConstraintViolation<EventRequest>> violations = validator.validate(parsed.request);
+                error = violations.isEmpty() ? null : describe(violations);
+            }
+            if (error != null) {
+                rejected++;
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(EventImportError.builder().row(row).message(error).build());
+                }
+                return;
+            }
+            batch.add(EventService.toNewEntity(parsed.request));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> eventBatchWriter.insertAll(batch));
+            eventSearchIndex.indexAll(batch);
+            eventSuggestions.indexAll(batch);
+            imported += batch.size();
+            batch.clear();
+        }
+
+        private EventImportResponse finish(String format) {
+            flush();
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startedAtNanos) / 1_000_000);
+            log.info(
+                    "Event import finished: format={}, imported={}, rejected={}, elapsedMillis={}, eventsPerSecond={}",
+                    format,
+                    imported,
+                    rejected,
+                    elapsedMillis,
+                    imported * 1000 / elapsedMillis);
+            return EventImportResponse.builder()
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .errorsTruncated(rejected > errors.size())
+                    .build();
+        }
+    }
+}
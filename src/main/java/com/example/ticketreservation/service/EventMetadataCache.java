@@ -0,0 +1,37 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.EventMetadata;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Event metadata, cached long-lived under {@code events}: it changes only when the event is edited,
+ * which evicts it in {@link EventService}. Seat counts are kept apart in {@link EventSeatCache}, so
+ * bookings never touch this cache.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class EventMetadataCache {
+
+    static final String CACHE_NAME = "events";
+
+    private final EventReadRepository eventReadRepository;
+
+    // === Public methods (orchestration with side effects) ===
+
+    /** Concurrent misses on an event share one database read ({@code sync}), however many requests wait on it. */
+    @Cacheable(value = CACHE_NAME, key = "#id", sync = true)
+    public EventMetadata get(Long id) {
+        log.info("Fetching event from database: id={}", id);
+        return eventReadRepository
+                .findMetadataById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
+    }
+}
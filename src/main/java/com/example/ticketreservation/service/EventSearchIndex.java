@@ -0,0 +1,203 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSearchRow;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Name and venue search over every event, served from two in-memory {@link TrigramIndex}es instead
+ * of {@code LIKE '%x%'} scans. The indexes are built from the database at startup and then kept up
+ * to date from {@link EventChangedEvent}s after each commit and from every imported batch.
+ *
+ * <p>Only this instance's writes publish changes, so the indexes are also rebuilt through a
+ * {@link RebuildableIndex} every {@code booking.search.refresh-interval}. Until then another
+ * instance's writes are missing, but callers load the returned ids from the database, so an event
+ * deleted elsewhere simply drops out of the results.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchIndex {
+
+    /** Lowest score first, then highest id, so the head of a bounded queue is the hit to drop. */
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble((Hit hit) -> hit.score)
+            .thenComparing((left, right) -> Long.compare(right.id, left.id));
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingExecutors bookingExecutors;
+    private final BookingProperties bookingProperties;
+
+    private final RebuildableIndex<Indexes> indexes = new RebuildableIndex<>("Event search index", Indexes::new);
+
+    // === Public methods (orchestration with side effects) ===
+
+    /**
+     * Ids of the best {@code limit} events whose name and venue both match, best first. A blank
+     * filter is ignored; at least one must be given.
+     */
+    public List<Long> search(String name, String venue, boolean fuzzy, int limit) {
+        boolean byName = name != null && !name.isBlank();
+        boolean byVenue = venue != null && !venue.isBlank();
+        if (!byName && !byVenue) {
+            throw new IllegalArgumentException("Search needs a name or a venue");
+        }
+        Indexes current = indexes.current();
+        if (byName && byVenue) {
+            return top(combine(current.names.search(name, fuzzy), current.venues.search(venue, fuzzy)), limit);
+        }
+        TrigramIndex.Matches matches =
+                byName ? current.names.search(name, fuzzy) : current.venues.search(venue, fuzzy);
+        return top(matches, limit);
+    }
+
+    public int size() {
+        return indexes.current().names.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        indexes.scheduleRebuilds(
+                bookingExecutors.searchRefresher(), bookingProperties.getSearch().getRefreshInterval(), this::rebuild);
+    }
+
+    /** Rebuilds the indexes from every event in the database and swaps them in. */
+    public void rebuild() {
+        long startedAtNanos = System.nanoTime();
+        Indexes rebuilt = indexes.rebuild(fresh -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<EventSearchRow> rows = eventRepository.streamSearchRows()) {
+                rows.forEach(row -> fresh.put(row.getId(), row.getName(), row.getVenue()));
+            }
+        }));
+        log.info(
+                "Event search index built: events={}, elapsedMillis={}",
+                rebuilt.names.size(),
+                (System.nanoTime() - startedAtNanos) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        switch (change.getChangeType()) {
+            case CREATED, UPDATED -> {
+                EventResponse event = change.getEvent();
+                indexes.apply(current -> current.put(event.getId(), event.getName(), event.getVenue()));
+            }
+            case DELETED -> indexes.apply(current -> current.remove(change.getEventId()));
+            default -> throw new IllegalStateException("Unexpected change type: " + change.getChangeType());
+        }
+    }
+
+    /** Indexes events inserted without {@link EventService}, such as an imported batch. */
+    public void indexAll(Collection<Event> events) {
+        List<Event> batch = List.copyOf(events);
+        indexes.apply(current -> batch.forEach(event -> current.put(event.getId(), event.getName(), event.getVenue())));
+    }
+
+    /** Drops events the caller found missing from the database, such as ones deleted elsewhere. */
+    public void forget(Collection<Long> ids) {
+        List<Long> missing = List.copyOf(ids);
+        indexes.apply(current -> missing.forEach(current::remove));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /** Events matching both filters, scored by the sum of their two scores. */
+    static Map<Long, Double> combine(TrigramIndex.Matches first, TrigramIndex.Matches second) {
+        TrigramIndex.Matches smaller = first.size() <= second.size() ? first : second;
+        TrigramIndex.Matches larger = smaller == first ? second : first;
+        Map<Long, Double> scores = new HashMap<>(Math.max(16, smaller.size() * 2));
+        for (int index = 0; index < smaller.size(); index++) {
+            scores.put(smaller.id(index), smaller.score(index));
+        }
+        Map<Long, Double> combined = new HashMap<>();
+        for (int index = 0; index < larger.size(); index++) {
+            Double score = scores.get(larger.id(index));
+            if (score != null) {
+                combined.put(larger.id(index), score + larger.score(index));
+            }
+        }
+        return combined;
+    }
+
+    /** Ids of the {@code limit} best matches, best first. */
+    public static List<Long> top(TrigramIndex.Matches matches, int limit) {
+        PriorityQueue<Hit> best = new PriorityQueue<>(WORST_FIRST);
+        for (int index = 0; index < matches.size(); index++) {
+            offer(best, new Hit(matches.id(index), matches.score(index)), limit);
+        }
+        return drain(best);
+    }
+
+    static List<Long> top(Map<Long, Double> scores, int limit) {
+        PriorityQueue<Hit> best = new PriorityQueue<>(WORST_FIRST);
+        scores.forEach((id, score) -> offer(best, new Hit(id, score), limit));
+        return drain(best);
+    }
+
+    /** Keeps the {@code limit} best hits; ties go to the lower id so results are stable. */
+    private static void offer(PriorityQueue<Hit> best, Hit hit, int limit) {
+        if (best.size() < limit) {
+            best.add(hit);
+        } else if (limit > 0 && WORST_FIRST.compare(hit, best.peek()) > 0) {
+            best.poll();
+            best.add(hit);
+        }
+    }
+
+    private static List<Long> drain(PriorityQueue<Hit> best) {
+        List<Long> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().id);
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    /** The name and venue indexes, replaced together on every rebuild. */
+    private static final class Indexes {
+
+        private final TrigramIndex names = new TrigramIndex();
+        private final TrigramIndex venues = new TrigramIndex();
+
+        private void put(Long id, String name, String venue) {
+            names.put(id, name);
+            venues.put(id, venue);
+        }
+
+        private void remove(Long id) {
+            names.remove(id);
+            venues.remove(id);
+        }
+    }
+
+    private static final class Hit {
+
+        private final long id;
+        private final double score;
+
+        private Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.repository.EventReadRepository;
+import com.example.ticketreservation.repository.EventSeatCount;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Live available-seat counts, kept apart from the cached event metadata. Counts are read from the
+ * shared {@link CachedSeatCounter} where it has them and from the database for the rest, which are
+ * then stored for {@code booking.event-cache.availability-ttl}. Without a counter, as when Redis is
+ * not configured, every read goes to the database.
+ *
+ * <p>Once bookings and cancellations have committed, with {@code booking.event-cache.write-through-seats}
+ * their seats are added to the stored count in place, so a hot event keeps its count through an
+ * on-sale. Otherwise, and for changes that carry no seat delta such as released holds and edits,
+ * the count is dropped and loaded again on the next read.
+ *
+ * <p>A load reads the counter's change versions first and only stores its count if no change
+ * reached the counter since, so a booking that commits after the load read the database never
+ * leaves the count over-reporting. The opposite race is left open: a load that already sees a
+ * committed booking but stores its count before that booking's write-through runs has the seats
+ * taken off a second time, and the count under-reports, possibly as sold out, until it expires.
+ * Closing it would take coordination before every commit; turning write-through off avoids it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventSeatCache {
+
+    private final EventReadRepository eventReadRepository;
+    private final ObjectProvider<CachedSeatCounter> seatCounter;
+    private final BookingProperties bookingProperties;
+
+    // === Public methods (orchestration with side effects) ===
+
+    /** Available seats of those of the given events that exist. */
+    public Map<Long, Integer> availableSeats(Collection<Long> eventIds) {
+        CachedSeatCounter counter = seatCounter.getIfAvailable();
+        Map<Long, Integer> seats = new HashMap<>(storedSeats(counter, eventIds));
+        List<Long> missing =
+                eventIds.stream().filter(id -> !seats.containsKey(id)).distinct().toList();
+        if (missing.isEmpty()) {
+            return seats;
+        }
+        Map<Long, Long> versions = versions(counter, missing);
+        Map<Long, Integer> loaded = toSeatsById(eventReadRepository.findSeatCountsByIds(missing));
+        seats.putAll(loaded);
+        store(counter, loaded, versions);
+        return seats;
+    }
+
+    /** For seats taken outside a transaction event: a single booking or a hold, once committed. */
+    public void seatsTaken(Long eventId, int seats) {
+        addSeats(eventId, -seats);
+    }
+
+    @TransactionalEventListener
+    public void onTicketsBooked(TicketsBookedEvent booking) {
+        addSeats(booking.getEventId(), -booking.getBookedSeats());
+    }
+
+    @TransactionalEventListener
+    public void onTicketCancelled(TicketCancelledEvent cancellation) {
+        addSeats(cancellation.getEventId(), cancellation.getReleasedSeats());
+    }
+
+    @TransactionalEventListener
+    public void onSeatAvailabilityChanged(SeatAvailabilityChangedEvent change) {
+        forget(change.getEventId());
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getChangeType() != EventChangedEvent.ChangeType.CREATED) {
+            forget(change.getEventId());
+        }
+    }
+
+    // === Private methods with side effects ===
+
+    private Map<Long, Integer> storedSeats(CachedSeatCounter counter, Collection<Long> eventIds) {
+        if (counter == null || eventIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return counter.get(eventIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read stored seat counts, loading them instead: events={}", eventIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    private Map<Long, Long> versions(CachedSeatCounter counter, List<Long> eventIds) {
+        if (counter == null) {
+            return Map.of();
+        }
+        try {
+            return counter.versions(eventIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read seat count versions, not storing loaded counts: events={}", eventIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    private void store(CachedSeatCounter counter, Map<Long, Integer> seats, Map<Long, Long> versions) {
+        if (counter == null || seats.isEmpty() || versions.isEmpty()) {
+            return;
+        }
+        try {
+            counter.putIfUnchanged(seats, versions);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store seat counts: events={}", seats.size(), e);
+        }
+    }
+
+    private void addSeats(Long eventId, int delta) {
+        CachedSeatCounter counter = seatCounter.getIfAvailable();
+        if (counter == null) {
+            return;
+        }
+        if (!bookingProperties.getEventCache().isWriteThroughSeats()) {
+            forget(eventId);
+            return;
+        }
+        try {
+            counter.add(eventId, delta);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update stored seat count, dropping it instead: eventId={}", eventId, e);
+            forget(eventId);
+        }
+    }
+
+    private void forget(Long eventId) {
+        CachedSeatCounter counter = seatCounter.getIfAvailable();
+        if (counter == null) {
+            return;
+        }
+        try {
+            counter.remove(eventId);
+            log.debug("Dropped stored seat count: eventId={}", eventId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to drop stored seat count: eventId={}", eventId, e);
+        }
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static Map<Long, Integer> toSeatsById(List<EventSeatCount> counts) {
+        Map<Long, Integer> seats = new HashMap<>(Math.max(16, counts.size() * 2));
+        counts.forEach(count -> seats.put(count.getId(), count.getAvailableSeats()));
+        return seats;
+    }
+}
@@ -1,16 +1,29 @@
 package com.example.ticketreservation.service;
 
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.CursorPage;
+import com.example.ticketreservation.dto.EventAvailabilityResponse;
+import com.example.ticketreservation.dto.EventMetadata;
 import com.example.ticketreservation.dto.EventRequest;
 import com.example.ticketreservation.dto.EventResponse;
 import com.example.ticketreservation.entity.Event;
 import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventReadRepository;
 import com.example.ticketreservation.repository.EventRepository;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,83 +33,221 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class EventService {
 
-    private static final String CACHE_NAME = "events";
+    private static final String CACHE_NAME = EventMetadataCache.CACHE_NAME;
 
     private final EventRepository eventRepository;
+    private final EventReadRepository eventReadRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventMetadataCache eventMetadataCache;
+    private final EventSeatCache eventSeatCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatShardInventory seatShardInventory;
+    private final BookingProperties bookingProperties;
 
     // === Public methods (orchestration with side effects) ===
 
-    public List<EventResponse> getAllEvents() {
-        return eventRepository.findAll().stream().map(EventService::toResponse).toList();
+    /** Events in {@code (eventDate, id)} order, one keyset page at a time. */
+    public CursorPage<EventResponse> getAllEvents(String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = KeysetCursor.limit(size, bookingProperties.getPagination());
+        return toPage(
+                eventReadRepository.findPageByEventDate(position.getAfter(), position.getAfterId(), limit),
+                limit);
     }
 
-    @Cacheable(value = CACHE_NAME, key = "#id")
+    /** The cached metadata with the live seat count, so bookings never evict the cached event. */
     public EventResponse getEventById(Long id) {
-        log.info("Fetching event from database: id={}", id);
-        Event event = findEventOrThrow(id);
-        return toResponse(event);
+        EventMetadata metadata = eventMetadataCache.get(id);
+        Integer availableSeats = eventSeatCache.availableSeats(List.of(id)).get(id);
+        if (availableSeats == null) {
+            throw new ResourceNotFoundException("Event", "id", id);
+        }
+        return toResponse(metadata, availableSeats);
     }
 
-    public List<EventResponse> getAvailableEvents() {
-        return eventRepository.findAvailableEvents(LocalDateTime.now()).stream()
-                .map(EventService::toResponse)
-                .toList();
+    public EventAvailabilityResponse getAvailability(Long id) {
+        Integer availableSeats = eventSeatCache.availableSeats(List.of(id)).get(id);
+        if (availableSeats == null) {
+            throw new ResourceNotFoundException("Event", "id", id);
+        }
+        return toAvailability(id, availableSeats);
     }
 
-    public List<EventResponse> searchEventsByName(String name) {
-        return eventRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(EventService::toResponse)
+    /** Seat counts of the given events in the order asked for, leaving out events that do not exist. */
+    public List<EventAvailabilityResponse> getAvailability(List<Long> ids) {
+        List<Long> eventIds =
+                validateAvailabilityIds(ids, bookingProperties.getEventCache().getMaxAvailabilityIds());
+        Map<Long, Integer> seats = eventSeatCache.availableSeats(eventIds);
+        return eventIds.stream()
+                .filter(seats::containsKey)
+                .map(id -> toAvailability(id, seats.get(id)))
                 .toList();
     }
 
+    public CursorPage<EventResponse> getAvailableEvents(String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = KeysetCursor.limit(size, bookingProperties.getPagination());
+        return toPage(
+                eventReadRepository.findAvailablePage(
+                        LocalDateTime.now(), position.getAfter(), position.getAfterId(), limit),
+                limit);
+    }
+
+    /**
+     * Events whose name and venue match, best match first, from the in-memory search index. A
+     * ranking has no keyset to seek past, so the cursor is an opaque offset into it. Ids the index
+     * still holds for events deleted behind its back are dropped from it and the page ranked again.
+     */
+    public CursorPage<EventResponse> searchEvents(
+            String name, String venue, boolean fuzzy, String cursor, Integer size) {
+        int offset = decodeOffset(cursor);
+        int pageSize = KeysetCursor.pageSize(size, bookingProperties.getPagination());
+        int end = (int) Math.min(Integer.MAX_VALUE - 1L, (long) offset + pageSize);
+        while (true) {
+            List<Long> ranked = eventSearchIndex.search(name, venue, fuzzy, end + 1);
+            List<Long> ids = ranked.subList(Math.min(offset, ranked.size()), Math.min(ranked.size(), end));
+            List<EventResponse> events =
+                    ids.isEmpty() ? List.of() : inRankOrder(ids, eventReadRepository.findResponsesByIds(ids));
+            if (events.size() == ids.size()) {
+                return CursorPage.<EventResponse>builder()
+                        .items(events)
+                        .nextCursor(ranked.size() > end ? encodeOffset(end) : null)
+                        .build();
+            }
+            eventSearchIndex.forget(missingIds(ids, events));
+        }
+    }
+
     @Transactional
     public EventResponse createEvent(EventRequest request) {
         Event event = toNewEntity(request);
         Event savedEvent = eventRepository.save(event);
-        return toResponse(savedEvent);
+        int shardedSeats = 0;
+        if (SeatShardInventory.hasShards(savedEvent.getSeatShards())) {
+            shardedSeats = seatShardInventory.redistribute(
+                    savedEvent.getId(), request.getTotalSeats(), savedEvent.getSeatShards());
+        }
+        EventResponse response = toResponse(savedEvent, shardedSeats);
+        eventPublisher.publishEvent(EventChangedEvent.created(response));
+        return response;
     }
 
     @Transactional
     @CacheEvict(value = CACHE_NAME, key = "#id")
     public EventResponse updateEvent(Long id, EventRequest request) {
         log.info("Updating event and evicting cache: id={}", id);
-        Event event = findEventOrThrow(id);
-        applyUpdate(event, request);
+        Event event = lockEventOrThrow(id);
+        Integer previousShards = event.getSeatShards();
+        int shardedSeats =
+                SeatShardInventory.hasShards(previousShards) ? seatShardInventory.lockAvailableSeats(id) : 0;
+        applyUpdate(event, request, event.getAvailableSeats() + shardedSeats);
+        if (SeatShardInventory.hasShards(previousShards) || SeatShardInventory.hasShards(event.getSeatShards())) {
+            shardedSeats = seatShardInventory.redistribute(
+                    id, event.getAvailableSeats(), SeatShardInventory.shardCountOf(event));
+            event.setAvailableSeats(event.getAvailableSeats() - shardedSeats);
+        }
         Event updatedEvent = eventRepository.save(event);
-        return toResponse(updatedEvent);
+        EventResponse response = toResponse(updatedEvent, shardedSeats);
+        eventPublisher.publishEvent(EventChangedEvent.updated(response));
+        return response;
     }
 
     @Transactional
     @CacheEvict(value = CACHE_NAME, key = "#id")
     public void deleteEvent(Long id) {
         log.info("Deleting event and evicting cache: id={}", id);
-        Event event = findEventOrThrow(id);
+        Event event = lockEventOrThrow(id);
+        if (SeatShardInventory.hasShards(event.getSeatShards())) {
+            seatShardInventory.deleteShards(id);
+        }
         eventRepository.delete(event);
+        eventPublisher.publishEvent(EventChangedEvent.deleted(id));
     }
 
     // === Private methods with side effects ===
 
-    private Event findEventOrThrow(Long id) {
-        return eventRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
+    /**
+     * Locks the event row before any of its seat shards, the order every booking path takes, so a
+     * write to a sharded event cannot deadlock against a booking on it.
+     */
+    private Event lockEventOrThrow(Long id) {
+        return eventRepository
+                .findByIdWithLock(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
     }
 
     // === Pure functions (no side effects, static) ===
 
-    private static Event toNewEntity(EventRequest request) {
+    private static CursorPage<EventResponse> toPage(List<EventResponse> events, Pageable limit) {
+        return KeysetCursor.toPage(events, limit, EventResponse::getEventDate, EventResponse::getId);
+    }
+
+    /** Puts loaded events back in ranking order, skipping any deleted since they were indexed. */
+    static List<EventResponse> inRankOrder(List<Long> ids, List<EventResponse> events) {
+        Map<Long, EventResponse> byId = new HashMap<>(Math.max(16, events.size() * 2));
+        events.forEach(event -> byId.put(event.getId(), event));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    static List<Long> missingIds(List<Long> ids, List<EventResponse> events) {
+        Set<Long> found = events.stream().map(EventResponse::getId).collect(Collectors.toSet());
+        return ids.stream().filter(id -> !found.contains(id)).toList();
+    }
+
+    /** The distinct ids in the order given; at least one and at most {@code maxIds}. */
+    static List<Long> validateAvailabilityIds(List<Long> ids, int maxIds) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one event id is required");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("Event ids must not be empty");
+        }
+        List<Long> eventIds = ids.stream().distinct().toList();
+        if (eventIds.size() > maxIds) {
+            throw new IllegalArgumentException(
+                    String.format("At most %d events can be asked for at once, got %d", maxIds, eventIds.size()));
+        }
+        return eventIds;
+    }
+
+    static int decodeOffset(String token) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+            if (offset < 0) {
+                throw new IllegalArgumentException("Negative offset");
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+    }
+
+    static String encodeOffset(int offset) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Integer.toString(offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Event toNewEntity(EventRequest request) {
+        boolean sharded = SeatShardInventory.hasShards(request.getSeatShards());
         return Event.builder()
                 .name(request.getName())
                 .description(request.getDescription())
                 .venue(request.getVenue())
                 .eventDate(request.getEventDate())
                 .totalSeats(request.getTotalSeats())
-                .availableSeats(request.getTotalSeats())
+                .availableSeats(sharded ? 0 : request.getTotalSeats())
+                .seatShards(request.getSeatShards())
                 .price(request.getPrice())
                 .build();
     }
 
-    private static void applyUpdate(Event event, EventRequest request) {
+    private static void applyUpdate(Event event, EventRequest request, int currentAvailableSeats) {
         int newAvailableSeats =
-                calculateNewAvailableSeats(event.getAvailableSeats(), event.getTotalSeats(), request.getTotalSeats());
+                calculateNewAvailableSeats(currentAvailableSeats, event.getTotalSeats(), request.getTotalSeats());
 
         event.setName(request.getName());
         event.setDescription(request.getDescription());
@@ -105,6 +256,9 @@ public class EventService {
         event.setTotalSeats(request.getTotalSeats());
         event.setAvailableSeats(newAvailableSeats);
         event.setPrice(request.getPrice());
+        if (request.getSeatShards() != null) {
+            event.setSeatShards(request.getSeatShards());
+        }
     }
 
     static int calculateNewAvailableSeats(int currentAvailable, int oldTotal, int newTotal) {
@@ -116,7 +270,30 @@ public class EventService {
         return newTotal - soldSeats;
     }
 
-    private static EventResponse toResponse(Event event) {
+    static EventResponse toResponse(EventMetadata metadata, int availableSeats) {
+        return EventResponse.builder()
+                .id(metadata.getId())
+                .name(metadata.getName())
+                .description(metadata.getDescription())
+                .venue(metadata.getVenue())
+                .eventDate(metadata.getEventDate())
+                .totalSeats(metadata.getTotalSeats())
+                .availableSeats(availableSeats)
+                .seatShards(metadata.getSeatShards())
+                .price(metadata.getPrice())
+                .createdAt(metadata.getCreatedAt())
+                .updatedAt(metadata.getUpdatedAt())
+                .build();
+    }
+
+    private static EventAvailabilityResponse toAvailability(Long eventId, int availableSeats) {
+        return EventAvailabilityResponse.builder()
+                .eventId(eventId)
+                .availableSeats(availableSeats)
+                .build();
+    }
+
+    private static EventResponse toResponse(Event event, int shardedSeats) {
         return EventResponse.builder()
                 .id(event.getId())
                 .name(event.getName())
@@ -124,7 +301,8 @@ public class EventService {
                 .venue(event.getVenue())
                 .eventDate(event.getEventDate())
                 .totalSeats(event.getTotalSeats())
-                .availableSeats(event.getAvailableSeats())
+                .availableSeats(event.getAvailableSeats() + shardedSeats)
+                .seatShards(SeatShardInventory.shardCountOf(event))
                 .price(event.getPrice())
                 .createdAt(event.getCreatedAt())
                 .updatedAt(event.getUpdatedAt())
@@ -0,0 +1,197 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.dto.EventSuggestionsResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.repository.EventReadRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Type-ahead completions for event names and venues, served from two {@link RadixTrie}s. A term
+ * weighs one plus the seats sold for each upcoming event carrying it, so busy events and venues come
+ * first and events that have taken place are left out.
+ *
+ * <p>Changes are applied after each commit and imported batches as they are written. Sales do not
+ * publish changes, so the whole index is also rebuilt through a {@link RebuildableIndex} every
+ * {@code booking.suggestions.refresh-interval}. The estimated heap footprint is published as the
+ * {@value #HEAP_METRIC} gauge.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventSuggestions {
+
+    static final String HEAP_METRIC = "event.suggestions.heap";
+    static final String TERMS_METRIC = "event.suggestions.terms";
+
+    /** A map entry, its Long key and the per-event record of what was added to the tries. */
+    private static final long EVENT_BYTES = 88;
+
+    private final EventReadRepository eventReadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingExecutors bookingExecutors;
+    private final BookingProperties bookingProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final RebuildableIndex<Index> index = new RebuildableIndex<>("Event suggestions", Index::new);
+
+    // === Public methods (orchestration with side effects) ===
+
+    /** The best names and venues starting with the prefix; a blank prefix suggests nothing. */
+    public EventSuggestionsResponse suggest(String prefix, Integer limit) {
+        int size = limit(limit, bookingProperties.getSuggestions());
+        if (prefix == null || prefix.isBlank()) {
+            return EventSuggestionsResponse.builder().names(List.of()).venues(List.of()).build();
+        }
+        Index current = index.current();
+        return EventSuggestionsResponse.builder()
+                .names(current.names.complete(prefix, size))
+                .venues(current.venues.complete(prefix, size))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresh();
+        Gauge.builder(HEAP_METRIC, this, EventSuggestions::estimatedBytes)
+                .baseUnit("bytes")
+                .description("Estimated heap held by the event name and venue suggestion index")
+                .register(meterRegistry);
+        Gauge.builder(TERMS_METRIC, this, suggestions -> suggestions.index.current().names.size())
+                .tag("field", "name")
+                .register(meterRegistry);
+        Gauge.builder(TERMS_METRIC, this, suggestions -> suggestions.index.current().venues.size())
+                .tag("field", "venue")
+                .register(meterRegistry);
+        index.scheduleRebuilds(
+                bookingExecutors.suggestionRefresher(),
+                bookingProperties.getSuggestions().getRefreshInterval(),
+                this::refresh);
+    }
+
+    /** Rebuilds the index from the upcoming events in the database and swaps it in. */
+    public void refresh() {
+        long startedAtNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        Index rebuilt = index.rebuild(fresh -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<EventResponse> events = eventReadRepository.streamUpcoming(now)) {
+                events.forEach(event -> fresh.put(event.getId(), event.getName(), event.getVenue(), weight(event)));
+            }
+        }));
+        log.info(
+                "Event suggestions rebuilt: names={}, venues={}, estimatedBytes={}, elapsedMillis={}",
+                rebuilt.names.size(),
+                rebuilt.venues.size(),
+                estimatedBytes(),
+                (System.nanoTime() - startedAtNanos) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        switch (change.getChangeType()) {
+            case CREATED, UPDATED -> {
+                EventResponse event = change.getEvent();
+                boolean upcoming = isUpcoming(event.getEventDate(), LocalDateTime.now());
+                long weight = weight(event);
+                index.apply(current -> {
+                    if (upcoming) {
+                        current.put(event.getId(), event.getName(), event.getVenue(), weight);
+                    } else {
+                        current.remove(event.getId());
+                    }
+                });
+            }
+            case DELETED -> index.apply(current -> current.remove(change.getEventId()));
+            default -> throw new IllegalStateException("Unexpected change type: " + change.getChangeType());
+        }
+    }
+
+    /** Adds events inserted without {@link EventService}, such as an imported batch; none are sold yet. */
+    public void indexAll(Collection<Event> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Event> upcoming =
+                events.stream().filter(event -> isUpcoming(event.getEventDate(), now)).toList();
+        index.apply(current ->
+                upcoming.forEach(event -> current.put(event.getId(), event.getName(), event.getVenue(), 1)));
+    }
+
+    /** Estimated heap held by both tries and the per-event records behind them. */
+    public long estimatedBytes() {
+        Index current = index.current();
+        return current.names.estimatedBytes()
+                + current.venues.estimatedBytes()
+                + EVENT_BYTES * current.entries.size();
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static int limit(Integer requested, BookingProperties.Suggestions settings) {
+        if (requested == null) {
+            return settings.getDefaultLimit();
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("Suggestion limit must be at least 1: " + requested);
+        }
+        return Math.min(requested, settings.getMaxLimit());
+    }
+
+    /** One for the event itself plus every seat sold. */
+    static long weight(EventResponse event) {
+        return 1L + Math.max(0, event.getTotalSeats() - event.getAvailableSeats());
+    }
+
+    private static boolean isUpcoming(LocalDateTime eventDate, LocalDateTime now) {
+        return eventDate != null && eventDate.isAfter(now);
+    }
+
+    /** Both tries and what each event added to them, so an update or delete can take it back out. */
+    private static final class Index {
+
+        private final RadixTrie names = new RadixTrie();
+        private final RadixTrie venues = new RadixTrie();
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+        private void put(Long id, String name, String venue, long weight) {
+            remove(id);
+            entries.put(id, new Entry(names.add(name, weight), venues.add(venue, weight), weight));
+        }
+
+        private void remove(Long id) {
+            Entry entry = entries.remove(id);
+            if (entry != null) {
+                names.remove(entry.name, entry.weight);
+                venues.remove(entry.venue, entry.weight);
+            }
+        }
+    }
+
+    /** Holds the tries' own display strings, so an event costs no second copy of its name or venue. */
+    private static final class Entry {
+
+        private final String name;
+        private final String venue;
+        private final long weight;
+
+        private Entry(String name, String venue, long weight) {
+            this.name = name;
+            this.venue = venue;
+            this.weight = weight;
+        }
+    }
+}
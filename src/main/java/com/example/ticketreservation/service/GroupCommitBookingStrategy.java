@@ -0,0 +1,226 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes bookings for each event through a single-writer queue. The writer drains a batch, applies
+ * all seat decrements in memory under one row lock, and commits one UPDATE on {@code events} plus a
+ * JDBC-batched insert of every accepted ticket.
+ *
+ * <p>A caller that times out and the writer race to claim its booking. If the caller wins, the
+ * writer skips the booking, so nothing is written for a request reported as failed; if the writer
+ * wins, the caller waits for the batch that is already writing it.
+ *
+ * <p>Rejections are only reported once the batch commits: the seat count they carry includes the
+ * batch's own accepted bookings, which a rollback undoes, so a rolled-back batch fails every
+ * booking it claimed with the commit error instead. A batch rolled back by a constraint violation,
+ * such as an idempotency key another instance has just used, is retried one booking at a time so
+ * that only the offending booking fails.
+ *
+ * <p>A writer is dropped as soon as it has drained its queue, so events that stop selling, are
+ * deleted or never existed do not keep one; the next booking starts a fresh writer.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupCommitBookingStrategy implements BookingStrategy {
+
+    private final EventRepository eventRepository;
+    private final TicketBatchWriter ticketBatchWriter;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingExecutors bookingExecutors;
+    private final BookingProperties bookingProperties;
+
+    private final ConcurrentMap<Long, EventWriter> writers = new ConcurrentHashMap<>();
+
+    @Override
+    public BookingMode mode() {
+        return BookingMode.PIPELINE;
+    }
+
+    @Override
+    public TicketResponse book(Long eventId, TicketRequest request) {
+        TicketService.simulateProcessingDelay();
+        PendingBooking pending = new PendingBooking(request);
+        EventWriter writer = writers.compute(eventId, (id, current) -> {
+            EventWriter target = current != null ? current : new EventWriter(id);
+            target.queue.offer(pending);
+            return target;
+        });
+        writer.scheduleDrain();
+        return await(eventId, pending);
+    }
+
+    private TicketResponse await(Long eventId, PendingBooking pending) {
+        try {
+            try {
+                return pending.result.get(
+                        bookingProperties.getPipeline().getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.claim()) {
+                    pending.result.cancel(false);
+                    throw new RuntimeException("Ticket creation timed out for eventId=" + eventId, e);
+                }
+                return pending.result.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Ticket creation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Ticket creation interrupted", e);
+        }
+    }
+
+    private void commitBatch(Long eventId, List<PendingBooking> batch) {
+        List<PendingBooking> accepted = new ArrayList<>(batch.size());
+        List<PendingBooking> rejected = new ArrayList<>();
+        try {
+            Integer remainingSeats =
+                    transactionTemplate.execute(status -> applyBatch(eventId, batch, accepted, rejected));
+            accepted.forEach(pending -> pending.result.complete(TicketService.toResponse(pending.ticket)));
+            rejected.forEach(pending -> pending.result.completeExceptionally(pending.rejection));
+            log.info(
+                    "Group commit: eventId={}, batchSize={}, accepted={}, remainingSeats={}",
+                    eventId,
+                    batch.size(),
+                    accepted.size(),
+                    remainingSeats);
+        } catch (DataIntegrityViolationException e) {
+            List<PendingBooking> claimed = batch.stream().filter(pending -> pending.writing).toList();
+            if (claimed.size() <= 1) {
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+                return;
+            }
+            log.warn(
+                    "Group commit violated a constraint, retrying one by one: eventId={}, batchSize={}",
+                    eventId,
+                    claimed.size());
+            claimed.forEach(pending -> commitBatch(eventId, List.of(pending)));
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        }
+    }
+
+    private int applyBatch(
+            Long eventId, List<PendingBooking> batch, List<PendingBooking> accepted, List<PendingBooking> rejected) {
+        Event event = eventRepository
+                .findByIdWithLock(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+
+        int availableSeats = event.getAvailableSeats();
+        List<Ticket> tickets = new ArrayList<>(batch.size());
+        for (PendingBooking pending : batch) {
+            if (!pending.writing && (pending.result.isDone() || !pending.claim())) {
+                continue;
+            }
+            pending.writing = true;
+            int requestedSeats = pending.request.getNumberOfSeats();
+            if (!TicketService.hasEnoughSeats(availableSeats, requestedSeats)) {
+                pending.rejection = new InsufficientSeatsException(requestedSeats, availableSeats);
+                rejected.add(pending);
+                continue;
+            }
+            availableSeats = TicketService.calculateSeatsAfterBooking(availableSeats, requestedSeats);
+            pending.ticket = TicketService.toNewEntity(event, pending.request, ticketCodeGenerator);
+            tickets.add(pending.ticket);
+            accepted.add(pending);
+        }
+
+        if (!tickets.isEmpty()) {
+            event.setAvailableSeats(availableSeats);
+            eventRepository.save(event);
+            ticketBatchWriter.insertAll(tickets);
+        }
+        return availableSeats;
+    }
+
+    private static final class PendingBooking {
+
+        private final TicketRequest request;
+        private final CompletableFuture<TicketResponse> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private boolean writing;
+        private Ticket ticket;
+        private InsufficientSeatsException rejection;
+
+        private PendingBooking(TicketRequest request) {
+            this.request = request;
+        }
+
+        /** Taken once, either by the writer to book it or by its caller to give up on it. */
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    private final class EventWriter {
+
+        private final Long eventId;
+        private final Queue<PendingBooking> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private EventWriter(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                bookingExecutors.pipelineWriters().execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int batchSize = bookingProperties.getPipeline().getBatchSize();
+            try {
+                List<PendingBooking> batch = new ArrayList<>(batchSize);
+                PendingBooking next;
+                while ((next = queue.poll()) != null) {
+                    batch.add(next);
+                    if (batch.size() == batchSize) {
+                        commitBatch(eventId, batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    commitBatch(eventId, batch);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // Bookings are queued inside the map's compute, so none can slip into a writer dropped here
+            writers.computeIfPresent(
+                    eventId, (id, writer) -> writer == this && !draining.get() && queue.isEmpty() ? null : writer);
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
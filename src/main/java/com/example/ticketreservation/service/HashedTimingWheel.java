@@ -0,0 +1,105 @@
+package com.example.ticketreservation.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timing wheel: {@code wheelSize} buckets of {@code tickMillis} each, with a per-entry round
+ * counter for deadlines beyond one revolution. Scheduling is O(1) and lock-free; each tick only
+ * touches one bucket, so the cost of expiry does not depend on the number of pending entries.
+ *
+ * <p>{@link #schedule} may be called from any thread. {@link #advance} must be called from a single
+ * ticker thread, which owns the buckets.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long startMillis;
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Entry<T>>[] buckets;
+    private final Queue<Entry<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long startMillis, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive: " + wheelSize);
+        }
+        int size = Integer.highestOneBit(wheelSize) == wheelSize ? wheelSize : Integer.highestOneBit(wheelSize) << 1;
+        this.startMillis = startMillis;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        incoming.offer(new Entry<>(item, deadlineMillis));
+        pending.incrementAndGet();
+    }
+
+    public long pending() {
+        return pending.get();
+    }
+
+    /** Processes every tick up to {@code nowMillis} and returns the items whose deadline has passed. */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        while (currentTick <= targetTick) {
+            transferIncoming();
+            expireBucket(buckets[(int) (currentTick & mask)], expired);
+            currentTick++;
+        }
+        pending.addAndGet(-expired.size());
+        return expired;
+    }
+
+    private void transferIncoming() {
+        Entry<T> entry;
+        while ((entry = incoming.poll()) != null) {
+            long deadlineTick = Math.max(currentTick, ceilDiv(entry.deadlineMillis - startMillis, tickMillis));
+            entry.remainingRounds = (deadlineTick - currentTick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].offer(entry);
+        }
+    }
+
+    private static <T> void expireBucket(Queue<Entry<T>> bucket, List<T> expired) {
+        for (int remaining = bucket.size(); remaining > 0; remaining--) {
+            Entry<T> entry = bucket.poll();
+            if (entry.remainingRounds <= 0) {
+                expired.add(entry.item);
+            } else {
+                entry.remainingRounds--;
+                bucket.offer(entry);
+            }
+        }
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Entry(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
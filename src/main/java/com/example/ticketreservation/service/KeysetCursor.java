@@ -0,0 +1,101 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.CursorPage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Position of a keyset page: the sort value and id of the last row already returned. List
+ * queries seek past it with {@code sort >= :after AND (sort > :after OR id > :afterId)} on a
+ * {@code (sort, id)} index, so every page costs the same however deep it is. Clients see it only as
+ * an opaque URL-safe token.
+ */
+final class KeysetCursor {
+
+    /** Before every row: no event or ticket predates the Unix epoch, and ids are positive. */
+    static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime after;
+    private final Long afterId;
+
+    KeysetCursor(LocalDateTime after, Long afterId) {
+        this.after = after;
+        this.afterId = afterId;
+    }
+
+    LocalDateTime getAfter() {
+        return after;
+    }
+
+    Long getAfterId() {
+        return afterId;
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /** Decodes a token from a previous page; a missing token means the first page. */
+    static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+    }
+
+    static String encode(LocalDateTime after, Long afterId) {
+        String raw = after.toString() + SEPARATOR + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Limit for a page of the requested size, defaulted and capped by configuration. One extra row
+     * is fetched to tell whether another page follows.
+     */
+    static Pageable limit(Integer requestedSize, BookingProperties.Pagination pagination) {
+        return PageRequest.ofSize(pageSize(requestedSize, pagination) + 1);
+    }
+
+    static int pageSize(Integer requestedSize, BookingProperties.Pagination pagination) {
+        if (requestedSize == null) {
+            return pagination.getDefaultPageSize();
+        }
+        if (requestedSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1: " + requestedSize);
+        }
+        return Math.min(requestedSize, pagination.getMaxPageSize());
+    }
+
+    /**
+     * Trims the extra row fetched by {@link #limit} and, when it was present, points the next
+     * cursor at the last row kept.
+     */
+    static <R> CursorPage<R> toPage(
+            List<R> rows, Pageable limit, Function<R, LocalDateTime> sortValue, Function<R, Long> id) {
+        int pageSize = limit.getPageSize() - 1;
+        if (rows.size() <= pageSize) {
+            return CursorPage.<R>builder().items(rows).build();
+        }
+        List<R> page = rows.subList(0, pageSize);
+        R last = page.get(pageSize - 1);
+        return CursorPage.<R>builder()
+                .items(page)
+                .nextCursor(encode(sortValue.apply(last), id.apply(last)))
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerBookingStrategy implements BookingStrategy {
+
+    private final SeatInventoryLedger seatInventoryLedger;
+    private final SoldOutRegistry soldOutRegistry;
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public BookingMode mode() {
+        return BookingMode.LEDGER;
+    }
+
+    @Override
+    public TicketResponse book(Long eventId, TicketRequest request) {
+        int remainingSeats = seatInventoryLedger.reserve(eventId, request.getNumberOfSeats());
+        try {
+            TicketService.simulateProcessingDelay();
+            TicketResponse response = transactionTemplate.execute(status -> persist(eventId, request));
+            log.info(
+                    "Ticket created successfully: ticketId={}, ticketCode={}, remainingSeats={}",
+                    response.getId(),
+                    response.getTicketCode(),
+                    remainingSeats);
+            return response;
+        } catch (InsufficientSeatsException e) {
+            log.warn("Seat ledger out of sync with database, reloading: eventId={}", eventId);
+            seatInventoryLedger.invalidate(eventId);
+            throw e;
+        } catch (RuntimeException e) {
+            seatInventoryLedger.release(eventId, request.getNumberOfSeats());
+            // Bookings the ledger rejected meanwhile counted these seats as taken
+            soldOutRegistry.invalidateLocal(eventId);
+            throw e;
+        }
+    }
+
+    private TicketResponse persist(Long eventId, TicketRequest request) {
+        int updated =
+                eventRepository.decrementAvailableSeats(eventId, request.getNumberOfSeats(), LocalDateTime.now());
+        if (updated == 0) {
+            int availableSeats = eventRepository
+                    .findAvailableSeatsById(eventId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+            throw new InsufficientSeatsException(request.getNumberOfSeats(), availableSeats);
+        }
+
+        Event event = eventRepository
+                .findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        Ticket savedTicket = ticketRepository.save(TicketService.toNewEntity(event, request, ticketCodeGenerator));
+        return TicketService.toResponse(savedTicket);
+    }
+}
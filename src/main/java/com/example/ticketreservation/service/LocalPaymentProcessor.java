@@ -0,0 +1,28 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stub used when no other {@link PaymentProcessor} bean is defined. Waits for
+ * {@code booking.staged.payment-latency} and declines {@code booking.staged.decline-rate} of the charges.
+ */
+@RequiredArgsConstructor
+public class LocalPaymentProcessor implements PaymentProcessor {
+
+    private final BookingProperties bookingProperties;
+
+    @Override
+    public boolean charge(String ticketCode, String customerEmail, BigDecimal amount) {
+        BookingProperties.Staged settings = bookingProperties.getStaged();
+        try {
+            Thread.sleep(settings.getPaymentLatency().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Payment interrupted", e);
+        }
+        return ThreadLocalRandom.current().nextDouble() >= settings.getDeclineRate();
+    }
+}
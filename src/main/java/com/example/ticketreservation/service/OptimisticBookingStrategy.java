@@ -0,0 +1,94 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticBookingStrategy implements BookingStrategy {
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingContentionTracker contentionTracker;
+    private final BookingProperties bookingProperties;
+
+    @Override
+    public BookingMode mode() {
+        return BookingMode.OPTIMISTIC;
+    }
+
+    @Override
+    public TicketResponse book(Long eventId, TicketRequest request) {
+        BookingProperties.Optimistic settings = bookingProperties.getOptimistic();
+        TicketService.simulateProcessingDelay();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                TicketResponse response = transactionTemplate.execute(status -> bookWithVersionCheck(eventId, request));
+                contentionTracker.recordSuccess(eventId);
+                return response;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= settings.getMaxAttempts()) {
+                    contentionTracker.recordAbort(eventId);
+                    log.warn("Optimistic booking aborted after {} attempts: eventId={}", attempt, eventId);
+                    throw e;
+                }
+                contentionTracker.recordConflict(eventId);
+                sleep(backoffMillis(
+                        attempt,
+                        settings.getInitialBackoff().toMillis(),
+                        settings.getMaxBackoff().toMillis(),
+                        ThreadLocalRandom.current().nextDouble()));
+            }
+        }
+    }
+
+    private TicketResponse bookWithVersionCheck(Long eventId, TicketRequest request) {
+        Event event = eventRepository
+                .findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        TicketService.validateSeatAvailability(event, request.getNumberOfSeats());
+
+        int newAvailableSeats =
+                TicketService.calculateSeatsAfterBooking(event.getAvailableSeats(), request.getNumberOfSeats());
+        event.setAvailableSeats(newAvailableSeats);
+        eventRepository.saveAndFlush(event);
+
+        Ticket savedTicket = ticketRepository.save(TicketService.toNewEntity(event, request, ticketCodeGenerator));
+        log.info(
+                "Ticket created successfully: ticketId={}, ticketCode={}, remainingSeats={}",
+                savedTicket.getId(),
+                savedTicket.getTicketCode(),
+                newAvailableSeats);
+        return TicketService.toResponse(savedTicket);
+    }
+
+    /** Full-jitter exponential backoff: a random delay in [0, min(max, initial * 2^(attempt - 1))]. */
+    static long backoffMillis(int attempt, long initialMillis, long maxMillis, double jitter) {
+        long ceiling = Math.min(maxMillis, initialMillis << Math.min(attempt - 1, 20));
+        return (long) (ceiling * jitter);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Ticket creation interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ticketreservation.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Processing and payment step of a staged booking. It runs outside of any transaction after the
+ * seats are reserved; a declined or failed charge releases them again. Implementations may be
+ * called again for the same ticket code after a restart and must treat it as the idempotency key.
+ */
+public interface PaymentProcessor {
+
+    /** Returns {@code true} when the charge was approved. */
+    boolean charge(String ticketCode, String customerEmail, BigDecimal amount);
+}
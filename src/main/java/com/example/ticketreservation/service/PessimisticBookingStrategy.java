@@ -0,0 +1,58 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PessimisticBookingStrategy implements BookingStrategy {
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketCodeGenerator ticketCodeGenerator;
+
+    @Override
+    public BookingMode mode() {
+        return BookingMode.PESSIMISTIC;
+    }
+
+    @Override
+    @Transactional
+    public TicketResponse book(Long eventId, TicketRequest request) {
+        Event event = findEventWithLockOrThrow(eventId);
+        TicketService.simulateProcessingDelay();
+        TicketService.validateSeatAvailability(event, request.getNumberOfSeats());
+
+        int newAvailableSeats =
+                TicketService.calculateSeatsAfterBooking(event.getAvailableSeats(), request.getNumberOfSeats());
+        event.setAvailableSeats(newAvailableSeats);
+        eventRepository.save(event);
+
+        Ticket ticket = TicketService.toNewEntity(event, request, ticketCodeGenerator);
+        Ticket savedTicket = ticketRepository.save(ticket);
+
+        log.info(
+                "Ticket created successfully: ticketId={}, ticketCode={}, remainingSeats={}",
+                savedTicket.getId(),
+                savedTicket.getTicketCode(),
+                event.getAvailableSeats());
+
+        return TicketService.toResponse(savedTicket);
+    }
+
+    private Event findEventWithLockOrThrow(Long eventId) {
+        return eventRepository
+                .findByIdWithLock(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.ticketreservation.service;
+
+public enum QueueTokenStatus {
+    WAITING,
+    ADMITTED,
+    SOLD_OUT
+}
@@ -0,0 +1,383 @@
+package com.example.ticketreservation.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Weighted terms in a radix trie: chains of single-child nodes are collapsed into one edge and
+ * children are kept in a sorted array. An edge label is not a string of its own but a range of the
+ * display string of a term below it, so the trie holds each term's text once plus a small node per
+ * branch. Keys are matched case-insensitively, one character at a time; each term is displayed as
+ * first added.
+ *
+ * <p>A term may be added several times, for instance once per event sharing a venue; its weight is
+ * the sum and it stays until removed as many times. Every node also records the best weight below it,
+ * so {@link #complete} walks best-first from the prefix and touches only the branches that can still
+ * place in the top {@code limit}. Reads run concurrently under a read lock; writes are serialized.
+ */
+public final class RadixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /** Heaviest first; a term before a branch of equal weight, then in the order they were queued. */
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingLong(
+                    (Candidate candidate) -> candidate.priority)
+            .reversed()
+            .thenComparing(candidate -> !candidate.term)
+            .thenComparingLong(candidate -> candidate.order);
+
+    // Shallow sizes on a 64-bit JVM with compressed references, for the footprint estimate
+    private static final int NODE_BYTES = 56;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_BYTES = 24;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("", 0, 0);
+    private int terms;
+
+    /**
+     * Adds one occurrence of the term and returns the spelling it is displayed with, so callers can
+     * hold on to that instance instead of another copy. A blank term is ignored and returns null.
+     */
+    public String add(String term, long weight) {
+        String display = term == null ? "" : term.strip();
+        if (display.isEmpty()) {
+            return null;
+        }
+        lock.writeLock().lock();
+        try {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = insert(normalize(display), display, path);
+            if (node.count++ == 0) {
+                node.display = display;
+                terms++;
+            }
+            node.weight += weight;
+            updateBest(path);
+            return node.display;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Removes one occurrence of the term added with the given weight. */
+    public void remove(String term, long weight) {
+        String key = normalize(term);
+        lock.writeLock().lock();
+        try {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = find(key, path);
+            if (node == null || node.count == 0) {
+                return;
+            }
+            node.weight -= weight;
+            if (--node.count == 0) {
+                node.display = null;
+                node.weight = 0;
+                terms--;
+                prune(path);
+            }
+            updateBest(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terms;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Up to {@code limit} terms starting with the prefix, heaviest first; ties keep insertion order. */
+    public List<String> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node start = descend(key);
+            List<String> completions = new ArrayList<>(Math.min(limit, 16));
+            if (start == null || limit < 1) {
+                return completions;
+            }
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+            long order = 0;
+            queue.add(new Candidate(start, start.best, false, order++));
+            while (!queue.isEmpty() && completions.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.term) {
+                    completions.add(candidate.node.display);
+                    continue;
+                }
+                if (candidate.node.count > 0) {
+                    queue.add(new Candidate(candidate.node, candidate.node.weight, true, order++));
+                }
+                for (Node child : candidate.node.children) {
+                    queue.add(new Candidate(child, child.best, false, order++));
+                }
+            }
+            return completions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Approximate heap held by the nodes, their child arrays and the display strings labels point into. */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                bytes += NODE_BYTES + (node.display == null ? 0 : stringBytes(node.display));
+                if (node.children.length > 0) {
+                    bytes += align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * node.children.length);
+                }
+                for (Node child : node.children) {
+                    pending.push(child);
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === Private methods with side effects ===
+
+    /**
+     * Finds or creates the node for the key, splitting an edge where the key leaves it. A new leaf's
+     * label is the rest of the display string, which lines up with the key character for character.
+     */
+    private Node insert(String key, String display, Deque<Node> path) {
+        Node node = root;
+        int at = 0;
+        path.push(node);
+        while (at < key.length()) {
+            int index = childIndex(node, key.charAt(at));
+            if (index < 0) {
+                Node leaf = new Node(display, at, display.length());
+                node.children = inserted(node.children, -index - 1, leaf);
+                path.push(leaf);
+                return leaf;
+            }
+            Node child = node.children[index];
+            int common = commonLength(child, key, at);
+            if (common < child.length()) {
+                Node split = new Node(child.source, child.start, child.start + common);
+                child.start += common;
+                split.children = new Node[] {child};
+                split.best = child.best;
+                node.children[index] = split;
+                child = split;
+            }
+            node = child;
+            at += common;
+            path.push(node);
+        }
+        return node;
+    }
+
+    /** The node for exactly the key, or null, with the path to it on top of {@code path}. */
+    private Node find(String key, Deque<Node> path) {
+        Node node = root;
+        int at = 0;
+        path.push(node);
+        while (at < key.length()) {
+            int index = childIndex(node, key.charAt(at));
+            if (index < 0) {
+                return null;
+            }
+            node = node.children[index];
+            if (commonLength(node, key, at) < node.length()) {
+                return null;
+            }
+            at += node.length();
+            path.push(node);
+        }
+        return node;
+    }
+
+    /** The node under which every key starting with the prefix lies, or null if there is none. */
+    private Node descend(String prefix) {
+        Node node = root;
+        int at = 0;
+        while (at < prefix.length()) {
+            int index = childIndex(node, prefix.charAt(at));
+            if (index < 0) {
+                return null;
+            }
+            node = node.children[index];
+            int common = commonLength(node, prefix, at);
+            if (at + common == prefix.length()) {
+                return node;
+            }
+            if (common < node.length()) {
+                return null;
+            }
+            at += common;
+        }
+        return node;
+    }
+
+    /** Drops the emptied node at the top of the path and merges what is left into single edges. */
+    private void prune(Deque<Node> path) {
+        Node node = path.pop();
+        Node parent = path.peek();
+        if (node.children.length == 1 && parent != null) {
+            absorbChild(node);
+        } else if (node.children.length == 0 && parent != null) {
+            parent.children = removed(parent.children, childIndex(parent, node.charAt(0)));
+            if (parent != root && parent.count == 0 && parent.children.length == 1) {
+                absorbChild(parent);
+            }
+        }
+        path.push(node);
+    }
+
+    /**
+     * Merges the only child into the node. The child's source spells the whole path down to it, so
+     * the merged edge is just the node's start to the child's end within that source.
+     */
+    private static void absorbChild(Node node) {
+        Node child = node.children[0];
+        node.source = child.source;
+        node.end = child.end;
+        node.children = child.children;
+        node.display = child.display;
+        node.count = child.count;
+        node.weight = child.weight;
+        node.best = child.best;
+    }
+
+    /** Recomputes the best weight of every node on the path, deepest first. */
+    private static void updateBest(Deque<Node> path) {
+        for (Node node : path) {
+            long best = node.count > 0 ? node.weight : Long.MIN_VALUE;
+            for (Node child : node.children) {
+                best = Math.max(best, child.best);
+            }
+            node.best = best;
+        }
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /** Stripped and lower-cased one character at a time, so every index matches the display string. */
+    static String normalize(String term) {
+        if (term == null) {
+            return "";
+        }
+        char[] chars = term.strip().toCharArray();
+        for (int index = 0; index < chars.length; index++) {
+            chars[index] = Character.toLowerCase(chars[index]);
+        }
+        return new String(chars);
+    }
+
+    private static int childIndex(Node node, char first) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char candidate = node.children[middle].charAt(0);
+            if (candidate < first) {
+                low = middle + 1;
+            } else if (candidate > first) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonLength(Node node, String key, int from) {
+        int limit = Math.min(node.length(), key.length() - from);
+        int common = 0;
+        while (common < limit && node.charAt(common) == key.charAt(from + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static Node[] inserted(Node[] children, int index, Node child) {
+        Node[] grown = new Node[children.length + 1];
+        System.arraycopy(children, 0, grown, 0, index);
+        grown[index] = child;
+        System.arraycopy(children, index, grown, index + 1, children.length - index);
+        return grown;
+    }
+
+    private static Node[] removed(Node[] children, int index) {
+        if (children.length == 1) {
+            return NO_CHILDREN;
+        }
+        Node[] shrunk = Arrays.copyOf(children, children.length - 1);
+        System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+        return shrunk;
+    }
+
+    /** A Latin-1 string: the String object plus its byte array. */
+    private static long stringBytes(String value) {
+        return STRING_BYTES + align(ARRAY_HEADER_BYTES + (long) value.length());
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /** Its edge label is {@code source} from {@code start} to {@code end}, lower-cased. */
+    private static final class Node {
+
+        private String source;
+        private int start;
+        private int end;
+        private Node[] children = NO_CHILDREN;
+        private String display;
+        private int count;
+        private long weight;
+        private long best = Long.MIN_VALUE;
+
+        private Node(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        private int length() {
+            return end - start;
+        }
+
+        private char charAt(int index) {
+            return Character.toLowerCase(source.charAt(start + index));
+        }
+    }
+
+    private static final class Candidate {
+
+        private final Node node;
+        private final long priority;
+        private final boolean term;
+        private final long order;
+
+        private Candidate(Node node, long priority, boolean term, long order) {
+            this.node = node;
+            this.priority = priority;
+            this.term = term;
+            this.order = order;
+        }
+    }
+}
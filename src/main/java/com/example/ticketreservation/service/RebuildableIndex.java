@@ -0,0 +1,86 @@
+package com.example.ticketreservation.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds an in-memory index that is changed in place as writes commit and rebuilt from the database
+ * on a schedule, to pick up what no local change reports. A rebuild fills a fresh index next to the
+ * live one, which keeps answering; changes applied meanwhile are recorded and replayed onto the
+ * fresh index before it is swapped in, so a rebuild never loses a change.
+ *
+ * @param <T> the index; a replayed change may find its effect already loaded, so changes must be
+ *     safe to apply twice
+ */
+@Slf4j
+final class RebuildableIndex<T> {
+
+    private final String name;
+    private final Supplier<T> empty;
+    private final Object rebuilding = new Object();
+
+    private volatile T current;
+    private List<Consumer<T>> changedDuringRebuild;
+
+    RebuildableIndex(String name, Supplier<T> empty) {
+        this.name = name;
+        this.empty = empty;
+        this.current = empty.get();
+    }
+
+    T current() {
+        return current;
+    }
+
+    /** Applies the change to the live index, and to the one being rebuilt if any. */
+    synchronized void apply(Consumer<T> change) {
+        change.accept(current);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(change);
+        }
+    }
+
+    /** Fills a fresh index with {@code load}, replays the changes applied meanwhile and swaps it in. */
+    T rebuild(Consumer<T> load) {
+        synchronized (rebuilding) {
+            T rebuilt = empty.get();
+            synchronized (this) {
+                changedDuringRebuild = new ArrayList<>();
+            }
+            try {
+                load.accept(rebuilt);
+                synchronized (this) {
+                    changedDuringRebuild.forEach(change -> change.accept(rebuilt));
+                    current = rebuilt;
+                }
+            } finally {
+                synchronized (this) {
+                    changedDuringRebuild = null;
+                }
+            }
+            return rebuilt;
+        }
+    }
+
+    /** Runs {@code rebuild} every {@code interval}; a failed run is logged and the live index kept. */
+    void scheduleRebuilds(ScheduledExecutorService scheduler, Duration interval, Runnable rebuild) {
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(
+                () -> {
+                    try {
+                        rebuild.run();
+                    } catch (RuntimeException e) {
+                        log.error("{} rebuild failed", name, e);
+                    }
+                },
+                intervalMillis,
+                intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.ticketreservation.service;
+
+/** Tells the other application instances that the seat availability of an event has changed. */
+public interface SeatAvailabilityBroadcaster {
+
+    void broadcast(Long eventId);
+}
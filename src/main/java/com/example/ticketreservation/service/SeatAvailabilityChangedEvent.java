@@ -0,0 +1,9 @@
+package com.example.ticketreservation.service;
+
+import lombok.Value;
+
+/** Published when seats return to an event outside of ticket cancellation, e.g. a released hold. */
+@Value
+public class SeatAvailabilityChangedEvent {
+    Long eventId;
+}
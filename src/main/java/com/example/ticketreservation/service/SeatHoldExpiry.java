@@ -0,0 +1,138 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.SeatHold;
+import com.example.ticketreservation.entity.SeatHoldStatus;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.PendingSeatHold;
+import com.example.ticketreservation.repository.SeatHoldRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Expires unconfirmed seat holds. Pending holds live in a {@link HashedTimingWheel} rather than as
+ * individual scheduled tasks; each tick hands the due hold ids to {@link #expireHolds} in batches,
+ * which marks them expired and returns their seats with one update per event. A batch that fails
+ * is put back on the wheel one tick later, so a lock timeout only delays its holds.
+ */
+@Component
+@Slf4j
+public class SeatHoldExpiry {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final EventRepository eventRepository;
+    private final SeatShardInventory seatShardInventory;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingExecutors bookingExecutors;
+    private final BookingProperties bookingProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedTimingWheel<Long> wheel;
+
+    public SeatHoldExpiry(
+            SeatHoldRepository seatHoldRepository,
+            EventRepository eventRepository,
+            SeatShardInventory seatShardInventory,
+            TransactionTemplate transactionTemplate,
+            BookingExecutors bookingExecutors,
+            BookingProperties bookingProperties,
+            ApplicationEventPublisher eventPublisher) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.eventRepository = eventRepository;
+        this.seatShardInventory = seatShardInventory;
+        this.transactionTemplate = transactionTemplate;
+        this.bookingExecutors = bookingExecutors;
+        this.bookingProperties = bookingProperties;
+        this.eventPublisher = eventPublisher;
+        BookingProperties.Holds holds = bookingProperties.getHolds();
+        this.wheel = new HashedTimingWheel<>(
+                System.currentTimeMillis(), holds.getTickDuration().toMillis(), holds.getWheelSize());
+    }
+
+    // === Public methods (orchestration with side effects) ===
+
+    public void schedule(Long holdId, LocalDateTime expiresAt) {
+        wheel.schedule(holdId, toEpochMillis(expiresAt));
+    }
+
+    public long pending() {
+        return wheel.pending();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<PendingSeatHold> pendingHolds = seatHoldRepository.findPendingByStatus(SeatHoldStatus.HELD);
+        pendingHolds.forEach(hold -> schedule(hold.getId(), hold.getExpiresAt()));
+        long tickMillis = bookingProperties.getHolds().getTickDuration().toMillis();
+        bookingExecutors
+                .holdExpiryTicker()
+                .scheduleAtFixedRate(
+                        () -> tick(System.currentTimeMillis()), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Seat hold expiry started: pendingHolds={}, tickMillis={}", pendingHolds.size(), tickMillis);
+    }
+
+    /** Expires the given holds that are still held and past their deadline; returns the seats released. */
+    public int expireHolds(List<Long> holdIds) {
+        Map<Long, Integer> releasedSeats = transactionTemplate.execute(status -> expireBatch(holdIds));
+        return releasedSeats.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    // === Package-private and private methods with side effects ===
+
+    void tick(long nowMillis) {
+        List<Long> expired = wheel.advance(nowMillis);
+        BookingProperties.Holds holds = bookingProperties.getHolds();
+        int batchSize = holds.getExpiryBatchSize();
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Long> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                expireHolds(batch);
+            } catch (RuntimeException e) {
+                // The wheel has already let go of these ids; without this the holds would stay held
+                long retryAtMillis = nowMillis + holds.getTickDuration().toMillis();
+                batch.forEach(holdId -> wheel.schedule(holdId, retryAtMillis));
+                log.error("Seat hold expiry batch failed, retrying next tick: holds={}", batch.size(), e);
+            }
+        }
+    }
+
+    private Map<Long, Integer> expireBatch(List<Long> holdIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> releasedSeats = new LinkedHashMap<>();
+        int expiredHolds = 0;
+        for (SeatHold hold : seatHoldRepository.findByIdInAndStatusWithLock(holdIds, SeatHoldStatus.HELD)) {
+            if (hold.getExpiresAt().isAfter(now)) {
+                schedule(hold.getId(), hold.getExpiresAt());
+                continue;
+            }
+            hold.setStatus(SeatHoldStatus.EXPIRED);
+            expiredHolds++;
+            releasedSeats.merge(hold.getEventId(), hold.getNumberOfSeats(), Integer::sum);
+        }
+        for (Event event : eventRepository.findAllById(releasedSeats.keySet())) {
+            seatShardInventory.release(event, releasedSeats.get(event.getId()));
+            eventPublisher.publishEvent(new SeatAvailabilityChangedEvent(event.getId()));
+        }
+        if (!releasedSeats.isEmpty()) {
+            log.info("Expired seat holds: holds={}, releasedSeatsByEvent={}", expiredHolds, releasedSeats);
+        }
+        return releasedSeats;
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.SeatHoldResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.SeatHold;
+import com.example.ticketreservation.entity.SeatHoldStatus;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.SeatHoldRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class SeatHoldService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final SeatShardInventory seatShardInventory;
+    private final SeatHoldExpiry seatHoldExpiry;
+    private final TransactionTemplate transactionTemplate;
+    private final EventSeatCache eventSeatCache;
+    private final BookingProperties bookingProperties;
+    private final SoldOutRegistry soldOutRegistry;
+    private final SeatInventoryLedger seatInventoryLedger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // === Public methods (orchestration with side effects) ===
+
+    public SeatHoldResponse getHoldById(Long id) {
+        return toResponse(findHoldOrThrow(id));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatHoldResponse holdSeats(Long eventId, TicketRequest request) {
+        log.info(
+                "Holding seats for eventId={}, customerEmail={}, seats={}",
+                eventId,
+                request.getCustomerEmail(),
+                request.getNumberOfSeats());
+
+        long generation = soldOutRegistry.check(eventId, request.getNumberOfSeats());
+        SeatHold hold;
+        try {
+            hold = transactionTemplate.execute(status -> reserve(eventId, request));
+        } catch (InsufficientSeatsException e) {
+            soldOutRegistry.record(eventId, generation, e.getAvailableSeats());
+            throw e;
+        }
+        eventSeatCache.seatsTaken(eventId, request.getNumberOfSeats());
+        seatInventoryLedger.invalidate(eventId);
+        seatHoldExpiry.schedule(hold.getId(), hold.getExpiresAt());
+        return toResponse(hold);
+    }
+
+    @Transactional
+    public TicketResponse confirmHold(Long id) {
+        SeatHold hold = findHoldWithLockOrThrow(id);
+        validateHeld(hold);
+        validateNotExpired(hold, LocalDateTime.now());
+
+        Event event = findEventOrThrow(hold.getEventId());
+        Ticket savedTicket =
+                ticketRepository.save(TicketService.toNewEntity(event, toTicketRequest(hold), ticketCodeGenerator));
+        hold.setStatus(SeatHoldStatus.CONFIRMED);
+        hold.setTicketId(savedTicket.getId());
+        seatHoldRepository.save(hold);
+
+        log.info("Seat hold confirmed: holdId={}, ticketId={}", id, savedTicket.getId());
+        return TicketService.toResponse(savedTicket);
+    }
+
+    @Transactional
+    public SeatHoldResponse releaseHold(Long id) {
+        SeatHold hold = findHoldWithLockOrThrow(id);
+        validateHeld(hold);
+
+        eventRepository
+                .findById(hold.getEventId())
+                .ifPresent(event -> seatShardInventory.release(event, hold.getNumberOfSeats()));
+        eventPublisher.publishEvent(new SeatAvailabilityChangedEvent(hold.getEventId()));
+
+        hold.setStatus(SeatHoldStatus.RELEASED);
+        SeatHold releasedHold = seatHoldRepository.save(hold);
+        log.info("Seat hold released: holdId={}, seats={}", id, hold.getNumberOfSeats());
+        return toResponse(releasedHold);
+    }
+
+    // === Private methods with side effects ===
+
+    private SeatHold reserve(Long eventId, TicketRequest request) {
+        Event event = findEventOrThrow(eventId);
+        seatShardInventory.reserve(event, request.getNumberOfSeats());
+        LocalDateTime expiresAt = LocalDateTime.now().plus(bookingProperties.getHolds().getTtl());
+        return seatHoldRepository.save(toNewEntity(eventId, request, expiresAt));
+    }
+
+    private SeatHold findHoldOrThrow(Long id) {
+        return seatHoldRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("SeatHold", "id", id));
+    }
+
+    private SeatHold findHoldWithLockOrThrow(Long id) {
+        return seatHoldRepository
+                .findByIdWithLock(id)
+                .orElseThrow(() -> new ResourceNotFoundException("SeatHold", "id", id));
+    }
+
+    private Event findEventOrThrow(Long eventId) {
+        return eventRepository
+                .findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static void validateHeld(SeatHold hold) {
+        if (hold.getStatus() != SeatHoldStatus.HELD) {
+            throw new IllegalStateException("Seat hold is already " + hold.getStatus().name().toLowerCase());
+        }
+    }
+
+    static void validateNotExpired(SeatHold hold, LocalDateTime now) {
+        if (!hold.getExpiresAt().isAfter(now)) {
+            throw new IllegalStateException("Seat hold has expired");
+        }
+    }
+
+    static SeatHold toNewEntity(Long eventId, TicketRequest request, LocalDateTime expiresAt) {
+        return SeatHold.builder()
+                .eventId(eventId)
+                .customerName(request.getCustomerName())
+                .customerEmail(request.getCustomerEmail())
+                .numberOfSeats(request.getNumberOfSeats())
+                .status(SeatHoldStatus.HELD)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    static TicketRequest toTicketRequest(SeatHold hold) {
+        return TicketRequest.builder()
+                .customerName(hold.getCustomerName())
+                .customerEmail(hold.getCustomerEmail())
+                .numberOfSeats(hold.getNumberOfSeats())
+                .build();
+    }
+
+    static SeatHoldResponse toResponse(SeatHold hold) {
+        return SeatHoldResponse.builder()
+                .id(hold.getId())
+                .eventId(hold.getEventId())
+                .customerName(hold.getCustomerName())
+                .customerEmail(hold.getCustomerEmail())
+                .numberOfSeats(hold.getNumberOfSeats())
+                .status(hold.getStatus())
+                .expiresAt(hold.getExpiresAt())
+                .ticketId(hold.getTicketId())
+                .createdAt(hold.getCreatedAt())
+                .updatedAt(hold.getUpdatedAt())
+                .build();
+    }
+}
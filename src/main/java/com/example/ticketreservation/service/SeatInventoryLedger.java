@@ -0,0 +1,123 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSeatCount;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory per-event seat counters used to accept or reject bookings before any database work.
+ *
+ * <p>The ledger is an admission filter, not the source of truth: the guarded decrement on
+ * {@code events.available_seats} still decides the final outcome. When the database rejects a
+ * booking the ledger accepted, the counter is dropped and reloaded on next use. Seats that move
+ * outside of ledger bookings (holds taken, released or expired, declined payments) drop the
+ * counter the same way, so it never stays below what the database would accept.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatInventoryLedger {
+
+    private final EventRepository eventRepository;
+    private final BookingProperties bookingProperties;
+
+    private final ConcurrentMap<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    public int reserve(Long eventId, int requestedSeats) {
+        AtomicInteger counter = counterFor(eventId);
+        while (true) {
+            int current = counter.get();
+            if (!TicketService.hasEnoughSeats(current, requestedSeats)) {
+                throw new InsufficientSeatsException(requestedSeats, current);
+            }
+            int remaining = TicketService.calculateSeatsAfterBooking(current, requestedSeats);
+            if (counter.compareAndSet(current, remaining)) {
+                return remaining;
+            }
+        }
+    }
+
+    public void release(Long eventId, int seats) {
+        AtomicInteger counter = counters.get(eventId);
+        if (counter != null) {
+            counter.addAndGet(seats);
+        }
+    }
+
+    public void reconcile(Long eventId, int availableSeats) {
+        AtomicInteger counter = counters.putIfAbsent(eventId, new AtomicInteger(availableSeats));
+        if (counter != null) {
+            counter.set(availableSeats);
+        }
+    }
+
+    public void invalidate(Long eventId) {
+        counters.remove(eventId);
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (bookingProperties.getMode() != BookingMode.LEDGER) {
+            return;
+        }
+        List<EventSeatCount> seatCounts = eventRepository.findAllSeatCounts();
+        seatCounts.forEach(seatCount -> reconcile(seatCount.getId(), seatCount.getAvailableSeats()));
+        log.info("Seat inventory ledger loaded: events={}", seatCounts.size());
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        if (bookingProperties.getMode() != BookingMode.LEDGER) {
+            return;
+        }
+        switch (change.getChangeType()) {
+            case CREATED, UPDATED -> reconcile(change.getEventId(), change.getEvent().getAvailableSeats());
+            case DELETED -> invalidate(change.getEventId());
+            default -> throw new IllegalStateException("Unexpected change type: " + change.getChangeType());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTicketCancelled(TicketCancelledEvent cancellation) {
+        release(cancellation.getEventId(), cancellation.getReleasedSeats());
+    }
+
+    @TransactionalEventListener
+    public void onTicketsBooked(TicketsBookedEvent booking) {
+        invalidate(booking.getEventId());
+    }
+
+    @TransactionalEventListener
+    public void onSeatAvailabilityChanged(SeatAvailabilityChangedEvent change) {
+        invalidate(change.getEventId());
+    }
+
+    private AtomicInteger counterFor(Long eventId) {
+        AtomicInteger counter = counters.get(eventId);
+        if (counter != null) {
+            return counter;
+        }
+        int availableSeats = eventRepository
+                .findAvailableSeatsById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        AtomicInteger loaded = new AtomicInteger(availableSeats);
+        AtomicInteger existing = counters.putIfAbsent(eventId, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
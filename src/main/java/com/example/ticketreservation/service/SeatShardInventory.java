@@ -0,0 +1,194 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.EventSeatShard;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSeatShardRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Splits the remaining seats of large events across rows of {@code event_seat_shards} so that
+ * concurrent bookings update different rows instead of all queueing on the {@code events} row.
+ *
+ * <p>For a sharded event {@code events.available_seats} holds no stock; the available seats are the
+ * sum of its shards. All methods that touch shard rows must run inside the caller's transaction.
+ *
+ * <p>Whether an event is sharded is cached per instance. Local event changes refresh the cache;
+ * changes made on another instance drop the entry through {@link #forgetShardCount} when their
+ * seat availability broadcast arrives, so this instance stops booking a re-sharded event against
+ * its emptied {@code events} row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatShardInventory {
+
+    private final EventSeatShardRepository shardRepository;
+    private final EventRepository eventRepository;
+
+    private final ConcurrentMap<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    // === Public methods (orchestration with side effects) ===
+
+    public boolean isSharded(Long eventId) {
+        Integer shardCount = shardCounts.get(eventId);
+        if (shardCount == null) {
+            shardCount = eventRepository.findSeatShardsById(eventId).orElse(null);
+            if (shardCount == null) {
+                return false;
+            }
+            shardCounts.putIfAbsent(eventId, shardCount);
+        }
+        return hasShards(shardCount);
+    }
+
+    /**
+     * Takes seats from a randomly chosen shard, falling back to the other shards in turn. When no
+     * single shard can cover the request, all shards are locked in index order and drained greedily.
+     */
+    public void reserve(Event event, int requestedSeats) {
+        Long eventId = event.getId();
+        if (!hasShards(event.getSeatShards())) {
+            if (eventRepository.decrementAvailableSeats(eventId, requestedSeats, LocalDateTime.now()) == 0) {
+                throw new InsufficientSeatsException(
+                        requestedSeats, eventRepository.findAvailableSeatsById(eventId).orElse(0));
+            }
+            return;
+        }
+        int shardCount = event.getSeatShards();
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (shardRepository.decrementAvailableSeats(eventId, (start + i) % shardCount, requestedSeats) == 1) {
+                return;
+            }
+        }
+        reserveAcrossShards(eventId, requestedSeats);
+    }
+
+    public void release(Event event, int seats) {
+        Long eventId = event.getId();
+        if (!hasShards(event.getSeatShards())) {
+            eventRepository.incrementAvailableSeats(eventId, seats, LocalDateTime.now());
+            return;
+        }
+        int shardIndex = ThreadLocalRandom.current().nextInt(event.getSeatShards());
+        if (shardRepository.incrementAvailableSeats(eventId, shardIndex, seats) == 0
+                && shardRepository.incrementAvailableSeats(eventId, 0, seats) == 0) {
+            throw new IllegalStateException("No seat shard found for eventId=" + eventId);
+        }
+    }
+
+    /** Locks every shard of the event and returns their combined stock. */
+    public int lockAvailableSeats(Long eventId) {
+        return shardRepository.findByEventIdForUpdate(eventId).stream()
+                .mapToInt(EventSeatShard::getAvailableSeats)
+                .sum();
+    }
+
+    /**
+     * Rewrites the shards of an event so that {@code availableSeats} is spread evenly over
+     * {@code shardCount} rows. Existing rows are updated in place, so bookings blocked on them
+     * continue against the new counts. Returns the number of seats now held by shards.
+     */
+    public int redistribute(Long eventId, int availableSeats, int shardCount) {
+        List<EventSeatShard> shards = new ArrayList<>(shardRepository.findByEventIdForUpdate(eventId));
+        if (!hasShards(shardCount)) {
+            shardRepository.deleteAll(shards);
+            log.info("Event unsharded: eventId={}, availableSeats={}", eventId, availableSeats);
+            return 0;
+        }
+        int[] split = splitSeats(availableSeats, shardCount);
+        List<EventSeatShard> removed = new ArrayList<>();
+        for (EventSeatShard shard : shards) {
+            if (shard.getShardIndex() < shardCount) {
+                shard.setAvailableSeats(split[shard.getShardIndex()]);
+                split[shard.getShardIndex()] = -1;
+            } else {
+                removed.add(shard);
+            }
+        }
+        shards.removeAll(removed);
+        for (int index = 0; index < shardCount; index++) {
+            if (split[index] >= 0) {
+                shards.add(EventSeatShard.builder()
+                        .eventId(eventId)
+                        .shardIndex(index)
+                        .availableSeats(split[index])
+                        .build());
+            }
+        }
+        shardRepository.deleteAll(removed);
+        shardRepository.saveAll(shards);
+        log.info(
+                "Event seats redistributed: eventId={}, shards={}, availableSeats={}",
+                eventId,
+                shardCount,
+                availableSeats);
+        return availableSeats;
+    }
+
+    public void deleteShards(Long eventId) {
+        shardRepository.deleteByEventId(eventId);
+    }
+
+    /** Drops the cached shard count, for an event changed on another instance; the next booking reloads it. */
+    public void forgetShardCount(Long eventId) {
+        shardCounts.remove(eventId);
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        switch (change.getChangeType()) {
+            case CREATED, UPDATED -> shardCounts.put(change.getEventId(), change.getEvent().getSeatShards());
+            case DELETED -> shardCounts.remove(change.getEventId());
+            default -> throw new IllegalStateException("Unexpected change type: " + change.getChangeType());
+        }
+    }
+
+    // === Private methods with side effects ===
+
+    private void reserveAcrossShards(Long eventId, int requestedSeats) {
+        List<EventSeatShard> shards = shardRepository.findByEventIdForUpdate(eventId);
+        int availableSeats = shards.stream().mapToInt(EventSeatShard::getAvailableSeats).sum();
+        if (!TicketService.hasEnoughSeats(availableSeats, requestedSeats)) {
+            throw new InsufficientSeatsException(requestedSeats, availableSeats);
+        }
+        int remaining = requestedSeats;
+        for (EventSeatShard shard : shards) {
+            int taken = Math.min(remaining, shard.getAvailableSeats());
+            shard.setAvailableSeats(shard.getAvailableSeats() - taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static boolean hasShards(Integer shardCount) {
+        return shardCount != null && shardCount > 1;
+    }
+
+    static int shardCountOf(Event event) {
+        return hasShards(event.getSeatShards()) ? event.getSeatShards() : 1;
+    }
+
+    static int[] splitSeats(int seats, int shardCount) {
+        int[] split = new int[shardCount];
+        for (int index = 0; index < shardCount; index++) {
+            split[index] = seats / shardCount + (index < seats % shardCount ? 1 : 0);
+        }
+        return split;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Books against the seat shards of an event. Selected automatically for events created or updated
+ * with {@code seatShards > 1}; unsharded events fall back to a guarded decrement on {@code events}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedBookingStrategy implements BookingStrategy {
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final SeatShardInventory seatShardInventory;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public BookingMode mode() {
+        return BookingMode.SHARDED;
+    }
+
+    @Override
+    public TicketResponse book(Long eventId, TicketRequest request) {
+        TicketService.simulateProcessingDelay();
+        return transactionTemplate.execute(status -> reserveAndInsert(eventId, request));
+    }
+
+    private TicketResponse reserveAndInsert(Long eventId, TicketRequest request) {
+        Event event = eventRepository
+                .findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        seatShardInventory.reserve(event, request.getNumberOfSeats());
+
+        Ticket savedTicket = ticketRepository.save(TicketService.toNewEntity(event, request, ticketCodeGenerator));
+        log.info(
+                "Ticket created successfully: ticketId={}, ticketCode={}, shards={}",
+                savedTicket.getId(),
+                savedTicket.getTicketCode(),
+                SeatShardInventory.shardCountOf(event));
+        return TicketService.toResponse(savedTicket);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.exception.SoldOutException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-process record of how many seats are known to be left per event, consulted before a booking
+ * starts a transaction. It never queries the database: the remaining count is learned from the
+ * seat count a booking was rejected with, and it only ever decreases until seats come back through
+ * a cancellation, a released or expired hold, or an event update, which drop the entry. A strategy
+ * whose rejections count seats that are not committed yet either reports them only after those
+ * seats commit (the pipeline) or drops the entry when the seats are given back (the ledger).
+ *
+ * <p>Every entry carries a generation that is bumped on invalidation. A rejection observed before
+ * an invalidation is discarded, so the recorded count is never below the real stock for longer
+ * than it takes the invalidation to run after its transaction commits. With Redis configured,
+ * invalidations are broadcast to the other instances through {@link SeatAvailabilityBroadcaster}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SoldOutRegistry {
+
+    private static final int UNKNOWN = -1;
+
+    private final ObjectProvider<SeatAvailabilityBroadcaster> broadcaster;
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // === Public methods (orchestration with side effects) ===
+
+    /**
+     * Rejects the request with {@link SoldOutException} when fewer seats than requested are known
+     * to be left. Otherwise returns the generation to pass to {@link #record}.
+     */
+    public long check(Long eventId, int requestedSeats) {
+        Entry entry = entries.get(eventId);
+        if (entry == null) {
+            return 0;
+        }
+        if (rejects(entry.remainingSeats, requestedSeats)) {
+            throw SoldOutException.INSTANCE;
+        }
+        return entry.generation;
+    }
+
+    /** Records the seats a booking was rejected with, unless the event was invalidated since {@code generation}. */
+    public void record(Long eventId, long generation, int remainingSeats) {
+        if (remainingSeats < 0) {
+            return;
+        }
+        entries.compute(eventId, (id, current) -> {
+            long currentGeneration = current == null ? 0 : current.generation;
+            if (currentGeneration != generation) {
+                return current;
+            }
+            int known = current == null ? UNKNOWN : current.remainingSeats;
+            return new Entry(generation, lowerBound(known, remainingSeats));
+        });
+    }
+
+    /** Forgets what is known about the event here and on every other instance. */
+    public void invalidate(Long eventId) {
+        invalidateLocal(eventId);
+        broadcaster.ifAvailable(target -> {
+            try {
+                target.broadcast(eventId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to broadcast seat availability change: eventId={}", eventId, e);
+            }
+        });
+    }
+
+    public void invalidateLocal(Long eventId) {
+        entries.compute(
+                eventId, (id, current) -> new Entry(current == null ? 1 : current.generation + 1, UNKNOWN));
+    }
+
+    @TransactionalEventListener
+    public void onTicketCancelled(TicketCancelledEvent cancellation) {
+        invalidate(cancellation.getEventId());
+    }
+
+    @TransactionalEventListener
+    public void onSeatAvailabilityChanged(SeatAvailabilityChangedEvent change) {
+        invalidate(change.getEventId());
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getChangeType() != EventChangedEvent.ChangeType.CREATED) {
+            invalidate(change.getEventId());
+        }
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static boolean rejects(int remainingSeats, int requestedSeats) {
+        return remainingSeats != UNKNOWN && requestedSeats > remainingSeats;
+    }
+
+    static int lowerBound(int knownSeats, int observedSeats) {
+        return knownSeats == UNKNOWN ? observedSeats : Math.min(knownSeats, observedSeats);
+    }
+
+    private static final class Entry {
+
+        private final long generation;
+        private final int remainingSeats;
+
+        private Entry(long generation, int remainingSeats) {
+            this.generation = generation;
+            this.remainingSeats = remainingSeats;
+        }
+    }
+}
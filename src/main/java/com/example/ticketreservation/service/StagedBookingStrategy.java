@@ -0,0 +1,183 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Books in three stages so that no lock or connection is held during processing. The seats are
+ * reserved and a {@code PENDING} ticket is written in one short transaction, and the caller gets that
+ * ticket back straight away. The {@link PaymentProcessor} then runs on the bounded payment workers
+ * outside of any transaction. A final short transaction confirms the ticket, or cancels it and
+ * returns its seats when the charge is declined or fails.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StagedBookingStrategy implements BookingStrategy {
+
+    private static final String STAGE_TIMER = "booking.staged.stage";
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketCodeGenerator ticketCodeGenerator;
+    private final SeatShardInventory seatShardInventory;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentProcessor paymentProcessor;
+    private final BookingExecutors bookingExecutors;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    // === Public methods (orchestration with side effects) ===
+
+    @Override
+    public BookingMode mode() {
+        return BookingMode.STAGED;
+    }
+
+    @Override
+    public TicketResponse book(Long eventId, TicketRequest request) {
+        Ticket ticket =
+                stageTimer("reserve").record(() -> transactionTemplate.execute(status -> reserve(eventId, request)));
+        submit(PendingPayment.of(ticket, eventId));
+        return TicketService.toResponse(ticket);
+    }
+
+    /** Resumes payments of tickets that were still pending when the application last stopped. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        List<Ticket> pending = ticketRepository.findByStatus(TicketStatus.PENDING);
+        pending.forEach(ticket -> submit(PendingPayment.of(ticket, ticket.getEvent().getId())));
+        if (!pending.isEmpty()) {
+            log.info("Resumed pending payments: tickets={}", pending.size());
+        }
+    }
+
+    // === Package-private and private methods with side effects ===
+
+    void process(PendingPayment payment) {
+        boolean approved = stageTimer("payment").record(() -> charge(payment));
+        if (approved) {
+            stageTimer("confirm").record(() -> confirm(payment));
+        } else {
+            stageTimer("compensate").record(() -> compensate(payment));
+        }
+    }
+
+    private Ticket reserve(Long eventId, TicketRequest request) {
+        Event event = eventRepository
+                .findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        seatShardInventory.reserve(event, request.getNumberOfSeats());
+        Ticket ticket = TicketService.toNewEntity(event, request, ticketCodeGenerator);
+        ticket.setStatus(TicketStatus.PENDING);
+        Ticket savedTicket = ticketRepository.save(ticket);
+        log.info(
+                "Seats reserved, payment pending: ticketId={}, ticketCode={}",
+                savedTicket.getId(),
+                savedTicket.getTicketCode());
+        return savedTicket;
+    }
+
+    private void submit(PendingPayment payment) {
+        bookingExecutors.paymentWorkers().execute(() -> process(payment));
+    }
+
+    private boolean charge(PendingPayment payment) {
+        try {
+            return paymentProcessor.charge(payment.ticketCode, payment.customerEmail, payment.amount);
+        } catch (RuntimeException e) {
+            log.error("Payment failed: ticketId={}", payment.ticketId, e);
+            return false;
+        }
+    }
+
+    private void confirm(PendingPayment payment) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (transition(payment, TicketStatus.CONFIRMED)) {
+                log.info("Ticket confirmed: ticketId={}", payment.ticketId);
+            }
+        });
+    }
+
+    private void compensate(PendingPayment payment) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!transition(payment, TicketStatus.CANCELLED)) {
+                return;
+            }
+            eventRepository
+                    .findById(payment.eventId)
+                    .ifPresent(event -> seatShardInventory.release(event, payment.numberOfSeats));
+            eventPublisher.publishEvent(new SeatAvailabilityChangedEvent(payment.eventId));
+            log.info(
+                    "Payment declined, seats released: ticketId={}, seats={}",
+                    payment.ticketId,
+                    payment.numberOfSeats);
+        });
+    }
+
+    /** Moves the ticket out of {@code PENDING}; returns {@code false} if another stage already did. */
+    private boolean transition(PendingPayment payment, TicketStatus to) {
+        return ticketRepository.transitionStatus(payment.ticketId, TicketStatus.PENDING, to, LocalDateTime.now()) == 1;
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Duration of each staged booking step")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    static final class PendingPayment {
+
+        private final Long ticketId;
+        private final Long eventId;
+        private final String ticketCode;
+        private final String customerEmail;
+        private final BigDecimal amount;
+        private final int numberOfSeats;
+
+        private PendingPayment(
+                Long ticketId,
+                Long eventId,
+                String ticketCode,
+                String customerEmail,
+                BigDecimal amount,
+                int numberOfSeats) {
+            this.ticketId = ticketId;
+            this.eventId = eventId;
+            this.ticketCode = ticketCode;
+            this.customerEmail = customerEmail;
+            this.amount = amount;
+            this.numberOfSeats = numberOfSeats;
+        }
+
+        private static PendingPayment of(Ticket ticket, Long eventId) {
+            return new PendingPayment(
+                    ticket.getId(),
+                    eventId,
+                    ticket.getTicketCode(),
+                    ticket.getCustomerEmail(),
+                    ticket.getTotalAmount(),
+                    ticket.getNumberOfSeats());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.entity.TimeOrderedIds;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TicketBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tickets (id, ticket_code, event_id, customer_name, customer_email, idempotency_key, "
+                    + "number_of_seats, total_amount, status, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingProperties bookingProperties;
+
+    /**
+     * Assigns time-ordered ids and timestamps to the given entities and inserts them in one JDBC
+     * batch. Must run inside the caller's transaction.
+     */
+    public void insertAll(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        TimeOrderedIds ids = TimeOrderedIds.forNode(bookingProperties.getIds().getNodeId());
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                for (Ticket ticket : tickets) {
+                    ticket.setId(ids.next());
+                    ticket.setCreatedAt(now);
+                    ticket.setUpdatedAt(now);
+                    bind(statement, ticket);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    private static void bind(PreparedStatement statement, Ticket ticket) throws SQLException {
+        statement.setLong(1, ticket.getId());
+        statement.setString(2, ticket.getTicketCode());
+        statement.setLong(3, ticket.getEvent().getId());
+        statement.setString(4, ticket.getCustomerName());
+        statement.setString(5, ticket.getCustomerEmail());
+        statement.setString(6, ticket.getIdempotencyKey());
+        statement.setInt(7, ticket.getNumberOfSeats());
+        statement.setBigDecimal(8, ticket.getTotalAmount());
+        statement.setString(9, ticket.getStatus().name());
+        statement.setTimestamp(10, Timestamp.valueOf(ticket.getCreatedAt()));
+        statement.setTimestamp(11, Timestamp.valueOf(ticket.getUpdatedAt()));
+    }
+}
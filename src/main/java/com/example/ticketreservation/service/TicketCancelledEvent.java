@@ -0,0 +1,10 @@
+package com.example.ticketreservation.service;
+
+import lombok.Value;
+
+@Value
+public class TicketCancelledEvent {
+    Long eventId;
+    Long ticketId;
+    int releasedSeats;
+}
@@ -0,0 +1,179 @@
+package com.example.ticketreservation.service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free generator of ticket codes such as {@code TKT-ZQTS-K25C-YA9YS}: twelve Crockford base32
+ * characters plus a Luhn mod 32 check character that catches any single mistyped character and
+ * most adjacent transpositions.
+ *
+ * <p>A code encodes a 60-bit value made of the node id, a stripe and a per-stripe counter, so codes
+ * are unique by construction across nodes and never rely on the {@code ticket_code} unique
+ * constraint. Each counter starts from the wall clock (2048 ticks per millisecond) and is advanced
+ * with a single CAS, so threads never block and, hashed over 16 padded stripes, rarely contend. A
+ * burst faster than the clock only runs the counter ahead, and a restarted node resumes above
+ * anything it issued as long as it was not more than its downtime ahead. The value is scrambled by
+ * a four-round Feistel permutation so consecutive codes look unrelated; this hides ordering but is
+ * not a secret.
+ *
+ * <p>Codes are unique only while each node id has a single generator, so the application uses the
+ * one bean built from {@code booking.ids.node-id}.
+ */
+public final class TicketCodeGenerator {
+
+    static final String PREFIX = "TKT-";
+    static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    static final int CODE_LENGTH = PREFIX.length() + 15;
+    static final int NODE_BITS = 5;
+    static final int STRIPE_BITS = 4;
+    static final int TICKS_PER_MILLI_BITS = 11;
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final int VALUE_BITS = 60;
+    private static final int HALF_BITS = VALUE_BITS / 2;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int SYMBOLS = 12;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    // One counter per 64-byte cache line so neighbouring stripes do not falsely share
+    private static final int STRIPE_SPACING = 8;
+    private static final long[] ROUND_KEYS = {
+        0x2545F4914F6CDD1DL, 0x9E3779B97F4A7C15L, 0xBF58476D1CE4E5B9L, 0x94D049BB133111EBL
+    };
+    private static final int[] SYMBOL_VALUES = symbolValues();
+    private static final LongBinaryOperator ADVANCE = (previous, floor) -> Math.max(previous + 1, floor);
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private final AtomicLongArray counters = new AtomicLongArray(STRIPES * STRIPE_SPACING);
+
+    public TicketCodeGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TicketCodeGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public String next() {
+        int stripe = stripeOf(Thread.currentThread());
+        long floor = (clock.getAsLong() - EPOCH_MILLIS) << TICKS_PER_MILLI_BITS;
+        long counter = counters.accumulateAndGet(stripe * STRIPE_SPACING, floor, ADVANCE);
+        return format(permute(compose(counter, nodeId, stripe)));
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    /**
+     * True when the code has the shape of a generated code but its check character does not match,
+     * i.e. it was mistyped and cannot exist. Codes of any other shape are not judged.
+     */
+    public static boolean isMistyped(String code) {
+        if (code == null || code.length() != CODE_LENGTH || !code.startsWith(PREFIX)) {
+            return false;
+        }
+        int factor = 1;
+        int sum = 0;
+        for (int position = code.length() - 1; position >= PREFIX.length(); position--) {
+            char symbol = code.charAt(position);
+            if (symbol == '-') {
+                continue;
+            }
+            int value = symbol < SYMBOL_VALUES.length ? SYMBOL_VALUES[symbol] : -1;
+            if (value < 0) {
+                return false;
+            }
+            sum += luhnAddend(value, factor);
+            factor = 3 - factor;
+        }
+        return sum % ALPHABET.length() != 0;
+    }
+
+    static long compose(long counter, int nodeId, int stripe) {
+        return (counter << (NODE_BITS + STRIPE_BITS)) | ((long) nodeId << STRIPE_BITS) | stripe;
+    }
+
+    static int stripeOf(Thread thread) {
+        int hash = System.identityHashCode(thread);
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    static long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long key : ROUND_KEYS) {
+            long mixed = left ^ round(right, key);
+            left = right;
+            right = mixed;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    static long unpermute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int index = ROUND_KEYS.length - 1; index >= 0; index--) {
+            long mixed = right ^ round(left, ROUND_KEYS[index]);
+            right = left;
+            left = mixed;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    /** {@code TKT-} plus three groups of base32 symbols, the last ending with the check character. */
+    static String format(long value) {
+        int[] digits = new int[SYMBOLS];
+        for (int index = SYMBOLS - 1; index >= 0; index--) {
+            digits[index] = (int) (value & (ALPHABET.length() - 1));
+            value >>>= 5;
+        }
+        char[] code = new char[CODE_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), code, 0);
+        int position = PREFIX.length();
+        for (int index = 0; index < SYMBOLS; index++) {
+            if (index == 4 || index == 8) {
+                code[position++] = '-';
+            }
+            code[position++] = ALPHABET.charAt(digits[index]);
+        }
+        code[position] = ALPHABET.charAt(checkDigit(digits));
+        return new String(code);
+    }
+
+    static int checkDigit(int[] digits) {
+        int factor = 2;
+        int sum = 0;
+        for (int index = digits.length - 1; index >= 0; index--) {
+            sum += luhnAddend(digits[index], factor);
+            factor = 3 - factor;
+        }
+        int base = ALPHABET.length();
+        return (base - sum % base) % base;
+    }
+
+    private static int luhnAddend(int value, int factor) {
+        int addend = value * factor;
+        return addend / ALPHABET.length() + addend % ALPHABET.length();
+    }
+
+    private static long round(long half, long key) {
+        long mixed = (half ^ key) * 0xD6E8FEB86659FD93L;
+        return (mixed ^ (mixed >>> 32)) & HALF_MASK;
+    }
+
+    private static int[] symbolValues() {
+        int[] values = new int['Z' + 1];
+        Arrays.fill(values, -1);
+        for (int index = 0; index < ALPHABET.length(); index++) {
+            values[ALPHABET.charAt(index)] = index;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.ticketreservation.service;
+
+import java.util.Locale;
+
+public enum TicketExportFormat {
+    NDJSON,
+    CSV;
+
+    /** Parses the {@code format} request parameter, case-insensitively. */
+    public static TicketExportFormat fromParameter(String value) {
+        for (TicketExportFormat format : values()) {
+            if (format.name().equals(value.strip().toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value + " (expected ndjson or csv)");
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketReadRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes every ticket of an event to an output stream as NDJSON or CSV, straight from a
+ * forward-only database cursor over projected rows. Nothing is kept in the persistence context and
+ * output is flushed after each fetch of {@link #FLUSH_INTERVAL} rows, so heap use stays constant
+ * however many tickets the event has.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class TicketExportService {
+
+    /** Same as the fetch size of {@link TicketReadRepository#streamByEventId}. */
+    static final int FLUSH_INTERVAL = 1000;
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "id",
+            "ticketCode",
+            "eventId",
+            "eventName",
+            "customerName",
+            "customerEmail",
+            "numberOfSeats",
+            "totalAmount",
+            "status",
+            "createdAt",
+            "updatedAt");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EventRepository eventRepository;
+    private final TicketReadRepository ticketReadRepository;
+    private final ObjectMapper objectMapper;
+
+    // === Public methods (orchestration with side effects) ===
+
+    /** Resolves the event before the response is committed, so an unknown id still answers 404. */
+    public void requireEvent(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+    }
+
+    /** Streams the event's tickets in booking order and returns how many were written. */
+    public long exportTickets(Long eventId, TicketExportFormat format, OutputStream out) {
+        long startedAtNanos = System.nanoTime();
+        long exported = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (Stream<TicketResponse> tickets = ticketReadRepository.streamByEventId(eventId);
+                writer) {
+            RowWriter rows = format == TicketExportFormat.CSV ? csvRows(writer) : ndjsonRows(writer);
+            Iterator<TicketResponse> iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                rows.write(iterator.next());
+                if (++exported % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write ticket export for event " + eventId, e);
+        }
+        log.info(
+                "Ticket export finished: eventId={}, format={}, tickets={}, elapsedMillis={}",
+                eventId,
+                format,
+                exported,
+                (System.nanoTime() - startedAtNanos) / 1_000_000);
+        return exported;
+    }
+
+    // === Private methods with side effects ===
+
+    private RowWriter ndjsonRows(Writer writer) {
+        ObjectWriter json = objectMapper
+                .writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return ticket -> {
+            json.writeValue(writer, ticket);
+            writer.write('\n');
+        };
+    }
+
+    private static RowWriter csvRows(Writer writer) throws IOException {
+        writer.write(String.join(",", CSV_COLUMNS));
+        writer.write("\r\n");
+        return ticket -> {
+            writer.write(toCsvRecord(ticket));
+            writer.write("\r\n");
+        };
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static String toCsvRecord(TicketResponse ticket) {
+        return String.join(
+                ",",
+                String.valueOf(ticket.getId()),
+                csvField(ticket.getTicketCode()),
+                String.valueOf(ticket.getEventId()),
+                csvField(ticket.getEventName()),
+                csvField(ticket.getCustomerName()),
+                csvField(ticket.getCustomerEmail()),
+                String.valueOf(ticket.getNumberOfSeats()),
+                ticket.getTotalAmount().toPlainString(),
+                ticket.getStatus().name(),
+                Objects.toString(ticket.getCreatedAt(), ""),
+                Objects.toString(ticket.getUpdatedAt(), ""));
+    }
+
+    /** Quotes a field as RFC 4180 requires when it holds a comma, quote or line break. */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+
+        void write(TicketResponse ticket) throws IOException;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.repository.TicketRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the ticket created for each {@code Idempotency-Key}. Responses are kept in a bounded
+ * Caffeine cache that expires entries after {@code booking.idempotency.ttl}; a miss falls back to
+ * the unique {@code tickets.idempotency_key} column, so keys survive eviction, restarts and
+ * requests served by another instance. Concurrent requests with the same key on this instance
+ * share one booking, and a failed booking is not remembered.
+ */
+@Component
+@Slf4j
+public class TicketIdempotencyStore {
+
+    private final TicketRepository ticketRepository;
+    private final AsyncCache<String, TicketResponse> responses;
+
+    public TicketIdempotencyStore(TicketRepository ticketRepository, BookingProperties bookingProperties) {
+        this.ticketRepository = ticketRepository;
+        BookingProperties.Idempotency settings = bookingProperties.getIdempotency();
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxEntries())
+                .expireAfterWrite(settings.getTtl())
+                .buildAsync();
+    }
+
+    // === Public methods (orchestration with side effects) ===
+
+    /** Returns the response stored for the key, or runs {@code booking} once and stores its response. */
+    public TicketResponse execute(String idempotencyKey, Supplier<TicketResponse> booking) {
+        CompletableFuture<TicketResponse> promise = new CompletableFuture<>();
+        CompletableFuture<TicketResponse> existing = responses.asMap().putIfAbsent(idempotencyKey, promise);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            TicketResponse response = findStored(idempotencyKey).orElseGet(() -> book(idempotencyKey, booking));
+            promise.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            promise.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * The response stored for the key, without booking. Waits for a booking with the key still
+     * running here, and reports nothing if that booking fails.
+     */
+    public Optional<TicketResponse> find(String idempotencyKey) {
+        CompletableFuture<TicketResponse> existing = responses.getIfPresent(idempotencyKey);
+        if (existing == null) {
+            return findStored(idempotencyKey);
+        }
+        try {
+            return Optional.of(await(existing));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // === Private methods with side effects ===
+
+    private TicketResponse book(String idempotencyKey, Supplier<TicketResponse> booking) {
+        try {
+            return booking.get();
+        } catch (DataIntegrityViolationException e) {
+            // Another instance inserted a ticket with the same key first
+            log.info("Concurrent request with the same idempotency key: key={}", idempotencyKey);
+            return findStored(idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<TicketResponse> findStored(String idempotencyKey) {
+        return ticketRepository.findByIdempotencyKey(idempotencyKey).map(TicketService::toResponse);
+    }
+
+    private static TicketResponse await(CompletableFuture<TicketResponse> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,23 +1,27 @@
 package com.example.ticketreservation.service;
 
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.CursorPage;
 import com.example.ticketreservation.dto.TicketRequest;
 import com.example.ticketreservation.dto.TicketResponse;
 import com.example.ticketreservation.entity.Event;
 import com.example.ticketreservation.entity.Ticket;
 import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.exception.IdempotencyKeyReuseException;
 import com.example.ticketreservation.exception.InsufficientSeatsException;
 import com.example.ticketreservation.exception.ResourceNotFoundException;
 import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketReadRepository;
 import com.example.ticketreservation.repository.TicketRepository;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -26,46 +30,62 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class TicketService {
 
-    private static final String EVENTS_CACHE = "events";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
     private final EventRepository eventRepository;
     private final TicketRepository ticketRepository;
-    private final CacheManager cacheManager;
+    private final TicketReadRepository ticketReadRepository;
+    private final BookingStrategyResolver bookingStrategyResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatShardInventory seatShardInventory;
+    private final SoldOutRegistry soldOutRegistry;
+    private final TicketIdempotencyStore idempotencyStore;
+    private final BookingProperties bookingProperties;
+    private final EventSeatCache eventSeatCache;
 
     // === Public methods (orchestration with side effects) ===
 
-    public List<TicketResponse> getAllTickets() {
-        return ticketRepository.findAll().stream()
-                .map(TicketService::toResponse)
-                .toList();
+    /** Tickets in {@code (createdAt, id)} order, one keyset page at a time. */
+    public CursorPage<TicketResponse> getAllTickets(String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = KeysetCursor.limit(size, bookingProperties.getPagination());
+        return toPage(
+                ticketReadRepository.findPageByCreatedAt(position.getAfter(), position.getAfterId(), limit),
+                limit);
     }
 
     public TicketResponse getTicketById(Long id) {
-        Ticket ticket = findTicketOrThrow(id);
-        return toResponse(ticket);
+        return ticketReadRepository
+                .findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket", "id", id));
     }
 
     public TicketResponse getTicketByCode(String code) {
-        Ticket ticket = ticketRepository
-                .findByTicketCode(code)
+        if (TicketCodeGenerator.isMistyped(code)) {
+            throw new ResourceNotFoundException("Ticket", "code", code);
+        }
+        return ticketReadRepository
+                .findResponseByTicketCode(code)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket", "code", code));
-        return toResponse(ticket);
     }
 
-    public List<TicketResponse> getTicketsByEmail(String email) {
-        return ticketRepository.findByCustomerEmail(email).stream()
-                .map(TicketService::toResponse)
-                .toList();
+    public CursorPage<TicketResponse> getTicketsByEmail(String email, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = KeysetCursor.limit(size, bookingProperties.getPagination());
+        return toPage(
+                ticketReadRepository.findPageByCustomerEmail(email, position.getAfter(), position.getAfterId(), limit),
+                limit);
     }
 
-    public List<TicketResponse> getTicketsByEventId(Long eventId) {
-        return ticketRepository.findByEventId(eventId).stream()
-                .map(TicketService::toResponse)
-                .toList();
+    public CursorPage<TicketResponse> getTicketsByEventId(Long eventId, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = KeysetCursor.limit(size, bookingProperties.getPagination());
+        return toPage(
+                ticketReadRepository.findPageByEventId(eventId, position.getAfter(), position.getAfterId(), limit),
+                limit);
     }
 
-    @Transactional
-    @CacheEvict(value = "events", key = "#eventId")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TicketResponse createTicket(Long eventId, TicketRequest request) {
         log.info(
                 "Creating ticket for eventId={}, customerEmail={}, seats={}",
@@ -73,56 +93,74 @@ public class TicketService {
                 request.getCustomerEmail(),
                 request.getNumberOfSeats());
 
-        Event event = findEventWithLockOrThrow(eventId);
-        simulateProcessingDelay();
-        validateSeatAvailability(event, request.getNumberOfSeats());
-
-        int newAvailableSeats = calculateSeatsAfterBooking(event.getAvailableSeats(), request.getNumberOfSeats());
-        event.setAvailableSeats(newAvailableSeats);
-        eventRepository.save(event);
-
-        Ticket ticket = toNewEntity(event, request);
-        Ticket savedTicket = ticketRepository.save(ticket);
-
-        log.info(
-                "Ticket created successfully: ticketId={}, ticketCode={}, remainingSeats={}",
-                savedTicket.getId(),
-                savedTicket.getTicketCode(),
-                event.getAvailableSeats());
+        String idempotencyKey = request.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return book(eventId, request);
+        }
+        validateIdempotencyKey(idempotencyKey);
+        TicketResponse response = idempotencyStore.execute(idempotencyKey, () -> book(eventId, request));
+        validateSameRequest(idempotencyKey, response, eventId, request);
+        return response;
+    }
 
-        return toResponse(savedTicket);
+    /**
+     * The ticket already created for the request's {@code Idempotency-Key}, if any, so that a
+     * replayed request can be answered without passing the waiting room again.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<TicketResponse> findReplayedTicket(Long eventId, TicketRequest request) {
+        String idempotencyKey = request.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        validateIdempotencyKey(idempotencyKey);
+        Optional<TicketResponse> response = idempotencyStore.find(idempotencyKey);
+        response.ifPresent(replayed -> validateSameRequest(idempotencyKey, replayed, eventId, request));
+        return response;
     }
 
     @Transactional
     public TicketResponse cancelTicket(Long id) {
         Ticket ticket = findTicketOrThrow(id);
         validateNotAlreadyCancelled(ticket);
+        validateNotPending(ticket);
 
         Event event = ticket.getEvent();
-        int newAvailableSeats = calculateSeatsAfterCancellation(event.getAvailableSeats(), ticket.getNumberOfSeats());
-        event.setAvailableSeats(newAvailableSeats);
-        eventRepository.save(event);
-
-        evictEventCache(event.getId());
+        if (SeatShardInventory.hasShards(event.getSeatShards())) {
+            seatShardInventory.release(event, ticket.getNumberOfSeats());
+        } else {
+            int newAvailableSeats =
+                    calculateSeatsAfterCancellation(event.getAvailableSeats(), ticket.getNumberOfSeats());
+            event.setAvailableSeats(newAvailableSeats);
+            eventRepository.save(event);
+        }
 
         ticket.setStatus(TicketStatus.CANCELLED);
         Ticket cancelledTicket = ticketRepository.save(ticket);
+        eventPublisher.publishEvent(
+                new TicketCancelledEvent(event.getId(), cancelledTicket.getId(), cancelledTicket.getNumberOfSeats()));
         return toResponse(cancelledTicket);
     }
 
-    // === Private methods with side effects ===
+    // === Package-private and private methods with side effects ===
 
-    private Ticket findTicketOrThrow(Long id) {
-        return ticketRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Ticket", "id", id));
+    private TicketResponse book(Long eventId, TicketRequest request) {
+        long generation = soldOutRegistry.check(eventId, request.getNumberOfSeats());
+        try {
+            TicketResponse response = bookingStrategyResolver.resolve(eventId).book(eventId, request);
+            eventSeatCache.seatsTaken(eventId, request.getNumberOfSeats());
+            return response;
+        } catch (InsufficientSeatsException e) {
+            soldOutRegistry.record(eventId, generation, e.getAvailableSeats());
+            throw e;
+        }
     }
 
-    private Event findEventWithLockOrThrow(Long eventId) {
-        return eventRepository
-                .findByIdWithLock(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+    private Ticket findTicketOrThrow(Long id) {
+        return ticketRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Ticket", "id", id));
     }
 
-    private void simulateProcessingDelay() {
+    static void simulateProcessingDelay() {
         try {
             Thread.sleep(50);
         } catch (InterruptedException e) {
@@ -131,13 +169,6 @@ public class TicketService {
         }
     }
 
-    private void evictEventCache(Long eventId) {
-        Optional.ofNullable(cacheManager.getCache(EVENTS_CACHE)).ifPresent(cache -> {
-            cache.evict(eventId);
-            log.info("Evicted event cache: eventId={}", eventId);
-        });
-    }
-
     // === Pure functions (no side effects, static) ===
 
     static void validateSeatAvailability(Event event, int requestedSeats) {
@@ -156,6 +187,28 @@ public class TicketService {
         }
     }
 
+    static void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+    }
+
+    static void validateSameRequest(
+            String idempotencyKey, TicketResponse response, Long eventId, TicketRequest request) {
+        if (!response.getEventId().equals(eventId)
+                || !response.getCustomerEmail().equals(request.getCustomerEmail())
+                || !response.getNumberOfSeats().equals(request.getNumberOfSeats())) {
+            throw new IdempotencyKeyReuseException(idempotencyKey);
+        }
+    }
+
+    static void validateNotPending(Ticket ticket) {
+        if (ticket.getStatus() == TicketStatus.PENDING) {
+            throw new IllegalStateException("Ticket payment is still pending");
+        }
+    }
+
     static int calculateSeatsAfterBooking(int currentSeats, int bookedSeats) {
         return currentSeats - bookedSeats;
     }
@@ -168,28 +221,38 @@ public class TicketService {
         return pricePerSeat.multiply(BigDecimal.valueOf(numberOfSeats));
     }
 
-    private static String generateTicketCode() {
-        return "TKT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    static Ticket toNewEntity(Event event, TicketRequest request, TicketCodeGenerator ticketCodeGenerator) {
+        return toNewEntity(event, event.getPrice(), request, ticketCodeGenerator);
     }
 
-    private static Ticket toNewEntity(Event event, TicketRequest request) {
+    static Ticket toNewEntity(
+            Event event, BigDecimal pricePerSeat, TicketRequest request, TicketCodeGenerator ticketCodeGenerator) {
         return Ticket.builder()
-                .ticketCode(generateTicketCode())
+                .ticketCode(ticketCodeGenerator.next())
                 .event(event)
                 .customerName(request.getCustomerName())
                 .customerEmail(request.getCustomerEmail())
+                .idempotencyKey(request.getIdempotencyKey())
                 .numberOfSeats(request.getNumberOfSeats())
-                .totalAmount(calculateTotalAmount(event.getPrice(), request.getNumberOfSeats()))
+                .totalAmount(calculateTotalAmount(pricePerSeat, request.getNumberOfSeats()))
                 .status(TicketStatus.CONFIRMED)
                 .build();
     }
 
-    private static TicketResponse toResponse(Ticket ticket) {
+    private static CursorPage<TicketResponse> toPage(List<TicketResponse> tickets, Pageable limit) {
+        return KeysetCursor.toPage(tickets, limit, TicketResponse::getCreatedAt, TicketResponse::getId);
+    }
+
+    static TicketResponse toResponse(Ticket ticket) {
+        return toResponse(ticket, ticket.getEvent().getName());
+    }
+
+    static TicketResponse toResponse(Ticket ticket, String eventName) {
         return TicketResponse.builder()
                 .id(ticket.getId())
                 .ticketCode(ticket.getTicketCode())
                 .eventId(ticket.getEvent().getId())
-                .eventName(ticket.getEvent().getName())
+                .eventName(eventName)
                 .customerName(ticket.getCustomerName())
                 .customerEmail(ticket.getCustomerEmail())
                 .numberOfSeats(ticket.getNumberOfSeats())
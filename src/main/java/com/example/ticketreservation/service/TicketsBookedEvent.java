@@ -0,0 +1,10 @@
+package com.example.ticketreservation.service;
+
+import lombok.Value;
+
+/** Published when seats are booked outside of the configured booking strategy, e.g. a bulk order. */
+@Value
+public class TicketsBookedEvent {
+    Long eventId;
+    int bookedSeats;
+}
@@ -0,0 +1,33 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.entity.TimeOrderedIds;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves this node's {@link TimeOrderedIds} past every event and ticket id already stored before
+ * the application takes requests. A node restarted while its ids ran ahead of the clock would
+ * otherwise reissue them and fail its inserts on the primary key.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimeOrderedIdFloor {
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final BookingProperties bookingProperties;
+
+    @PostConstruct
+    public void seed() {
+        long highestId = Math.max(
+                eventRepository.findMaxId().orElse(0L), ticketRepository.findMaxId().orElse(0L));
+        TimeOrderedIds.forNode(bookingProperties.getIds().getNodeId()).advancePast(highestId);
+        log.info("Time-ordered ids seeded: highestStoredId={}", highestId);
+    }
+}
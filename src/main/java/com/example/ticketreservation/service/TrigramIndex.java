@@ -0,0 +1,431 @@
+package com.example.ticketreservation.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from character trigrams to the ids whose text contains them, answering
+ * the same case-insensitive substring question as {@code LOWER(text) LIKE '%query%'} without
+ * scanning every text. Queries of one or two characters match word prefixes instead, through keys
+ * marking the start of each word.
+ *
+ * <p>A query intersects the postings of its trigrams, shortest first, and confirms each candidate
+ * with a substring check. In fuzzy mode a text only has to share half of the query's trigrams, which
+ * tolerates a typo or two; such near matches always rank below real substring matches.
+ *
+ * <p>Texts are appended to dense slots, so every posting list stays sorted by slot. Replacing or
+ * removing a text leaves a dead slot behind, and the index is rebuilt once dead slots outnumber
+ * live ones. Reads run concurrently under a read lock; writes are serialized.
+ */
+public final class TrigramIndex {
+
+    private static final char WORD_START = '\u0001';
+    private static final double FUZZY_MIN_OVERLAP = 0.5;
+    private static final int MIN_GARBAGE_TO_COMPACT = 1024;
+    private static final int INITIAL_SLOTS = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private long[] ids = new long[INITIAL_SLOTS];
+    private String[] texts = new String[INITIAL_SLOTS];
+    private int slots;
+    private int garbage;
+
+    /** Indexes the text under the id, replacing any text indexed before. A blank text just removes it. */
+    public void put(long id, String text) {
+        lock.writeLock().lock();
+        try {
+            release(id);
+            String normalized = normalize(text);
+            if (!normalized.isEmpty()) {
+                append(id, normalized);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            release(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slotById.clear();
+            ids = new long[INITIAL_SLOTS];
+            texts = new String[INITIAL_SLOTS];
+            slots = 0;
+            garbage = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Every id whose text matches the query, with a score; higher scores are better matches. */
+    public Matches search(String query, boolean fuzzy) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Matches.EMPTY;
+        }
+        long[] keys = queryKeys(normalized);
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[keys.length];
+            for (int index = 0; index < keys.length; index++) {
+                lists[index] = postings.getOrDefault(keys[index], Postings.EMPTY);
+            }
+            Arrays.sort(lists, (left, right) -> Integer.compare(left.size, right.size));
+            boolean tolerant = fuzzy && normalized.length() >= 3;
+            return tolerant ? searchFuzzy(normalized, lists) : searchExact(normalized, lists);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === Private methods with side effects ===
+
+    private Matches searchExact(String query, Postings[] lists) {
+        int[] candidates = Arrays.copyOf(lists[0].slots, lists[0].size);
+        int count = candidates.length;
+        for (int index = 1; index < lists.length && count > 0; index++) {
+            count = intersect(candidates, count, lists[index]);
+        }
+        Matches.Builder matches = new Matches.Builder();
+        for (int position = 0; position < count; position++) {
+            int slot = candidates[position];
+            String text = texts[slot];
+            if (text != null && matchesExactly(text, query)) {
+                matches.add(ids[slot], exactScore(text, query));
+            }
+        }
+        return matches.build();
+    }
+
+    /**
+     * Counts in one pass over every list how many of the query's trigrams each text shares, then
+     * keeps the texts sharing enough of them. The counts are kept in a table sized to the postings
+     * read rather than to the whole index, so a query costs memory in proportion to its work.
+     */
+    private Matches searchFuzzy(String query, Postings[] lists) {
+        int required = Math.max(1, (int) Math.ceil(lists.length * FUZZY_MIN_OVERLAP));
+        int postingCount = 0;
+        for (Postings list : lists) {
+            postingCount += list.size;
+        }
+        SharedTrigrams shared = new SharedTrigrams(postingCount);
+        for (Postings list : lists) {
+            for (int position = 0; position < list.size; position++) {
+                shared.increment(list.slots[position]);
+            }
+        }
+        Matches.Builder matches = new Matches.Builder();
+        for (Postings list : lists) {
+            for (int position = 0; position < list.size; position++) {
+                int slot = list.slots[position];
+                int count = shared.take(slot);
+                String text = texts[slot];
+                if (count < required || text == null) {
+                    continue;
+                }
+                matches.add(
+                        ids[slot],
+                        matchesExactly(text, query)
+                                ? exactScore(text, query)
+                                : fuzzyScore(count, lists.length, text.length() - 2));
+            }
+        }
+        return matches.build();
+    }
+
+    private void append(long id, String text) {
+        if (slots == ids.length) {
+            ids = Arrays.copyOf(ids, slots * 2);
+            texts = Arrays.copyOf(texts, slots * 2);
+        }
+        int slot = slots++;
+        ids[slot] = id;
+        texts[slot] = text;
+        slotById.put(id, slot);
+        for (long key : textKeys(text)) {
+            postings.computeIfAbsent(key, ignored -> new Postings()).add(slot);
+        }
+    }
+
+    private void release(long id) {
+        Integer slot = slotById.remove(id);
+        if (slot != null) {
+            texts[slot] = null;
+            garbage++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (garbage < MIN_GARBAGE_TO_COMPACT || garbage < slotById.size()) {
+            return;
+        }
+        long[] liveIds = new long[slotById.size()];
+        String[] liveTexts = new String[slotById.size()];
+        int live = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (texts[slot] != null) {
+                liveIds[live] = ids[slot];
+                liveTexts[live++] = texts[slot];
+            }
+        }
+        postings.clear();
+        slotById.clear();
+        slots = 0;
+        garbage = 0;
+        for (int index = 0; index < live; index++) {
+            append(liveIds[index], liveTexts[index]);
+        }
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /** Every trigram of the text plus the one- and two-character prefix of each word, deduplicated. */
+    static long[] textKeys(String text) {
+        long[] keys = new long[Math.max(0, text.length() - 2) + 2 * text.length()];
+        int count = 0;
+        for (int index = 0; index + 2 < text.length(); index++) {
+            keys[count++] = key(text.charAt(index), text.charAt(index + 1), text.charAt(index + 2));
+        }
+        for (int index = 0; index < text.length(); index++) {
+            if (isWordStart(text, index)) {
+                keys[count++] = key(WORD_START, WORD_START, text.charAt(index));
+                if (index + 1 < text.length()) {
+                    keys[count++] = key(WORD_START, text.charAt(index), text.charAt(index + 1));
+                }
+            }
+        }
+        return distinct(keys, count);
+    }
+
+    static long[] queryKeys(String query) {
+        if (query.length() == 1) {
+            return new long[] {key(WORD_START, WORD_START, query.charAt(0))};
+        }
+        if (query.length() == 2) {
+            return new long[] {key(WORD_START, query.charAt(0), query.charAt(1))};
+        }
+        long[] keys = new long[query.length() - 2];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = key(query.charAt(index), query.charAt(index + 1), query.charAt(index + 2));
+        }
+        return distinct(keys, keys.length);
+    }
+
+    /** Short queries match word prefixes only; longer ones match anywhere, as LIKE would. */
+    static boolean matchesExactly(String text, String query) {
+        return query.length() < 3 ? wordPrefixAt(text, query) >= 0 : text.contains(query);
+    }
+
+    /**
+     * 4 for the whole text, 3 for a prefix of it, 2 for a prefix of a later word, 1 for any other
+     * substring, plus the share of the text the query covers so tighter matches rank first.
+     */
+    static double exactScore(String text, String query) {
+        if (text.equals(query)) {
+            return 4;
+        }
+        double coverage = (double) query.length() / text.length();
+        if (text.startsWith(query)) {
+            return 3 + coverage;
+        }
+        return (wordPrefixAt(text, query) >= 0 ? 2 : 1) + coverage;
+    }
+
+    /** Dice coefficient of the shared trigrams, below 1 so it never outranks a substring match. */
+    static double fuzzyScore(int shared, int queryTrigrams, int textTrigrams) {
+        return Math.min(0.99, 2.0 * shared / (queryTrigrams + Math.max(1, textTrigrams)));
+    }
+
+    private static int wordPrefixAt(String text, String query) {
+        for (int from = text.indexOf(query); from >= 0; from = text.indexOf(query, from + 1)) {
+            if (isWordStart(text, from)) {
+                return from;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        return Character.isLetterOrDigit(text.charAt(index))
+                && (index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1)));
+    }
+
+    /**
+     * Keeps the first {@code count} candidates that also appear in the list, in place, and returns
+     * how many are left. Both are sorted, so the list is searched by galloping forward from the
+     * previous hit, which costs little whether the list is as short as the candidates or far longer.
+     */
+    private static int intersect(int[] candidates, int count, Postings list) {
+        int kept = 0;
+        int from = 0;
+        for (int position = 0; position < count && from < list.size; position++) {
+            int slot = candidates[position];
+            int step = 1;
+            int to = from;
+            while (to < list.size && list.slots[to] < slot) {
+                from = to + 1;
+                to += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(list.slots, from, Math.min(to + 1, list.size), slot);
+            if (found >= 0) {
+                candidates[kept++] = slot;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private static long[] distinct(long[] keys, int count) {
+        Arrays.sort(keys, 0, count);
+        int unique = 0;
+        for (int index = 0; index < count; index++) {
+            if (index == 0 || keys[index] != keys[index - 1]) {
+                keys[unique++] = keys[index];
+            }
+        }
+        return Arrays.copyOf(keys, unique);
+    }
+
+    private static long key(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    /** Slots containing one key, in ascending order because slots are only ever appended. */
+    private static final class Postings {
+
+        static final Postings EMPTY = new Postings();
+
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+
+    /**
+     * Shared-trigram count per slot, in an open-addressing table at most half full. Queries are
+     * bounded by the URL length, so a count always fits in a short.
+     */
+    private static final class SharedTrigrams {
+
+        private final int[] slots;
+        private final short[] counts;
+        private final int shift;
+
+        private SharedTrigrams(int postingCount) {
+            int capacity = Integer.highestOneBit(Math.max(1, postingCount * 2 - 1)) << 1;
+            this.slots = new int[capacity];
+            this.counts = new short[capacity];
+            this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        }
+
+        private void increment(int slot) {
+            counts[indexOf(slot)]++;
+        }
+
+        /** Returns the slot's count and zeroes it, so each slot is reported once. */
+        private int take(int slot) {
+            int index = indexOf(slot);
+            int count = counts[index];
+            counts[index] = 0;
+            return count;
+        }
+
+        private int indexOf(int slot) {
+            int key = slot + 1;
+            int mask = slots.length - 1;
+            int index = (key * 0x9E3779B9) >>> shift;
+            while (slots[index] != key && slots[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            slots[index] = key;
+            return index;
+        }
+    }
+
+    /** Matching ids and their scores, in no particular order. */
+    public static final class Matches {
+
+        static final Matches EMPTY = new Matches(new long[0], new double[0], 0);
+
+        private final long[] ids;
+        private final double[] scores;
+        private final int size;
+
+        private Matches(long[] ids, double[] scores, int size) {
+            this.ids = ids;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long id(int index) {
+            return ids[index];
+        }
+
+        public double score(int index) {
+            return scores[index];
+        }
+
+        private static final class Builder {
+
+            private long[] ids = new long[16];
+            private double[] scores = new double[16];
+            private int size;
+
+            private void add(long id, double score) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    scores = Arrays.copyOf(scores, size * 2);
+                }
+                ids[size] = id;
+                scores[size++] = score;
+            }
+
+            private Matches build() {
+                return new Matches(ids, scores, size);
+            }
+        }
+    }
+}
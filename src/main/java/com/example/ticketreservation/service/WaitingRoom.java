@@ -0,0 +1,348 @@
+package com.example.ticketreservation.service;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.QueueTokenResponse;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.QueueAdmissionException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-event virtual queue in front of ticket creation. Buyers join to receive a FIFO token, poll it
+ * for their position, and may book once a ticker has admitted their token at
+ * {@code booking.waiting-room.admission-rate} tokens per second. When the event has no seats left,
+ * every waiting token is reported as sold out and no further tokens are admitted.
+ *
+ * <p>Joining needs no authentication, so each queue is bounded: {@code max-queue-size} waiting
+ * tokens per event, waiting tokens that go unpolled for {@code waiting-ttl} are dropped, and a
+ * queue that sells out forgets all of its tokens.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoom {
+
+    private final EventRepository eventRepository;
+    private final BookingExecutors bookingExecutors;
+    private final BookingProperties bookingProperties;
+
+    private final ConcurrentMap<Long, EventQueue> queues = new ConcurrentHashMap<>();
+
+    // === Public methods (orchestration with side effects) ===
+
+    public QueueTokenResponse join(Long eventId) {
+        if (!isEnabled()) {
+            return toResponse(eventId, null, QueueTokenStatus.ADMITTED, 0, 0);
+        }
+        EventQueue queue = queueFor(eventId);
+        QueueEntry entry = queue.enqueue(maxQueueSize(), System.currentTimeMillis());
+        if (entry == null) {
+            return toResponse(eventId, null, QueueTokenStatus.SOLD_OUT, 0, 0);
+        }
+        return describe(queue, entry);
+    }
+
+    /** Reports the token's place in the queue; polling keeps a waiting token from expiring. */
+    public QueueTokenResponse status(Long eventId, String token) {
+        EventQueue queue = queues.get(eventId);
+        if (queue != null && queue.soldOut) {
+            // Tokens are forgotten once the queue sells out
+            return toResponse(eventId, token, QueueTokenStatus.SOLD_OUT, 0, 0);
+        }
+        QueueEntry entry = queue == null ? null : queue.entries.get(token);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Queue token", "token", token);
+        }
+        entry.lastSeenMillis = System.currentTimeMillis();
+        return describe(queue, entry);
+    }
+
+    /**
+     * Lets the request through when the waiting room is disabled or the token has been admitted.
+     * Admitted tokens are single-use.
+     */
+    public void admit(Long eventId, String token) {
+        if (!isEnabled()) {
+            return;
+        }
+        use(admittedQueue(eventId, token), token);
+    }
+
+    /**
+     * Lets a bulk order through when every one of its events has an admitted token in
+     * {@code tokensByEvent}. No token is used up unless all of them are admitted.
+     */
+    public void admitAll(Collection<Long> eventIds, Map<Long, String> tokensByEvent) {
+        if (!isEnabled()) {
+            return;
+        }
+        Map<Long, EventQueue> admitted = new HashMap<>();
+        eventIds.forEach(eventId -> admitted.put(eventId, admittedQueue(eventId, tokensByEvent.get(eventId))));
+        admitted.forEach((eventId, queue) -> use(queue, tokensByEvent.get(eventId)));
+    }
+
+    public boolean isEnabled() {
+        return bookingProperties.getWaitingRoom().isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        long tickMillis = bookingProperties.getWaitingRoom().getTickInterval().toMillis();
+        bookingExecutors
+                .waitingRoomTicker()
+                .scheduleAtFixedRate(
+                        () -> tick(System.currentTimeMillis()), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Waiting room started: admissionRate={}/s, tickMillis={}", admissionRate(), tickMillis);
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent change) {
+        if (change.getChangeType() == EventChangedEvent.ChangeType.DELETED) {
+            queues.remove(change.getEventId());
+        }
+    }
+
+    // === Package-private and private methods with side effects ===
+
+    /** The event's queue, once the token is known to be admitted there; the token is not used up. */
+    private EventQueue admittedQueue(Long eventId, String token) {
+        EventQueue queue = queues.get(eventId);
+        if (queue != null && queue.soldOut) {
+            throw new InsufficientSeatsException("Event is sold out");
+        }
+        QueueEntry entry = queue == null || token == null ? null : queue.entries.get(token);
+        if (entry == null) {
+            throw new QueueAdmissionException("A valid queue token is required to book this event", -1, 1);
+        }
+        if (entry.admittedAtMillis == 0) {
+            long position = position(queue, entry);
+            throw new QueueAdmissionException(
+                    "Queue token has not been admitted yet", position, estimatedWaitSeconds(position, admissionRate()));
+        }
+        return queue;
+    }
+
+    private static void use(EventQueue queue, String token) {
+        if (queue.entries.remove(token) == null) {
+            throw new QueueAdmissionException("Queue token has already been used", -1, 1);
+        }
+    }
+
+    void tick(long nowMillis) {
+        BookingProperties.WaitingRoom settings = bookingProperties.getWaitingRoom();
+        double admissionsPerTick = settings.getAdmissionRate() * settings.getTickInterval().toMillis() / 1000.0;
+        long admissionTtlMillis = settings.getAdmissionTtl().toMillis();
+        long waitingTtlMillis = settings.getWaitingTtl().toMillis();
+        long soldOutCheckMillis = settings.getSoldOutCheckInterval().toMillis();
+        for (EventQueue queue : queues.values()) {
+            try {
+                if (nowMillis - queue.lastSoldOutCheckMillis >= soldOutCheckMillis) {
+                    refreshSoldOut(queue, nowMillis);
+                }
+                if (!queue.soldOut) {
+                    queue.admit(admissionsPerTick, nowMillis);
+                }
+                queue.expireAdmitted(nowMillis - admissionTtlMillis);
+                if (nowMillis - queue.lastWaitingSweepMillis >= waitingTtlMillis) {
+                    queue.expireWaiting(nowMillis - waitingTtlMillis, nowMillis);
+                }
+            } catch (RuntimeException e) {
+                log.error("Waiting room tick failed: eventId={}", queue.eventId, e);
+            }
+        }
+    }
+
+    private void refreshSoldOut(EventQueue queue, long nowMillis) {
+        queue.lastSoldOutCheckMillis = nowMillis;
+        Optional<Long> availableSeats = eventRepository.findTotalAvailableSeatsById(queue.eventId);
+        if (availableSeats.isEmpty()) {
+            queues.remove(queue.eventId);
+            return;
+        }
+        boolean soldOut = availableSeats.get() <= 0;
+        if (soldOut != queue.soldOut) {
+            queue.markSoldOut(soldOut);
+            log.info("Waiting room sold-out state changed: eventId={}, soldOut={}", queue.eventId, soldOut);
+        }
+    }
+
+    private EventQueue queueFor(Long eventId) {
+        EventQueue queue = queues.get(eventId);
+        if (queue != null) {
+            return queue;
+        }
+        long availableSeats = eventRepository
+                .findTotalAvailableSeatsById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        EventQueue created = new EventQueue(eventId, availableSeats <= 0, System.currentTimeMillis());
+        EventQueue existing = queues.putIfAbsent(eventId, created);
+        return existing != null ? existing : created;
+    }
+
+    private QueueTokenResponse describe(EventQueue queue, QueueEntry entry) {
+        if (queue.soldOut) {
+            return toResponse(queue.eventId, entry.token, QueueTokenStatus.SOLD_OUT, 0, 0);
+        }
+        if (entry.admittedAtMillis != 0) {
+            return toResponse(queue.eventId, entry.token, QueueTokenStatus.ADMITTED, 0, 0);
+        }
+        long position = position(queue, entry);
+        return toResponse(
+                queue.eventId,
+                entry.token,
+                QueueTokenStatus.WAITING,
+                position,
+                estimatedWaitSeconds(position, admissionRate()));
+    }
+
+    private int admissionRate() {
+        return bookingProperties.getWaitingRoom().getAdmissionRate();
+    }
+
+    private int maxQueueSize() {
+        return bookingProperties.getWaitingRoom().getMaxQueueSize();
+    }
+
+    // === Pure functions (no side effects, static) ===
+
+    static long position(EventQueue queue, QueueEntry entry) {
+        return Math.max(1, entry.sequence - queue.admittedSequence);
+    }
+
+    static long estimatedWaitSeconds(long position, int admissionRate) {
+        return admissionRate <= 0 ? -1 : (position + admissionRate - 1) / admissionRate;
+    }
+
+    private static QueueTokenResponse toResponse(
+            Long eventId, String token, QueueTokenStatus status, long position, long estimatedWaitSeconds) {
+        return QueueTokenResponse.builder()
+                .token(token)
+                .eventId(eventId)
+                .status(status)
+                .position(position)
+                .estimatedWaitSeconds(estimatedWaitSeconds)
+                .build();
+    }
+
+    static final class EventQueue {
+
+        private final Long eventId;
+        private final ConcurrentMap<String, QueueEntry> entries = new ConcurrentHashMap<>();
+        private final Queue<QueueEntry> waiting = new ConcurrentLinkedQueue<>();
+        private final Queue<QueueEntry> admitted = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger waitingCount = new AtomicInteger();
+        private long issuedSequence;
+        private volatile long admittedSequence;
+        private volatile boolean soldOut;
+        private long lastSoldOutCheckMillis;
+        private long lastWaitingSweepMillis;
+        private double admissionCredit;
+
+        private EventQueue(Long eventId, boolean soldOut, long nowMillis) {
+            this.eventId = eventId;
+            this.soldOut = soldOut;
+            this.lastSoldOutCheckMillis = nowMillis;
+            this.lastWaitingSweepMillis = nowMillis;
+        }
+
+        /** Issues a token at the back of the queue, or returns null once the event is sold out. */
+        private synchronized QueueEntry enqueue(int maxQueueSize, long nowMillis) {
+            if (soldOut) {
+                return null;
+            }
+            if (waitingCount.get() >= maxQueueSize) {
+                throw new QueueAdmissionException("Waiting room is full, try again later", -1, 1);
+            }
+            QueueEntry entry = new QueueEntry(UUID.randomUUID().toString(), ++issuedSequence, nowMillis);
+            entries.put(entry.token, entry);
+            waiting.offer(entry);
+            waitingCount.incrementAndGet();
+            return entry;
+        }
+
+        /** Flips the sold-out state; a queue that sells out drops every token. Ticker thread only. */
+        private synchronized void markSoldOut(boolean soldOut) {
+            this.soldOut = soldOut;
+            if (soldOut) {
+                waiting.clear();
+                admitted.clear();
+                entries.clear();
+                waitingCount.set(0);
+                admittedSequence = issuedSequence;
+            }
+        }
+
+        /** Called from the ticker thread only. */
+        private void admit(double admissionsPerTick, long nowMillis) {
+            admissionCredit += admissionsPerTick;
+            QueueEntry next;
+            while (admissionCredit >= 1 && (next = waiting.poll()) != null) {
+                waitingCount.decrementAndGet();
+                next.admittedAtMillis = nowMillis;
+                admitted.offer(next);
+                admittedSequence = next.sequence;
+                admissionCredit--;
+            }
+            if (waiting.isEmpty()) {
+                admissionCredit = Math.min(admissionCredit, 1);
+            }
+        }
+
+        /** Drops admitted tokens that were not used within the admission TTL. Ticker thread only. */
+        private void expireAdmitted(long admittedBeforeMillis) {
+            QueueEntry head;
+            while ((head = admitted.peek()) != null && head.admittedAtMillis < admittedBeforeMillis) {
+                admitted.poll();
+                entries.remove(head.token);
+            }
+        }
+
+        /** Drops waiting tokens that were last polled before {@code seenBeforeMillis}. Ticker thread only. */
+        private void expireWaiting(long seenBeforeMillis, long nowMillis) {
+            lastWaitingSweepMillis = nowMillis;
+            waiting.removeIf(entry -> {
+                if (entry.lastSeenMillis >= seenBeforeMillis) {
+                    return false;
+                }
+                entries.remove(entry.token);
+                waitingCount.decrementAndGet();
+                return true;
+            });
+        }
+    }
+
+    static final class QueueEntry {
+
+        private final String token;
+        private final long sequence;
+        private volatile long admittedAtMillis;
+        private volatile long lastSeenMillis;
+
+        private QueueEntry(String token, long sequence, long joinedAtMillis) {
+            this.token = token;
+            this.sequence = sequence;
+            this.lastSeenMillis = joinedAtMillis;
+        }
+    }
+}
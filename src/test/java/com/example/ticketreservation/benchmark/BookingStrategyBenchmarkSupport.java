@@ -0,0 +1,132 @@
+package com.example.ticketreservation.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import com.example.ticketreservation.service.BookingStrategy;
+import com.example.ticketreservation.service.ConditionalUpdateBookingStrategy;
+import com.example.ticketreservation.service.EventService;
+import com.example.ticketreservation.service.PessimisticBookingStrategy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@Tag("benchmark")
+abstract class BookingStrategyBenchmarkSupport {
+
+    private static final int CLIENTS = 32;
+    private static final int BOOKINGS_PER_CLIENT = 10;
+    private static final int TOTAL_SEATS = CLIENTS * BOOKINGS_PER_CLIENT / 2;
+
+    @Autowired
+    private PessimisticBookingStrategy pessimisticBookingStrategy;
+
+    @Autowired
+    private ConditionalUpdateBookingStrategy conditionalUpdateBookingStrategy;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    protected abstract String databaseName();
+
+    @Test
+    void compareBookingStrategies() throws Exception {
+        run(pessimisticBookingStrategy);
+        run(conditionalUpdateBookingStrategy);
+
+        BenchmarkResult pessimistic = run(pessimisticBookingStrategy);
+        BenchmarkResult conditional = run(conditionalUpdateBookingStrategy);
+
+        System.out.printf("%n=== Booking strategy benchmark (%s) ===%n", databaseName());
+        System.out.println(pessimistic);
+        System.out.println(conditional);
+    }
+
+    private BenchmarkResult run(BookingStrategy strategy) throws Exception {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        Long eventId = eventService.createEvent(benchmarkEvent()).getId();
+
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int client = 0; client < CLIENTS; client++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < BOOKINGS_PER_CLIENT; i++) {
+                    try {
+                        strategy.book(eventId, bookingRequest());
+                        booked.incrementAndGet();
+                    } catch (InsufficientSeatsException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        assertThat(booked.get()).isEqualTo(TOTAL_SEATS);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isZero();
+        return new BenchmarkResult(strategy.mode().name(), booked.get() + rejected.get(), elapsedNanos);
+    }
+
+    private static EventRequest benchmarkEvent() {
+        return EventRequest.builder()
+                .name("Benchmark Event")
+                .venue("Benchmark Arena")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(TOTAL_SEATS)
+                .price(new BigDecimal("1000.0"))
+                .build();
+    }
+
+    private static TicketRequest bookingRequest() {
+        return TicketRequest.builder()
+                .customerName("Benchmark Client")
+                .customerEmail("benchmark@example.com")
+                .numberOfSeats(1)
+                .build();
+    }
+
+    private record BenchmarkResult(String strategy, int requests, long elapsedNanos) {
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return String.format(
+                    "%-20s requests=%d elapsed=%.2fs throughput=%.1f req/s",
+                    strategy, requests, seconds, requests / seconds);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.ticketreservation.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("Booking Strategy Benchmark (H2)")
+class H2BookingStrategyBenchmarkTest extends BookingStrategyBenchmarkSupport {
+
+    @Override
+    protected String databaseName() {
+        return "H2";
+    }
+}
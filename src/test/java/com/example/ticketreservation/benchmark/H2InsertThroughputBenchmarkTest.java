@@ -0,0 +1,12 @@
+package com.example.ticketreservation.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("Insert Throughput Benchmark (H2)")
+class H2InsertThroughputBenchmarkTest extends InsertThroughputBenchmarkSupport {
+
+    @Override
+    protected String databaseName() {
+        return "H2";
+    }
+}
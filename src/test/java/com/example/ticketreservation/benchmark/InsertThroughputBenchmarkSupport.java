@@ -0,0 +1,177 @@
+package com.example.ticketreservation.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.entity.TimeOrderedIds;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import com.example.ticketreservation.service.EventService;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares insert throughput of database-generated IDENTITY keys, which force one round trip per
+ * row, with ids assigned in-process by {@link TimeOrderedIds}, which lets rows be JDBC-batched.
+ */
+@SpringBootTest
+@Tag("benchmark")
+abstract class InsertThroughputBenchmarkSupport {
+
+    private static final int ROWS = 20_000;
+    private static final int JDBC_BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    protected abstract String databaseName();
+
+    @Test
+    void compareIdStrategies() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_identity");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_assigned");
+        jdbcTemplate.execute("CREATE TABLE id_benchmark_identity "
+                + "(id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, payload VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE id_benchmark_assigned (id BIGINT PRIMARY KEY, payload VARCHAR(255))");
+
+        identityRowByRow();
+        assignedBatched();
+        jpaSaveAll();
+
+        BenchmarkResult identity = identityRowByRow();
+        BenchmarkResult assigned = assignedBatched();
+        BenchmarkResult jpa = jpaSaveAll();
+
+        System.out.printf("%n=== Insert throughput benchmark (%s, %d rows) ===%n", databaseName(), ROWS);
+        System.out.println(identity);
+        System.out.println(assigned);
+        System.out.println(jpa);
+    }
+
+    /** What Hibernate does for IDENTITY: execute each insert on its own and read back the key. */
+    private BenchmarkResult identityRowByRow() {
+        jdbcTemplate.execute("DELETE FROM id_benchmark_identity");
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) c -> {
+            try (PreparedStatement statement = c.prepareStatement(
+                    "INSERT INTO id_benchmark_identity (payload) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < ROWS; i++) {
+                    statement.setString(1, "row-" + i);
+                    statement.executeUpdate();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            return null;
+        }));
+        return result("identity, row by row", startedAt, "id_benchmark_identity");
+    }
+
+    private BenchmarkResult assignedBatched() {
+        jdbcTemplate.execute("DELETE FROM id_benchmark_assigned");
+        TimeOrderedIds ids = TimeOrderedIds.forNode(0);
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) c -> {
+            try (PreparedStatement statement =
+                    c.prepareStatement("INSERT INTO id_benchmark_assigned (id, payload) VALUES (?, ?)")) {
+                for (int i = 0; i < ROWS; i++) {
+                    statement.setLong(1, ids.next());
+                    statement.setString(2, "row-" + i);
+                    statement.addBatch();
+                    if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+            return null;
+        }));
+        return result("time-ordered, batched", startedAt, "id_benchmark_assigned");
+    }
+
+    /** The booking path: tickets persisted through Hibernate with hibernate.jdbc.batch_size. */
+    private BenchmarkResult jpaSaveAll() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        Long eventId = eventService.createEvent(benchmarkEvent()).getId();
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Event event = eventRepository.getReferenceById(eventId);
+            List<Ticket> tickets = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                tickets.add(benchmarkTicket(event, i));
+            }
+            ticketRepository.saveAll(tickets);
+        });
+        long elapsedNanos = System.nanoTime() - startedAt;
+        assertThat(ticketRepository.countByEventId(eventId)).isEqualTo(ROWS);
+        return new BenchmarkResult("jpa saveAll, time-ordered", ROWS, elapsedNanos);
+    }
+
+    private BenchmarkResult result(String strategy, long startedAt, String table) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class))
+                .isEqualTo(ROWS);
+        return new BenchmarkResult(strategy, ROWS, elapsedNanos);
+    }
+
+    private static EventRequest benchmarkEvent() {
+        return EventRequest.builder()
+                .name("Insert Benchmark Event")
+                .venue("Benchmark Arena")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(ROWS)
+                .price(new BigDecimal("1000.0"))
+                .build();
+    }
+
+    private static Ticket benchmarkTicket(Event event, int index) {
+        return Ticket.builder()
+                .ticketCode("BENCH-" + index)
+                .event(event)
+                .customerName("Benchmark Client")
+                .customerEmail("benchmark@example.com")
+                .numberOfSeats(1)
+                .totalAmount(new BigDecimal("1000.0"))
+                .status(TicketStatus.CONFIRMED)
+                .build();
+    }
+
+    private record BenchmarkResult(String strategy, int rows, long elapsedNanos) {
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return String.format(
+                    "%-28s rows=%d elapsed=%.2fs throughput=%.1f rows/s", strategy, rows, seconds, rows / seconds);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ticketreservation.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@Testcontainers
+@DisplayName("Booking Strategy Benchmark (PostgreSQL)")
+class PostgresBookingStrategyBenchmarkTest extends BookingStrategyBenchmarkSupport {
+
+    @Container
+    static GenericContainer<?> postgres = new GenericContainer<>(DockerImageName.parse("postgres:15"))
+            .withEnv("POSTGRES_DB", "ticketdb")
+            .withEnv("POSTGRES_USER", "ticketuser")
+            .withEnv("POSTGRES_PASSWORD", "ticketpass")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "spring.datasource.url",
+                () -> "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getFirstMappedPort() + "/ticketdb");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> "ticketuser");
+        registry.add("spring.datasource.password", () -> "ticketpass");
+    }
+
+    @Override
+    protected String databaseName() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.ticketreservation.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import com.example.ticketreservation.service.EventService;
+import com.example.ticketreservation.service.TicketService;
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the heap allocated per ticket list request by the old read path, which hydrates managed
+ * tickets and events and maps them to responses, with the projection read path that builds the
+ * responses straight from the result set.
+ */
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Read Model Allocation Benchmark (H2)")
+class ReadModelAllocationBenchmarkTest {
+
+    private static final int EVENTS = 20;
+    private static final int TICKETS_PER_EVENT = 50;
+    private static final int PAGE_SIZE = 500;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int MEASURED_REQUESTS = 500;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareReadPaths() {
+        seed();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Supplier<List<TicketResponse>> entities = () -> readOnly.execute(status -> entityPage());
+        Supplier<List<TicketResponse>> projections =
+                () -> ticketService.getAllTickets(null, PAGE_SIZE).getItems();
+
+        assertThat(projections.get()).isEqualTo(entities.get());
+
+        BenchmarkResult entityResult = measure("entities + mapping", entities);
+        BenchmarkResult projectionResult = measure("projections", projections);
+
+        System.out.printf("%n=== Read model allocation benchmark (H2, %d tickets per page) ===%n", PAGE_SIZE);
+        System.out.println(entityResult);
+        System.out.println(projectionResult);
+    }
+
+    /** What the ticket list endpoints did before the read model: fetch-joined entities, then mapped. */
+    private List<TicketResponse> entityPage() {
+        return entityManager
+                .createQuery(
+                        "SELECT t FROM Ticket t JOIN FETCH t.event ORDER BY t.createdAt ASC, t.id ASC", Ticket.class)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList()
+                .stream()
+                .limit(PAGE_SIZE)
+                .map(ReadModelAllocationBenchmarkTest::toResponse)
+                .toList();
+    }
+
+    private void seed() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        List<Ticket> tickets = new ArrayList<>(EVENTS * TICKETS_PER_EVENT);
+        for (int e = 0; e < EVENTS; e++) {
+            Long eventId = eventService.createEvent(benchmarkEvent(e)).getId();
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            for (int t = 0; t < TICKETS_PER_EVENT; t++) {
+                tickets.add(benchmarkTicket(event, e * TICKETS_PER_EVENT + t));
+            }
+        }
+        ticketRepository.saveAll(tickets);
+    }
+
+    private static BenchmarkResult measure(String path, Supplier<List<TicketResponse>> request) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            request.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new BenchmarkResult(path, allocated / MEASURED_REQUESTS, elapsedNanos / MEASURED_REQUESTS);
+    }
+
+    private static TicketResponse toResponse(Ticket ticket) {
+        return TicketResponse.builder()
+                .id(ticket.getId())
+                .ticketCode(ticket.getTicketCode())
+                .eventId(ticket.getEvent().getId())
+                .eventName(ticket.getEvent().getName())
+                .customerName(ticket.getCustomerName())
+                .customerEmail(ticket.getCustomerEmail())
+                .numberOfSeats(ticket.getNumberOfSeats())
+                .totalAmount(ticket.getTotalAmount())
+                .status(ticket.getStatus())
+                .createdAt(ticket.getCreatedAt())
+                .updatedAt(ticket.getUpdatedAt())
+                .build();
+    }
+
+    private static EventRequest benchmarkEvent(int index) {
+        return EventRequest.builder()
+                .name("Read Benchmark Event " + index)
+                .venue("Benchmark Arena")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(TICKETS_PER_EVENT)
+                .price(new BigDecimal("1000.0"))
+                .build();
+    }
+
+    private static Ticket benchmarkTicket(Event event, int index) {
+        return Ticket.builder()
+                .ticketCode("READ-" + index)
+                .event(event)
+                .customerName("Benchmark Client")
+                .customerEmail("benchmark" + index + "@example.com")
+                .numberOfSeats(1)
+                .totalAmount(new BigDecimal("1000.00"))
+                .status(TicketStatus.CONFIRMED)
+                .build();
+    }
+
+    private record BenchmarkResult(String path, long bytesPerRequest, long nanosPerRequest) {
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%-20s allocated=%,d bytes/request latency=%.2fms",
+                    path, bytesPerRequest, nanosPerRequest / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.ticketreservation.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.example.ticketreservation.TicketReservationApiApplication;
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.service.EventService;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application twice, once on platform threads and once on virtual threads, and drives
+ * each with 5,000 concurrent HTTP clients booking through {@code conditional-update} mode, whose
+ * 50 ms processing step blocks outside the row lock. Reports throughput, peak platform threads and
+ * peak heap. The virtual-thread run needs a Java 21 runtime.
+ */
+@Tag("benchmark")
+@DisplayName("Virtual Thread Benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final int CLIENTS = 5_000;
+    private static final int BOOKINGS_PER_CLIENT = 4;
+    private static final int TOTAL_SEATS = CLIENTS * BOOKINGS_PER_CLIENT;
+    private static final String BOOKING_BODY =
+            "{\"customerName\": \"Benchmark Client\", \"customerEmail\": \"benchmark@example.com\", "
+                    + "\"numberOfSeats\": 1}";
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21");
+
+        BenchmarkResult platform = run(false);
+        BenchmarkResult virtual = run(true);
+
+        System.out.printf("%n=== Virtual thread benchmark (%d clients) ===%n", CLIENTS);
+        System.out.println(platform);
+        System.out.println(virtual);
+    }
+
+    private BenchmarkResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                        TicketReservationApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + (CLIENTS * 2),
+                        "booking.mode=conditional-update",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            assertThat(context.getBean(BookingExecutors.class).usesVirtualThreads())
+                    .isEqualTo(virtualThreads);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Long eventId = context.getBean(EventService.class).createEvent(benchmarkEvent()).getId();
+            URI bookingUri = URI.create("http://localhost:" + port + "/api/events/" + eventId + "/tickets");
+
+            System.gc();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            MemorySampler memory = MemorySampler.start(ManagementFactory.getMemoryMXBean());
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            AtomicInteger booked = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+
+            long startedAt = System.nanoTime();
+            List<CompletableFuture<Void>> clients = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(book(client, bookingUri, BOOKINGS_PER_CLIENT, booked, failed));
+            }
+            CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).get(10, TimeUnit.MINUTES);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            long peakHeapBytes = memory.stop();
+
+            assertThat(failed.get()).isZero();
+            return new BenchmarkResult(
+                    virtualThreads ? "virtual" : "platform",
+                    booked.get(),
+                    elapsedNanos,
+                    threads.getPeakThreadCount(),
+                    peakHeapBytes);
+        }
+    }
+
+    private static CompletableFuture<Void> book(
+            HttpClient client, URI bookingUri, int remaining, AtomicInteger booked, AtomicInteger failed) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(bookingUri)
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BOOKING_BODY))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(response -> {
+                    if (response.statusCode() == 201) {
+                        booked.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                    return book(client, bookingUri, remaining - 1, booked, failed);
+                });
+    }
+
+    private static EventRequest benchmarkEvent() {
+        return EventRequest.builder()
+                .name("Virtual Thread Benchmark Event")
+                .venue("Benchmark Arena")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(TOTAL_SEATS)
+                .price(new BigDecimal("1000.0"))
+                .build();
+    }
+
+    private static final class MemorySampler {
+
+        private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicLong peakHeapBytes = new AtomicLong();
+
+        private static MemorySampler start(MemoryMXBean memory) {
+            MemorySampler memorySampler = new MemorySampler();
+            memorySampler.sampler.scheduleAtFixedRate(
+                    () -> memorySampler.peakHeapBytes.accumulateAndGet(
+                            memory.getHeapMemoryUsage().getUsed(), Math::max),
+                    0,
+                    50,
+                    TimeUnit.MILLISECONDS);
+            return memorySampler;
+        }
+
+        private long stop() {
+            sampler.shutdownNow();
+            return peakHeapBytes.get();
+        }
+    }
+
+    private record BenchmarkResult(
+            String threads, int requests, long elapsedNanos, int peakPlatformThreads, long peakHeapBytes) {
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return String.format(
+                    "%-10s requests=%d elapsed=%.2fs throughput=%.1f req/s peakPlatformThreads=%d peakHeap=%dMB",
+                    threads,
+                    requests,
+                    seconds,
+                    requests / seconds,
+                    peakPlatformThreads,
+                    peakHeapBytes / (1024 * 1024));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.ticketreservation.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@DisplayName("TwoLevelCacheManager Tests")
+class TwoLevelCacheManagerTest {
+
+    private final ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager();
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Cache node1;
+    private Cache node2;
+
+    @BeforeEach
+    void setUp() {
+        BookingProperties.NearCache settings = new BookingProperties.NearCache();
+        node1 = new TwoLevelCacheManager(redis, bus, CacheLoadLock.NONE, settings, meterRegistry).getCache("events");
+        node2 = new TwoLevelCacheManager(redis, bus, CacheLoadLock.NONE, settings, new SimpleMeterRegistry())
+                .getCache("events");
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class ReadTests {
+
+        @Test
+        @DisplayName("should copy an L2 hit into L1 and serve the same instance from there")
+        void shouldServeRepeatReadsFromL1() {
+            Object value = new Object();
+            node1.put(1L, value);
+
+            assertThat(node2.get(1L).get()).isSameAs(value);
+            redis.getCache("events").evict(1L);
+
+            assertThat(node2.get(1L).get()).isSameAs(value);
+        }
+
+        @Test
+        @DisplayName("should count hits and misses per level")
+        void shouldCountLookupsPerLevel() {
+            node1.put(1L, "cached");
+            node1.get(1L);
+            node1.get(2L);
+            ((TwoLevelCache) node1).clearLocal();
+            node1.get(1L);
+
+            assertThat(count("l1", "hit")).isEqualTo(1);
+            assertThat(count("l1", "miss")).isEqualTo(2);
+            assertThat(count("l2", "hit")).isEqualTo(1);
+            assertThat(count("l2", "miss")).isEqualTo(1);
+            assertThat(ratio("l1")).isEqualTo(1.0 / 3);
+            assertThat(ratio("l2")).isEqualTo(0.5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("should drop the L1 copy on every node when one node evicts a key")
+        void shouldEvictOnEveryNode() {
+            node1.put(1L, "before");
+            node2.get(1L);
+
+            node1.evict(1L);
+            redis.getCache("events").put(1L, "after");
+
+            assertThat(node2.get(1L).get()).isEqualTo("after");
+        }
+
+        @Test
+        @DisplayName("should drop every L1 copy on every node when one node clears the cache")
+        void shouldClearOnEveryNode() {
+            node1.put(1L, "one");
+            node1.put(2L, "two");
+            node2.get(1L);
+            node2.get(2L);
+
+            node1.clear();
+
+            assertThat(node2.get(1L)).isNull();
+            assertThat(node2.get(2L)).isNull();
+        }
+
+        @Test
+        @DisplayName("should keep the other keys of a node in L1 when one key is evicted")
+        void shouldKeepOtherKeys() {
+            node1.put(1L, "one");
+            node1.put(2L, "two");
+            node2.get(2L);
+            redis.getCache("events").evict(2L);
+
+            node1.evict(1L);
+
+            assertThat(node2.get(2L).get()).isEqualTo("two");
+        }
+    }
+
+    @Nested
+    @DisplayName("Single-flight loads")
+    class SingleFlightTests {
+
+        @Test
+        @DisplayName("should run one load for concurrent misses on a key and share its value")
+        void shouldCoalesceConcurrentMisses() throws Exception {
+            int readers = 8;
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(readers);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int reader = 0; reader < readers; reader++) {
+                    results.add(executor.submit(() -> node1.get(1L, () -> {
+                        loads.incrementAndGet();
+                        loading.countDown();
+                        release.await();
+                        return "loaded";
+                    })));
+                }
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+                awaitCoalesced(readers - 1);
+                release.countDown();
+
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(loadCount("loaded")).isEqualTo(1);
+            assertThat(redis.getCache("events").get(1L).get()).isEqualTo("loaded");
+        }
+
+        @Test
+        @DisplayName("should hand the loader's exception to the caller without caching anything")
+        void shouldShareFailures() {
+            IllegalStateException failure = new IllegalStateException("database down");
+
+            assertThatThrownBy(() -> node1.get(1L, () -> {
+                        throw failure;
+                    }))
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasCause(failure);
+            assertThat(node1.get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("should take the lock holder's value from L2 instead of loading it again")
+        void shouldWaitForLockHolder() {
+            BookingProperties.NearCache settings = new BookingProperties.NearCache();
+            settings.setLoadLockPollInterval(Duration.ofMillis(1));
+            CacheLoadLock held = new CacheLoadLock() {
+                @Override
+                public String tryLock(String cacheName, String key, Duration ttl) {
+                    redis.getCache(cacheName).put(1L, "loaded elsewhere");
+                    return null;
+                }
+
+                @Override
+                public void unlock(String cacheName, String key, String token) {}
+            };
+            MeterRegistry registry = new SimpleMeterRegistry();
+            Cache node3 = new TwoLevelCacheManager(redis, bus, held, settings, registry).getCache("events");
+
+            assertThat(node3.get(1L, () -> "loaded here")).isEqualTo("loaded elsewhere");
+            assertThat(registry.get(TwoLevelCacheManager.LOADS_METRIC)
+                            .tag("outcome", "remote")
+                            .functionCounter()
+                            .count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis message format")
+    class RedisMessageTests {
+
+        @Test
+        @DisplayName("should round-trip evictions and clears")
+        void shouldRoundTrip() {
+            CacheInvalidation eviction = new CacheInvalidation("origin", "events", "42");
+            CacheInvalidation clear = new CacheInvalidation("origin", "events", null);
+
+            assertThat(RedisCacheInvalidationBus.decode(RedisCacheInvalidationBus.encode(eviction)))
+                    .isEqualTo(eviction);
+            assertThat(RedisCacheInvalidationBus.decode(RedisCacheInvalidationBus.encode(clear)))
+                    .isEqualTo(clear);
+        }
+    }
+
+    private double count(String level, String result) {
+        return meterRegistry
+                .get(TwoLevelCacheManager.GETS_METRIC)
+                .tag("level", level)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private double loadCount(String outcome) {
+        return meterRegistry
+                .get(TwoLevelCacheManager.LOADS_METRIC)
+                .tag("outcome", outcome)
+                .functionCounter()
+                .count();
+    }
+
+    private void awaitCoalesced(int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loadCount("coalesced") < waiters && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(loadCount("coalesced")).isEqualTo(waiters);
+    }
+
+    private double ratio(String level) {
+        return meterRegistry
+                .get(TwoLevelCacheManager.HIT_RATIO_METRIC)
+                .tag("level", level)
+                .gauge()
+                .value();
+    }
+}
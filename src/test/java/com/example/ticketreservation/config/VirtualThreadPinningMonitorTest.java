@@ -0,0 +1,37 @@
+package com.example.ticketreservation.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("should attribute pinning to the innermost known library frame")
+    void shouldAttributeToInnermostLibraryFrame() {
+        List<String> frames = List.of(
+                "java.lang.Object.wait0:-1",
+                "org.postgresql.core.v3.QueryExecutorImpl.execute:372",
+                "com.zaxxer.hikari.pool.ProxyPreparedStatement.executeUpdate:61",
+                "com.example.ticketreservation.service.TicketService.createTicket:80");
+
+        assertThat(VirtualThreadPinningMonitor.pinnedBy(frames)).isEqualTo("jdbc");
+    }
+
+    @Test
+    @DisplayName("should classify Lettuce, application and unknown frames")
+    void shouldClassifyOtherSources() {
+        assertThat(VirtualThreadPinningMonitor.pinnedBy(
+                        List.of("io.lettuce.core.protocol.DefaultEndpoint.write:210")))
+                .isEqualTo("lettuce");
+        assertThat(VirtualThreadPinningMonitor.pinnedBy(
+                        List.of("com.example.ticketreservation.service.WaitingRoom$EventQueue.enqueue:222")))
+                .isEqualTo("application");
+        assertThat(VirtualThreadPinningMonitor.pinnedBy(List.of("java.lang.Thread.sleep:509")))
+                .isEqualTo("other");
+        assertThat(VirtualThreadPinningMonitor.pinnedBy(List.of())).isEqualTo("other");
+    }
+}
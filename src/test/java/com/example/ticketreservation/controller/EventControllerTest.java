@@ -7,10 +7,16 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.example.ticketreservation.dto.CursorPage;
+import com.example.ticketreservation.dto.EventAvailabilityResponse;
+import com.example.ticketreservation.dto.EventImportResponse;
 import com.example.ticketreservation.dto.EventRequest;
 import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.dto.EventSuggestionsResponse;
 import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.service.EventImportService;
 import com.example.ticketreservation.service.EventService;
+import com.example.ticketreservation.service.EventSuggestions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.math.BigDecimal;
@@ -35,6 +41,12 @@ class EventControllerTest {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventImportService eventImportService;
+
+    @MockBean
+    private EventSuggestions eventSuggestions;
+
     private ObjectMapper objectMapper;
     private EventResponse testEventResponse;
     private EventRequest testEventRequest;
@@ -83,20 +95,41 @@ class EventControllerTest {
                     .availableSeats(50)
                     .price(new BigDecimal("3000.00"))
                     .build();
-            when(eventService.getAllEvents()).thenReturn(List.of(testEventResponse, event2));
+            when(eventService.getAllEvents(null, null)).thenReturn(page(List.of(testEventResponse, event2), null));
 
             mockMvc.perform(get("/api/events"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().doesNotExist(CursorPages.NEXT_CURSOR_HEADER))
                     .andExpect(jsonPath("$", hasSize(2)))
                     .andExpect(jsonPath("$[0].name", is("Test Concert")))
                     .andExpect(jsonPath("$[1].name", is("Another Event")));
         }
 
+        @Test
+        @DisplayName("should pass the cursor and size through and return the next cursor in a header")
+        void shouldReturnNextCursorHeader() throws Exception {
+            when(eventService.getAllEvents("abc", 1)).thenReturn(page(List.of(testEventResponse), "def"));
+
+            mockMvc.perform(get("/api/events").param("cursor", "abc").param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(CursorPages.NEXT_CURSOR_HEADER, "def"))
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("should return 400 for a malformed cursor")
+        void shouldReturn400ForMalformedCursor() throws Exception {
+            when(eventService.getAllEvents("bad", null))
+                    .thenThrow(new IllegalArgumentException("Invalid page cursor: bad"));
+
+            mockMvc.perform(get("/api/events").param("cursor", "bad")).andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("should return empty list when no events")
         void shouldReturnEmptyListWhenNoEvents() throws Exception {
-            when(eventService.getAllEvents()).thenReturn(List.of());
+            when(eventService.getAllEvents(null, null)).thenReturn(page(List.of(), null));
 
             mockMvc.perform(get("/api/events")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
         }
@@ -130,6 +163,48 @@ class EventControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/events/availability")
+    class GetAvailabilityTests {
+
+        @Test
+        @DisplayName("should return only the seat counts of the requested events")
+        void shouldReturnSeatCounts() throws Exception {
+            when(eventService.getAvailability(List.of(1L, 2L)))
+                    .thenReturn(List.of(availability(1L, 40), availability(2L, 0)));
+
+            mockMvc.perform(get("/api/events/availability").param("ids", "1,2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].eventId", is(1)))
+                    .andExpect(jsonPath("$[0].availableSeats", is(40)))
+                    .andExpect(jsonPath("$[1].availableSeats", is(0)))
+                    .andExpect(jsonPath("$[0].name").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should return 400 when no ids are given")
+        void shouldReturn400WithoutIds() throws Exception {
+            when(eventService.getAvailability((List<Long>) null))
+                    .thenThrow(new IllegalArgumentException("At least one event id is required"));
+
+            mockMvc.perform(get("/api/events/availability")).andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return the seat count of one event, or 404")
+        void shouldReturnSeatCountOfOneEvent() throws Exception {
+            when(eventService.getAvailability(1L)).thenReturn(availability(1L, 40));
+            when(eventService.getAvailability(999L)).thenThrow(new ResourceNotFoundException("Event", "id", 999L));
+
+            mockMvc.perform(get("/api/events/1/availability"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.eventId", is(1)))
+                    .andExpect(jsonPath("$.availableSeats", is(40)));
+            mockMvc.perform(get("/api/events/999/availability")).andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/events/available")
     class GetAvailableEventsTests {
@@ -137,7 +212,7 @@ class EventControllerTest {
         @Test
         @DisplayName("should return available events")
         void shouldReturnAvailableEvents() throws Exception {
-            when(eventService.getAvailableEvents()).thenReturn(List.of(testEventResponse));
+            when(eventService.getAvailableEvents(null, null)).thenReturn(page(List.of(testEventResponse), null));
 
             mockMvc.perform(get("/api/events/available"))
                     .andExpect(status().isOk())
@@ -153,13 +228,67 @@ class EventControllerTest {
         @Test
         @DisplayName("should return events matching search term")
         void shouldReturnEventsMatchingSearchTerm() throws Exception {
-            when(eventService.searchEventsByName("Concert")).thenReturn(List.of(testEventResponse));
+            when(eventService.searchEvents("Concert", null, false, null, null))
+                    .thenReturn(page(List.of(testEventResponse), null));
 
             mockMvc.perform(get("/api/events/search").param("name", "Concert"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)))
                     .andExpect(jsonPath("$[0].name", containsString("Concert")));
         }
+
+        @Test
+        @DisplayName("should pass the venue filter and typo tolerance to the service")
+        void shouldPassVenueAndFuzzy() throws Exception {
+            when(eventService.searchEvents("Concrt", "Tokyo", true, null, null))
+                    .thenReturn(page(List.of(testEventResponse), null));
+
+            mockMvc.perform(get("/api/events/search")
+                            .param("name", "Concrt")
+                            .param("venue", "Tokyo")
+                            .param("fuzzy", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("should return 400 when neither name nor venue is given")
+        void shouldReturn400WithoutFilters() throws Exception {
+            when(eventService.searchEvents(null, null, false, null, null))
+                    .thenThrow(new IllegalArgumentException("Search needs a name or a venue"));
+
+            mockMvc.perform(get("/api/events/search")).andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/events/suggestions")
+    class SuggestEventsTests {
+
+        @Test
+        @DisplayName("should return name and venue completions for the prefix")
+        void shouldReturnCompletions() throws Exception {
+            when(eventSuggestions.suggest("tok", 5))
+                    .thenReturn(EventSuggestionsResponse.builder()
+                            .names(List.of("Tokyo Jazz Night"))
+                            .venues(List.of("Tokyo Dome", "Tokyo Forum"))
+                            .build());
+
+            mockMvc.perform(get("/api/events/suggestions").param("prefix", "tok").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.names", hasSize(1)))
+                    .andExpect(jsonPath("$.venues[0]").value("Tokyo Dome"));
+        }
+
+        @Test
+        @DisplayName("should return 400 for a limit below 1")
+        void shouldReturn400ForInvalidLimit() throws Exception {
+            when(eventSuggestions.suggest("tok", 0))
+                    .thenThrow(new IllegalArgumentException("Suggestion limit must be at least 1: 0"));
+
+            mockMvc.perform(get("/api/events/suggestions").param("prefix", "tok").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -232,6 +361,46 @@ class EventControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/events/import")
+    class ImportEventsTests {
+
+        private final EventImportResponse report = EventImportResponse.builder()
+                .imported(2)
+                .rejected(0)
+                .errors(List.of())
+                .build();
+
+        @Test
+        @DisplayName("should route NDJSON bodies to the NDJSON importer")
+        void shouldImportNdjson() throws Exception {
+            when(eventImportService.importNdjson(any())).thenReturn(report);
+
+            mockMvc.perform(post("/api/events/import")
+                            .contentType("application/x-ndjson")
+                            .content("{\"name\":\"A\"}\n{\"name\":\"B\"}\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(2));
+
+            verify(eventImportService).importNdjson(any());
+            verify(eventImportService, never()).importCsv(any());
+        }
+
+        @Test
+        @DisplayName("should route CSV bodies to the CSV importer")
+        void shouldImportCsv() throws Exception {
+            when(eventImportService.importCsv(any())).thenReturn(report);
+
+            mockMvc.perform(post("/api/events/import")
+                            .contentType("text/csv")
+                            .content("name,venue,eventDate,totalSeats,price\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.rejected").value(0));
+
+            verify(eventImportService).importCsv(any());
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /api/events/{id}")
     class DeleteEventTests {
@@ -256,4 +425,15 @@ class EventControllerTest {
             mockMvc.perform(delete("/api/events/999")).andExpect(status().isNotFound());
         }
     }
+
+    private static EventAvailabilityResponse availability(Long eventId, int availableSeats) {
+        return EventAvailabilityResponse.builder()
+                .eventId(eventId)
+                .availableSeats(availableSeats)
+                .build();
+    }
+
+    private static CursorPage<EventResponse> page(List<EventResponse> items, String nextCursor) {
+        return CursorPage.<EventResponse>builder().items(items).nextCursor(nextCursor).build();
+    }
 }
@@ -7,7 +7,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.ticketreservation.service.EventImportService;
 import com.example.ticketreservation.service.EventService;
+import com.example.ticketreservation.service.EventSuggestions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.math.BigDecimal;
@@ -34,6 +36,12 @@ class EventControllerValidationTest {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventImportService eventImportService;
+
+    @MockBean
+    private EventSuggestions eventSuggestions;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
@@ -0,0 +1,152 @@
+package com.example.ticketreservation.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.ticketreservation.dto.SeatHoldResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.SeatHoldStatus;
+import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.service.SeatHoldService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(SeatHoldController.class)
+class SeatHoldControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private SeatHoldService seatHoldService;
+
+    private SeatHoldResponse testHold;
+    private TicketRequest testRequest;
+
+    @BeforeEach
+    void setUp() {
+        testHold = SeatHoldResponse.builder()
+                .id(1L)
+                .eventId(1L)
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .numberOfSeats(2)
+                .status(SeatHoldStatus.HELD)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+
+        testRequest = TicketRequest.builder()
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .numberOfSeats(2)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("POST /api/events/{eventId}/holds")
+    class HoldSeatsTests {
+
+        @Test
+        @DisplayName("should hold seats and return 201")
+        void shouldHoldSeats() throws Exception {
+            when(seatHoldService.holdSeats(eq(1L), any(TicketRequest.class))).thenReturn(testHold);
+
+            mockMvc.perform(post("/api/events/1/holds")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(1))
+                    .andExpect(jsonPath("$.status").value("HELD"));
+        }
+
+        @Test
+        @DisplayName("should return 400 when seats are insufficient")
+        void shouldReturn400WhenInsufficientSeats() throws Exception {
+            when(seatHoldService.holdSeats(eq(1L), any(TicketRequest.class)))
+                    .thenThrow(new InsufficientSeatsException(2, 1));
+
+            mockMvc.perform(post("/api/events/1/holds")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/holds/{id}/confirm")
+    class ConfirmHoldTests {
+
+        @Test
+        @DisplayName("should confirm hold and return ticket")
+        void shouldConfirmHold() throws Exception {
+            TicketResponse ticket = TicketResponse.builder()
+                    .id(10L)
+                    .ticketCode("TKT-12345678")
+                    .eventId(1L)
+                    .numberOfSeats(2)
+                    .totalAmount(new BigDecimal("2000.0"))
+                    .status(TicketStatus.CONFIRMED)
+                    .build();
+            when(seatHoldService.confirmHold(1L)).thenReturn(ticket);
+
+            mockMvc.perform(post("/api/holds/1/confirm"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(10))
+                    .andExpect(jsonPath("$.status").value("CONFIRMED"));
+        }
+
+        @Test
+        @DisplayName("should return 400 when hold has expired")
+        void shouldReturn400WhenExpired() throws Exception {
+            when(seatHoldService.confirmHold(1L)).thenThrow(new IllegalStateException("Seat hold has expired"));
+
+            mockMvc.perform(post("/api/holds/1/confirm")).andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 404 when hold not found")
+        void shouldReturn404WhenNotFound() throws Exception {
+            when(seatHoldService.confirmHold(999L)).thenThrow(new ResourceNotFoundException("SeatHold", "id", 999L));
+
+            mockMvc.perform(post("/api/holds/999/confirm")).andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("PATCH /api/holds/{id}/release")
+    class ReleaseHoldTests {
+
+        @Test
+        @DisplayName("should release hold")
+        void shouldReleaseHold() throws Exception {
+            SeatHoldResponse released = SeatHoldResponse.builder()
+                    .id(1L)
+                    .eventId(1L)
+                    .status(SeatHoldStatus.RELEASED)
+                    .build();
+            when(seatHoldService.releaseHold(1L)).thenReturn(released);
+
+            mockMvc.perform(patch("/api/holds/1/release"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("RELEASED"));
+        }
+    }
+}
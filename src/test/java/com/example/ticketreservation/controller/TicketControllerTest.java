@@ -5,16 +5,33 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.example.ticketreservation.dto.BulkTicketItem;
+import com.example.ticketreservation.dto.BulkTicketRequest;
+import com.example.ticketreservation.dto.BulkTicketResponse;
+import com.example.ticketreservation.dto.BulkTicketResult;
+import com.example.ticketreservation.dto.CursorPage;
 import com.example.ticketreservation.dto.TicketRequest;
 import com.example.ticketreservation.dto.TicketResponse;
 import com.example.ticketreservation.entity.TicketStatus;
 import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.QueueAdmissionException;
 import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.exception.SoldOutException;
+import com.example.ticketreservation.service.BulkBookingPolicy;
+import com.example.ticketreservation.service.BulkBookingService;
+import com.example.ticketreservation.service.TicketExportFormat;
+import com.example.ticketreservation.service.TicketExportService;
 import com.example.ticketreservation.service.TicketService;
+import com.example.ticketreservation.service.WaitingRoom;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +41,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(TicketController.class)
 class TicketControllerTest {
@@ -37,6 +55,15 @@ class TicketControllerTest {
     @MockBean
     private TicketService ticketService;
 
+    @MockBean
+    private WaitingRoom waitingRoom;
+
+    @MockBean
+    private BulkBookingService bulkBookingService;
+
+    @MockBean
+    private TicketExportService ticketExportService;
+
     private TicketResponse testResponse;
     private TicketRequest testRequest;
 
@@ -70,10 +97,11 @@ class TicketControllerTest {
         @Test
         @DisplayName("should return all tickets")
         void shouldReturnAllTickets() throws Exception {
-            when(ticketService.getAllTickets()).thenReturn(List.of(testResponse));
+            when(ticketService.getAllTickets(null, null)).thenReturn(page(List.of(testResponse), null));
 
             mockMvc.perform(get("/api/tickets"))
                     .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(CursorPages.NEXT_CURSOR_HEADER))
                     .andExpect(jsonPath("$[0].id").value(1))
                     .andExpect(jsonPath("$[0].ticketCode").value("TKT-12345678"));
         }
@@ -81,7 +109,7 @@ class TicketControllerTest {
         @Test
         @DisplayName("should return empty list when no tickets")
         void shouldReturnEmptyList() throws Exception {
-            when(ticketService.getAllTickets()).thenReturn(List.of());
+            when(ticketService.getAllTickets(null, null)).thenReturn(page(List.of(), null));
 
             mockMvc.perform(get("/api/tickets"))
                     .andExpect(status().isOk())
@@ -135,7 +163,8 @@ class TicketControllerTest {
         @Test
         @DisplayName("should return tickets for email")
         void shouldReturnTicketsForEmail() throws Exception {
-            when(ticketService.getTicketsByEmail("john@example.com")).thenReturn(List.of(testResponse));
+            when(ticketService.getTicketsByEmail("john@example.com", null, null))
+                    .thenReturn(page(List.of(testResponse), null));
 
             mockMvc.perform(get("/api/tickets/email/john@example.com"))
                     .andExpect(status().isOk())
@@ -150,12 +179,81 @@ class TicketControllerTest {
         @Test
         @DisplayName("should return tickets for event")
         void shouldReturnTicketsForEvent() throws Exception {
-            when(ticketService.getTicketsByEventId(1L)).thenReturn(List.of(testResponse));
+            when(ticketService.getTicketsByEventId(1L, null, null)).thenReturn(page(List.of(testResponse), null));
 
             mockMvc.perform(get("/api/events/1/tickets"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$[0].eventId").value(1));
         }
+
+        @Test
+        @DisplayName("should pass the cursor and size through and return the next cursor in a header")
+        void shouldReturnNextCursorHeader() throws Exception {
+            when(ticketService.getTicketsByEventId(1L, "abc", 20)).thenReturn(page(List.of(testResponse), "def"));
+
+            mockMvc.perform(get("/api/events/1/tickets").param("cursor", "abc").param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(CursorPages.NEXT_CURSOR_HEADER, "def"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/events/{eventId}/tickets/export")
+    class ExportTicketsTests {
+
+        @Test
+        @DisplayName("should stream the export as a CSV attachment")
+        void shouldStreamCsvAttachment() throws Exception {
+            doAnswer(invocation -> {
+                        OutputStream out = invocation.getArgument(2, OutputStream.class);
+                        out.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+                        return 1L;
+                    })
+                    .when(ticketExportService)
+                    .exportTickets(eq(1L), eq(TicketExportFormat.CSV), any(OutputStream.class));
+
+            MvcResult result = mockMvc.perform(get("/api/events/1/tickets/export").param("format", "csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                    .andExpect(header().string(
+                            "Content-Disposition", "attachment; filename=\"event-1-tickets.csv\""))
+                    .andExpect(content().string("id\r\n1\r\n"));
+        }
+
+        @Test
+        @DisplayName("should default to NDJSON")
+        void shouldDefaultToNdjson() throws Exception {
+            MvcResult result = mockMvc.perform(get("/api/events/1/tickets/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+            verify(ticketExportService).exportTickets(eq(1L), eq(TicketExportFormat.NDJSON), any(OutputStream.class));
+        }
+
+        @Test
+        @DisplayName("should return 404 before streaming when the event does not exist")
+        void shouldReturn404ForUnknownEvent() throws Exception {
+            doThrow(new ResourceNotFoundException("Event", "id", 999L))
+                    .when(ticketExportService)
+                    .requireEvent(999L);
+
+            mockMvc.perform(get("/api/events/999/tickets/export")).andExpect(status().isNotFound());
+            verify(ticketExportService, never()).exportTickets(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should return 400 for an unsupported format")
+        void shouldReturn400ForUnsupportedFormat() throws Exception {
+            mockMvc.perform(get("/api/events/1/tickets/export").param("format", "xml"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -198,6 +296,207 @@ class TicketControllerTest {
                             .content(objectMapper.writeValueAsString(testRequest)))
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("should return 400 without timestamp for sold-out fast path rejections")
+        void shouldReturn400WhenSoldOut() throws Exception {
+            when(ticketService.createTicket(eq(1L), any(TicketRequest.class))).thenThrow(SoldOutException.INSTANCE);
+
+            mockMvc.perform(post("/api/events/1/tickets")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(SoldOutException.INSTANCE.getMessage()))
+                    .andExpect(jsonPath("$.timestamp").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should pass the idempotency key header to the service")
+        void shouldPassIdempotencyKey() throws Exception {
+            when(ticketService.createTicket(eq(1L), any(TicketRequest.class))).thenReturn(testResponse);
+
+            mockMvc.perform(post("/api/events/1/tickets")
+                            .header("Idempotency-Key", "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isCreated());
+
+            verify(ticketService).createTicket(eq(1L), argThat(request -> "key-1".equals(request.getIdempotencyKey())));
+        }
+
+        @Test
+        @DisplayName("should pass the queue token to the waiting room")
+        void shouldPassQueueTokenToWaitingRoom() throws Exception {
+            when(ticketService.createTicket(eq(1L), any(TicketRequest.class))).thenReturn(testResponse);
+
+            mockMvc.perform(post("/api/events/1/tickets")
+                            .header("X-Queue-Token", "token-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isCreated());
+
+            verify(waitingRoom).admit(1L, "token-1");
+        }
+
+        @Test
+        @DisplayName("should return 429 with Retry-After when not admitted yet")
+        void shouldReturn429WhenNotAdmitted() throws Exception {
+            doThrow(new QueueAdmissionException("Queue token has not been admitted yet", 120, 3))
+                    .when(waitingRoom)
+                    .admit(1L, "token-1");
+
+            mockMvc.perform(post("/api/events/1/tickets")
+                            .header("X-Queue-Token", "token-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "3"))
+                    .andExpect(jsonPath("$.position").value(120));
+
+            verify(ticketService, never()).createTicket(any(), any());
+        }
+
+        @Test
+        @DisplayName("should replay a known idempotency key without using up the queue token again")
+        void shouldReplayKnownKeyWithoutAdmission() throws Exception {
+            when(waitingRoom.isEnabled()).thenReturn(true);
+            when(ticketService.findReplayedTicket(
+                            eq(1L), argThat(request -> "key-1".equals(request.getIdempotencyKey()))))
+                    .thenReturn(Optional.of(testResponse));
+            doThrow(new QueueAdmissionException("Queue token has already been used", -1, 1))
+                    .when(waitingRoom)
+                    .admit(1L, "token-1");
+
+            mockMvc.perform(post("/api/events/1/tickets")
+                            .header("X-Queue-Token", "token-1")
+                            .header("Idempotency-Key", "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(1));
+
+            verify(waitingRoom, never()).admit(any(), any());
+            verify(ticketService, never()).createTicket(any(), any());
+        }
+
+        @Test
+        @DisplayName("should admit through the queue when the idempotency key is new")
+        void shouldAdmitNewKey() throws Exception {
+            when(waitingRoom.isEnabled()).thenReturn(true);
+            when(ticketService.findReplayedTicket(eq(1L), any(TicketRequest.class)))
+                    .thenReturn(Optional.empty());
+            when(ticketService.createTicket(eq(1L), any(TicketRequest.class))).thenReturn(testResponse);
+
+            mockMvc.perform(post("/api/events/1/tickets")
+                            .header("X-Queue-Token", "token-1")
+                            .header("Idempotency-Key", "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isCreated());
+
+            verify(waitingRoom).admit(1L, "token-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/tickets/bulk")
+    class CreateTicketsInBulkTests {
+
+        @Test
+        @DisplayName("should book a bulk order and default to all-or-nothing")
+        void shouldBookBulkOrder() throws Exception {
+            BulkTicketResponse bulkResponse = BulkTicketResponse.builder()
+                    .policy(BulkBookingPolicy.ALL_OR_NOTHING)
+                    .bookedCount(1)
+                    .rejectedCount(0)
+                    .results(List.of(BulkTicketResult.builder()
+                            .index(0)
+                            .eventId(1L)
+                            .ticket(testResponse)
+                            .build()))
+                    .build();
+            when(bulkBookingService.book(any(BulkTicketRequest.class))).thenReturn(bulkResponse);
+
+            mockMvc.perform(post("/api/tickets/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"items\":[{\"eventId\":1,\"ticket\":"
+                                    + objectMapper.writeValueAsString(testRequest) + "}]}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.bookedCount").value(1))
+                    .andExpect(jsonPath("$.results[0].ticket.ticketCode").value("TKT-12345678"));
+
+            verify(bulkBookingService)
+                    .book(argThat(request -> request.getPolicy() == BulkBookingPolicy.ALL_OR_NOTHING));
+        }
+
+        @Test
+        @DisplayName("should pass every event of the order and its queue token to the waiting room")
+        void shouldAdmitBulkOrderThroughWaitingRoom() throws Exception {
+            when(bulkBookingService.book(any(BulkTicketRequest.class)))
+                    .thenReturn(BulkTicketResponse.builder()
+                            .policy(BulkBookingPolicy.ALL_OR_NOTHING)
+                            .results(List.of())
+                            .build());
+            String ticket = objectMapper.writeValueAsString(testRequest);
+
+            mockMvc.perform(post("/api/tickets/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"queueTokens\":{\"1\":\"token-1\",\"2\":\"token-2\"},\"items\":["
+                                    + "{\"eventId\":1,\"ticket\":" + ticket + "},"
+                                    + "{\"eventId\":2,\"ticket\":" + ticket + "},"
+                                    + "{\"eventId\":1,\"ticket\":" + ticket + "}]}"))
+                    .andExpect(status().isCreated());
+
+            verify(waitingRoom).admitAll(Set.of(1L, 2L), Map.of(1L, "token-1", 2L, "token-2"));
+        }
+
+        @Test
+        @DisplayName("should return 429 when an event of the order is not admitted yet")
+        void shouldReturn429WhenBulkOrderNotAdmitted() throws Exception {
+            doThrow(new QueueAdmissionException("Queue token has not been admitted yet", 7, 2))
+                    .when(waitingRoom)
+                    .admitAll(any(), any());
+
+            mockMvc.perform(post("/api/tickets/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"items\":[{\"eventId\":1,\"ticket\":"
+                                    + objectMapper.writeValueAsString(testRequest) + "}]}"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "2"));
+
+            verifyNoInteractions(bulkBookingService);
+        }
+
+        @Test
+        @DisplayName("should validate every item of the order")
+        void shouldValidateItems() throws Exception {
+            BulkTicketRequest invalid = BulkTicketRequest.builder()
+                    .items(List.of(BulkTicketItem.builder()
+                            .eventId(1L)
+                            .ticket(TicketRequest.builder()
+                                    .customerName("John Doe")
+                                    .customerEmail("not-an-email")
+                                    .numberOfSeats(0)
+                                    .build())
+                            .build()))
+                    .build();
+
+            mockMvc.perform(post("/api/tickets/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(invalid)))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(bulkBookingService);
+        }
+
+        @Test
+        @DisplayName("should reject empty orders")
+        void shouldRejectEmptyOrder() throws Exception {
+            mockMvc.perform(post("/api/tickets/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"items\":[]}"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -235,4 +534,8 @@ class TicketControllerTest {
             mockMvc.perform(patch("/api/tickets/999/cancel")).andExpect(status().isNotFound());
         }
     }
+
+    private static CursorPage<TicketResponse> page(List<TicketResponse> items, String nextCursor) {
+        return CursorPage.<TicketResponse>builder().items(items).nextCursor(nextCursor).build();
+    }
 }
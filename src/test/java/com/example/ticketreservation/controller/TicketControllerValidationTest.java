@@ -6,7 +6,10 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.ticketreservation.service.BulkBookingService;
+import com.example.ticketreservation.service.TicketExportService;
 import com.example.ticketreservation.service.TicketService;
+import com.example.ticketreservation.service.WaitingRoom;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +33,15 @@ class TicketControllerValidationTest {
     @MockBean
     private TicketService ticketService;
 
+    @MockBean
+    private WaitingRoom waitingRoom;
+
+    @MockBean
+    private BulkBookingService bulkBookingService;
+
+    @MockBean
+    private TicketExportService ticketExportService;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
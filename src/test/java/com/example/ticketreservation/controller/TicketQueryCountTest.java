@@ -0,0 +1,150 @@
+package com.example.ticketreservation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import com.example.ticketreservation.service.EventService;
+import com.example.ticketreservation.service.TicketCodeGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Counts the SQL statements each ticket read endpoint issues, end to end with open-in-view on as
+ * in production, so a lazy association touched while building responses fails here instead of
+ * quietly adding a query per row. Tickets span several events so an N+1 cannot hide behind a
+ * single cached event.
+ */
+@SpringBootTest(
+        properties = {
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+        })
+@AutoConfigureMockMvc
+@DisplayName("Ticket endpoint SQL statement counts")
+class TicketQueryCountTest {
+
+    private static final int EVENT_COUNT = 3;
+    private static final int TICKETS_PER_EVENT = 2;
+    private static final String EMAIL = "fan@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TicketCodeGenerator ticketCodeGenerator;
+
+    private final List<Ticket> tickets = new ArrayList<>();
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        tickets.clear();
+        for (int e = 0; e < EVENT_COUNT; e++) {
+            eventId = eventService.createEvent(eventRequest("Counted " + e)).getId();
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            for (int t = 0; t < TICKETS_PER_EVENT; t++) {
+                tickets.add(ticketRepository.save(Ticket.builder()
+                        .ticketCode(ticketCodeGenerator.next())
+                        .event(event)
+                        .customerName("Fan " + t)
+                        .customerEmail(EMAIL)
+                        .numberOfSeats(1)
+                        .totalAmount(event.getPrice())
+                        .build()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets should load a page of tickets with their events in one statement")
+    void allTickets() throws Exception {
+        assertStatements(1, get("/api/tickets"))
+                .andExpect(jsonPath("$.length()").value(EVENT_COUNT * TICKETS_PER_EVENT));
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/email/{email} should load tickets with their events in one statement")
+    void ticketsByEmail() throws Exception {
+        assertStatements(1, get("/api/tickets/email/{email}", EMAIL))
+                .andExpect(jsonPath("$.length()").value(EVENT_COUNT * TICKETS_PER_EVENT));
+    }
+
+    @Test
+    @DisplayName("GET /api/events/{eventId}/tickets should load tickets with their event in one statement")
+    void ticketsByEvent() throws Exception {
+        assertStatements(1, get("/api/events/{eventId}/tickets", eventId))
+                .andExpect(jsonPath("$.length()").value(TICKETS_PER_EVENT));
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/{id} should load the ticket with its event in one statement")
+    void ticketById() throws Exception {
+        assertStatements(1, get("/api/tickets/{id}", tickets.get(0).getId()))
+                .andExpect(jsonPath("$.eventName").value("Counted 0"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tickets/code/{code} should load the ticket with its event in one statement")
+    void ticketByCode() throws Exception {
+        assertStatements(1, get("/api/tickets/code/{code}", tickets.get(0).getTicketCode()))
+                .andExpect(jsonPath("$.eventName").value("Counted 0"));
+    }
+
+    /** Performs a successful request and checks how many SQL statements it prepared. */
+    private ResultActions assertStatements(long expected, RequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResultActions result = mockMvc.perform(request).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements prepared for %s", result.andReturn().getRequest().getRequestURI())
+                .isEqualTo(expected);
+        return result;
+    }
+
+    private static EventRequest eventRequest(String name) {
+        return EventRequest.builder()
+                .name(name)
+                .venue("Tokyo Dome")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(100)
+                .price(new BigDecimal("5000.0"))
+                .build();
+    }
+}
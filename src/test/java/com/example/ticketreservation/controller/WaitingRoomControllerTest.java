@@ -0,0 +1,80 @@
+package com.example.ticketreservation.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.example.ticketreservation.dto.QueueTokenResponse;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.service.QueueTokenStatus;
+import com.example.ticketreservation.service.WaitingRoom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(WaitingRoomController.class)
+class WaitingRoomControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WaitingRoom waitingRoom;
+
+    @Nested
+    @DisplayName("POST /api/events/{eventId}/queue")
+    class JoinQueueTests {
+
+        @Test
+        @DisplayName("should return a queue token with position and ETA")
+        void shouldReturnQueueToken() throws Exception {
+            when(waitingRoom.join(1L))
+                    .thenReturn(QueueTokenResponse.builder()
+                            .token("token-1")
+                            .eventId(1L)
+                            .status(QueueTokenStatus.WAITING)
+                            .position(42)
+                            .estimatedWaitSeconds(1)
+                            .build());
+
+            mockMvc.perform(post("/api/events/1/queue"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.token").value("token-1"))
+                    .andExpect(jsonPath("$.status").value("WAITING"))
+                    .andExpect(jsonPath("$.position").value(42));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/events/{eventId}/queue/{token}")
+    class GetQueueStatusTests {
+
+        @Test
+        @DisplayName("should return current status")
+        void shouldReturnStatus() throws Exception {
+            when(waitingRoom.status(1L, "token-1"))
+                    .thenReturn(QueueTokenResponse.builder()
+                            .token("token-1")
+                            .eventId(1L)
+                            .status(QueueTokenStatus.ADMITTED)
+                            .build());
+
+            mockMvc.perform(get("/api/events/1/queue/token-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("ADMITTED"));
+        }
+
+        @Test
+        @DisplayName("should return 404 for unknown tokens")
+        void shouldReturn404ForUnknownToken() throws Exception {
+            when(waitingRoom.status(1L, "missing"))
+                    .thenThrow(new ResourceNotFoundException("Queue token", "token", "missing"));
+
+            mockMvc.perform(get("/api/events/1/queue/missing")).andExpect(status().isNotFound());
+        }
+    }
+}
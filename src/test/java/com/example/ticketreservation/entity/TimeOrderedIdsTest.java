@@ -0,0 +1,96 @@
+package com.example.ticketreservation.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimeOrderedIds Tests")
+class TimeOrderedIdsTest {
+
+    private static final long NOW = TimeOrderedIds.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("should encode the creation time and stay strictly increasing")
+    void shouldEncodeTimeAndIncrease() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIds ids = new TimeOrderedIds(3, clock::get);
+
+        long first = ids.next();
+        long second = ids.next();
+        clock.addAndGet(5);
+        long third = ids.next();
+
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+        assertThat(TimeOrderedIds.timestampOf(first)).isEqualTo(NOW);
+        assertThat(TimeOrderedIds.timestampOf(third)).isEqualTo(NOW + 5);
+    }
+
+    @Test
+    @DisplayName("should run ahead of the clock instead of repeating ids")
+    void shouldRunAheadWhenSequenceExhaustedOrClockMovesBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIds ids = new TimeOrderedIds(0, clock::get);
+        Set<Long> seen = new HashSet<>();
+        long previous = -1;
+
+        for (int i = 0; i < 1_000; i++) {
+            if (i == 500) {
+                clock.addAndGet(-10);
+            }
+            long id = ids.next();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(seen.add(id)).isTrue();
+            previous = id;
+        }
+        assertThat(TimeOrderedIds.timestampOf(previous)).isGreaterThan(NOW);
+    }
+
+    @Test
+    @DisplayName("should not reissue ids a restarted node issued ahead of the clock")
+    void shouldStartAboveStoredIdsAfterRestart() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIds beforeRestart = new TimeOrderedIds(0, clock::get);
+        long highest = -1;
+        for (int i = 0; i < 1_000; i++) {
+            highest = beforeRestart.next();
+        }
+
+        TimeOrderedIds afterRestart = new TimeOrderedIds(0, clock::get);
+        afterRestart.advancePast(highest);
+
+        assertThat(afterRestart.next()).isGreaterThan(highest);
+        assertThat(TimeOrderedIds.timestampOf(afterRestart.next())).isEqualTo(TimeOrderedIds.timestampOf(highest) + 1);
+    }
+
+    @Test
+    @DisplayName("should keep ids of different nodes apart")
+    void shouldSeparateNodes() {
+        long sameMillis = NOW;
+        long nodeA = new TimeOrderedIds(1, () -> sameMillis).next();
+        long nodeB = new TimeOrderedIds(2, () -> sameMillis).next();
+
+        assertThat(nodeA).isNotEqualTo(nodeB);
+    }
+
+    @Test
+    @DisplayName("should stay within the JavaScript safe integer range until 2058")
+    void shouldStayWithinSafeIntegerRange() {
+        long lastMillis = (1L << 40) - 1;
+
+        assertThat(TimeOrderedIds.compose(lastMillis, TimeOrderedIds.MAX_NODE_ID, 255))
+                .isLessThanOrEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("should reject node ids outside the node range")
+    void shouldRejectInvalidNodeId() {
+        assertThatThrownBy(() -> TimeOrderedIds.forNode(TimeOrderedIds.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ticketreservation.config.BookingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BookingContentionTracker Tests")
+class BookingContentionTrackerTest {
+
+    private BookingProperties bookingProperties;
+    private MeterRegistry meterRegistry;
+    private BookingContentionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        bookingProperties = new BookingProperties();
+        bookingProperties.getOptimistic().setMinSamples(10);
+        bookingProperties.getOptimistic().setConflictRateThreshold(0.5);
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new BookingContentionTracker(bookingProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should stay optimistic for unknown and low-contention events")
+    void shouldStayOptimisticForLowContention() {
+        assertThat(tracker.prefersPessimistic(1L)).isFalse();
+
+        for (int i = 0; i < 50; i++) {
+            tracker.recordSuccess(1L);
+        }
+        tracker.recordConflict(1L);
+
+        assertThat(tracker.prefersPessimistic(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should switch to pessimistic once the conflict rate crosses the threshold")
+    void shouldSwitchOnHighConflictRate() {
+        for (int i = 0; i < 30; i++) {
+            tracker.recordConflict(1L);
+        }
+
+        assertThat(tracker.prefersPessimistic(1L)).isTrue();
+        assertThat(tracker.prefersPessimistic(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should resume optimistic mode after the cooldown")
+    void shouldResumeAfterCooldown() {
+        bookingProperties.getOptimistic().setPessimisticCooldown(Duration.ZERO);
+        for (int i = 0; i < 30; i++) {
+            tracker.recordConflict(1L);
+        }
+
+        assertThat(tracker.prefersPessimistic(1L)).isTrue();
+        assertThat(tracker.prefersPessimistic(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should count retries and aborts per event and across events")
+    void shouldCountRetriesAndAborts() {
+        tracker.recordConflict(7L);
+        tracker.recordConflict(7L);
+        tracker.recordAbort(7L);
+        tracker.recordConflict(8L);
+
+        assertThat(tracker.contention(7L)).hasValueSatisfying(contention -> {
+            assertThat(contention.getRetries()).isEqualTo(2);
+            assertThat(contention.getAborts()).isEqualTo(1);
+        });
+        assertThat(tracker.mostContended(1))
+                .singleElement()
+                .satisfies(contention -> assertThat(contention.getEventId()).isEqualTo(7L));
+        assertThat(meterRegistry.get("booking.optimistic.retries").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("booking.optimistic.aborts").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.optimistic.retries").meters()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should count the conflict that aborts a booking as a sample")
+    void shouldSampleAbortingConflict() {
+        for (int i = 0; i < 15; i++) {
+            tracker.recordAbort(1L);
+        }
+
+        assertThat(tracker.prefersPessimistic(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should forget a deleted event")
+    void shouldForgetDeletedEvent() {
+        for (int i = 0; i < 30; i++) {
+            tracker.recordConflict(1L);
+        }
+
+        tracker.onEventChanged(EventChangedEvent.deleted(1L));
+
+        assertThat(tracker.prefersPessimistic(1L)).isFalse();
+        assertThat(tracker.contention(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should forget an event that has seen no booking for the idle TTL")
+    void shouldForgetIdleEvent() {
+        bookingProperties.getOptimistic().setContentionIdleTtl(Duration.ofMinutes(30));
+        AtomicLong nanos = new AtomicLong();
+        tracker = new BookingContentionTracker(bookingProperties, meterRegistry, nanos::get);
+        tracker.recordConflict(1L);
+        tracker.recordConflict(2L);
+
+        nanos.addAndGet(Duration.ofMinutes(20).toNanos());
+        tracker.recordSuccess(2L);
+        nanos.addAndGet(Duration.ofMinutes(20).toNanos());
+
+        assertThat(tracker.contention(1L)).isEmpty();
+        assertThat(tracker.contention(2L)).isPresent();
+        assertThat(tracker.mostContended(10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("exceedsThreshold should require the minimum sample count")
+    void exceedsThresholdShouldRequireMinimumSamples() {
+        assertThat(BookingContentionTracker.exceedsThreshold(5, 0.9, 10, 0.5)).isFalse();
+        assertThat(BookingContentionTracker.exceedsThreshold(10, 0.9, 10, 0.5)).isTrue();
+        assertThat(BookingContentionTracker.exceedsThreshold(10, 0.5, 10, 0.5)).isFalse();
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.dto.BulkTicketItem;
+import com.example.ticketreservation.dto.BulkTicketRequest;
+import com.example.ticketreservation.dto.BulkTicketResponse;
+import com.example.ticketreservation.dto.BulkTicketResult;
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.exception.SoldOutException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("BulkBookingService Tests")
+class BulkBookingServiceTest {
+
+    @Autowired
+    private BulkBookingService bulkBookingService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private SoldOutRegistry soldOutRegistry;
+
+    private Long firstEventId;
+    private Long secondEventId;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        firstEventId = createEvent("Bulk Concert A", 10);
+        secondEventId = createEvent("Bulk Concert B", 10);
+    }
+
+    @Test
+    @DisplayName("should book items across events and report them in request order")
+    void shouldBookAcrossEvents() {
+        BulkTicketResponse response = bulkBookingService.book(order(
+                BulkBookingPolicy.ALL_OR_NOTHING,
+                item(secondEventId, 3),
+                item(firstEventId, 2),
+                item(secondEventId, 1)));
+
+        assertThat(response.getBookedCount()).isEqualTo(3);
+        assertThat(response.getRejectedCount()).isZero();
+        assertThat(response.getResults())
+                .extracting(BulkTicketResult::getEventId)
+                .containsExactly(secondEventId, firstEventId, secondEventId);
+        assertThat(response.getResults()).allSatisfy(result -> assertThat(result.getTicket()).isNotNull());
+        assertThat(availableSeats(firstEventId)).isEqualTo(8);
+        assertThat(availableSeats(secondEventId)).isEqualTo(6);
+        assertThat(ticketRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should roll back the whole order when one item cannot be booked")
+    void shouldRollBackAllOrNothing() {
+        BulkTicketRequest request =
+                order(BulkBookingPolicy.ALL_OR_NOTHING, item(firstEventId, 2), item(secondEventId, 11));
+
+        assertThatThrownBy(() -> bulkBookingService.book(request))
+                .isInstanceOf(InsufficientSeatsException.class)
+                .hasMessageContaining("Item 1");
+
+        assertThat(availableSeats(firstEventId)).isEqualTo(10);
+        assertThat(availableSeats(secondEventId)).isEqualTo(10);
+        assertThat(ticketRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should book what fits and report the rest when best effort")
+    void shouldBookBestEffort() {
+        BulkTicketResponse response = bulkBookingService.book(order(
+                BulkBookingPolicy.BEST_EFFORT,
+                item(firstEventId, 6),
+                item(firstEventId, 6),
+                item(firstEventId, 4),
+                item(Long.MAX_VALUE, 1)));
+
+        assertThat(response.getBookedCount()).isEqualTo(2);
+        assertThat(response.getRejectedCount()).isEqualTo(2);
+        assertThat(response.getResults().get(1).getError()).contains("only 4 available");
+        assertThat(response.getResults().get(3).getError()).contains("Event not found");
+        assertThat(availableSeats(firstEventId)).isZero();
+        assertThat(ticketRepository.countByEventId(firstEventId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reject all-or-nothing orders for unknown events")
+    void shouldRejectUnknownEvent() {
+        BulkTicketRequest request =
+                order(BulkBookingPolicy.ALL_OR_NOTHING, item(firstEventId, 1), item(Long.MAX_VALUE, 1));
+
+        assertThatThrownBy(() -> bulkBookingService.book(request)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(ticketRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject all-or-nothing orders for events known to be sold out before locking")
+    void shouldRejectKnownSoldOutAllOrNothing() {
+        soldOutRegistry.record(firstEventId, 0, 2);
+        BulkTicketRequest request =
+                order(BulkBookingPolicy.ALL_OR_NOTHING, item(firstEventId, 2), item(firstEventId, 1));
+
+        assertThatThrownBy(() -> bulkBookingService.book(request)).isInstanceOf(SoldOutException.class);
+        assertThat(availableSeats(firstEventId)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should skip events known to be sold out in best-effort orders")
+    void shouldSkipKnownSoldOutBestEffort() {
+        soldOutRegistry.record(firstEventId, 0, 1);
+
+        BulkTicketResponse response = bulkBookingService.book(
+                order(BulkBookingPolicy.BEST_EFFORT, item(firstEventId, 2), item(secondEventId, 2)));
+
+        assertThat(response.getBookedCount()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getError()).isEqualTo(SoldOutException.INSTANCE.getMessage());
+        assertThat(availableSeats(firstEventId)).isEqualTo(10);
+        assertThat(availableSeats(secondEventId)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("should not deadlock when concurrent orders list events in opposite order")
+    void shouldNotDeadlockOnOppositeOrder() throws Exception {
+        int orderCount = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(orderCount);
+        List<Future<BulkTicketResponse>> futures = new ArrayList<>();
+
+        for (int i = 0; i < orderCount; i++) {
+            BulkTicketRequest request = i % 2 == 0
+                    ? order(BulkBookingPolicy.ALL_OR_NOTHING, item(firstEventId, 1), item(secondEventId, 1))
+                    : order(BulkBookingPolicy.ALL_OR_NOTHING, item(secondEventId, 1), item(firstEventId, 1));
+            futures.add(executor.submit(() -> {
+                start.await();
+                return bulkBookingService.book(request);
+            }));
+        }
+        start.countDown();
+        for (Future<BulkTicketResponse> future : futures) {
+            try {
+                assertThat(future.get(30, TimeUnit.SECONDS).getBookedCount()).isEqualTo(2);
+            } catch (ExecutionException e) {
+                throw new AssertionError(e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        assertThat(availableSeats(firstEventId)).isZero();
+        assertThat(availableSeats(secondEventId)).isZero();
+        assertThat(ticketRepository.count()).isEqualTo(2L * orderCount);
+    }
+
+    @Test
+    @DisplayName("should group item indexes by ascending event id")
+    void shouldGroupByAscendingEventId() {
+        List<BulkTicketItem> items = List.of(item(3L, 1), item(1L, 1), item(3L, 1), item(2L, 1));
+
+        assertThat(BulkBookingService.groupByEvent(items))
+                .containsExactly(Map.entry(1L, List.of(1)), Map.entry(2L, List.of(3)), Map.entry(3L, List.of(0, 2)));
+    }
+
+    private Long createEvent(String name, int totalSeats) {
+        return eventService
+                .createEvent(EventRequest.builder()
+                        .name(name)
+                        .venue("Tokyo Dome")
+                        .eventDate(LocalDateTime.now().plusDays(30))
+                        .totalSeats(totalSeats)
+                        .price(new BigDecimal("5000.0"))
+                        .build())
+                .getId();
+    }
+
+    private int availableSeats(Long eventId) {
+        return eventRepository.findById(eventId).orElseThrow().getAvailableSeats();
+    }
+
+    private static BulkTicketRequest order(BulkBookingPolicy policy, BulkTicketItem... items) {
+        return BulkTicketRequest.builder().policy(policy).items(List.of(items)).build();
+    }
+
+    private static BulkTicketItem item(Long eventId, int seats) {
+        return BulkTicketItem.builder()
+                .eventId(eventId)
+                .ticket(TicketRequest.builder()
+                        .customerName("Reseller")
+                        .customerEmail("reseller@example.com")
+                        .numberOfSeats(seats)
+                        .build())
+                .build();
+    }
+}
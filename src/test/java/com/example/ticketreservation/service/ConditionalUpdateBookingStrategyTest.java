@@ -0,0 +1,94 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "booking.mode=conditional-update")
+@DisplayName("ConditionalUpdateBookingStrategy Tests")
+class ConditionalUpdateBookingStrategyTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        EventRequest eventRequest = EventRequest.builder()
+                .name("Conditional Update Concert")
+                .venue("Tokyo Dome")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(3)
+                .price(new BigDecimal("5000.0"))
+                .build();
+        eventId = eventService.createEvent(eventRequest).getId();
+    }
+
+    @Test
+    @DisplayName("should decrement seats and bump version in one statement")
+    void shouldDecrementSeatsAndBumpVersion() {
+        long versionBefore = eventRepository.findById(eventId).orElseThrow().getVersion();
+
+        TicketResponse response = ticketService.createTicket(eventId, request(2));
+
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        assertThat(response.getEventName()).isEqualTo("Conditional Update Concert");
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("10000.0");
+        assertThat(event.getAvailableSeats()).isEqualTo(1);
+        assertThat(event.getVersion()).isEqualTo(versionBefore + 1);
+    }
+
+    @Test
+    @DisplayName("should reject when the guard fails and leave seats unchanged")
+    void shouldRejectWhenGuardFails() {
+        assertThatThrownBy(() -> ticketService.createTicket(eventId, request(4)))
+                .isInstanceOf(InsufficientSeatsException.class)
+                .hasMessageContaining("only 3 available");
+
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isEqualTo(3);
+        assertThat(ticketRepository.countByEventId(eventId)).isZero();
+    }
+
+    @Test
+    @DisplayName("should throw ResourceNotFoundException for unknown event")
+    void shouldThrowForUnknownEvent() {
+        assertThatThrownBy(() -> ticketService.createTicket(Long.MAX_VALUE, request(1)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static TicketRequest request(int seats) {
+        return TicketRequest.builder()
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .numberOfSeats(seats)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.dto.EventImportError;
+import com.example.ticketreservation.dto.EventImportResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSeatShardRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {"booking.event-import.batch-size=3", "booking.event-import.max-reported-errors=2"})
+@DisplayName("EventImportService Tests")
+class EventImportServiceTest {
+
+    private static final String EVENT_DATE = LocalDateTime.now().plusDays(30).withNano(0).toString();
+
+    @Autowired
+    private EventImportService eventImportService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventSeatShardRepository shardRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        shardRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("should import every valid line across several batches")
+        void shouldImportAcrossBatches() {
+            String body = IntStream.range(0, 7)
+                    .mapToObj(i -> json("Concert " + i, 100))
+                    .collect(Collectors.joining("\n"));
+
+            EventImportResponse response = eventImportService.importNdjson(new StringReader(body));
+
+            assertThat(response.getImported()).isEqualTo(7);
+            assertThat(response.getRejected()).isZero();
+            assertThat(eventRepository.count()).isEqualTo(7);
+            Event event = eventRepository.findByNameContainingIgnoreCase("Concert 6").get(0);
+            assertThat(event.getAvailableSeats()).isEqualTo(100);
+            assertThat(event.getVersion()).isZero();
+            assertThat(event.getCreatedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should report malformed and invalid lines by row and keep going")
+        void shouldReportRejectedRows() {
+            String body = String.join(
+                    "\n", json("Valid A", 10), "{not json", "", json("Invalid", 0), json("Valid B", 10));
+
+            EventImportResponse response = eventImportService.importNdjson(new StringReader(body));
+
+            assertThat(response.getImported()).isEqualTo(2);
+            assertThat(response.getRejected()).isEqualTo(2);
+            assertThat(response.getErrors()).extracting(EventImportError::getRow).containsExactly(2L, 4L);
+            assertThat(response.getErrors().get(1).getMessage()).contains("totalSeats");
+            assertThat(response.isErrorsTruncated()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should cap the reported errors but count every rejected row")
+        void shouldTruncateErrors() {
+            String body = IntStream.range(0, 5).mapToObj(i -> "oops").collect(Collectors.joining("\n"));
+
+            EventImportResponse response = eventImportService.importNdjson(new StringReader(body));
+
+            assertThat(response.getRejected()).isEqualTo(5);
+            assertThat(response.getErrors()).hasSize(2);
+            assertThat(response.isErrorsTruncated()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should create seat shards for sharded events")
+        void shouldCreateShards() {
+            String body = "{\"name\":\"Stadium\",\"venue\":\"Tokyo Dome\",\"eventDate\":\"" + EVENT_DATE
+                    + "\",\"totalSeats\":10,\"price\":5000.0,\"seatShards\":4}";
+
+            eventImportService.importNdjson(new StringReader(body));
+
+            Event event = eventRepository.findByNameContainingIgnoreCase("Stadium").get(0);
+            assertThat(event.getAvailableSeats()).isZero();
+            assertThat(shardRepository.sumAvailableSeatsByEventId(event.getId())).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class CsvTests {
+
+        @Test
+        @DisplayName("should import rows with quoted fields and columns in any order")
+        void shouldImportQuotedFields() {
+            String body = "price,Name,venue,eventDate,totalSeats,description\n"
+                    + "5000.0,\"Rock, Live\",Tokyo Dome," + EVENT_DATE + ",100,\"Two\nlines, \"\"quoted\"\"\"\r\n"
+                    + "3000.0,Jazz Night,Blue Note," + EVENT_DATE + ",50,\n";
+
+            EventImportResponse response = eventImportService.importCsv(new StringReader(body));
+
+            assertThat(response.getImported()).isEqualTo(2);
+            Event rock = eventRepository.findByNameContainingIgnoreCase("Rock, Live").get(0);
+            assertThat(rock.getDescription()).isEqualTo("Two\nlines, \"quoted\"");
+            assertThat(rock.getPrice()).isEqualByComparingTo("5000.0");
+        }
+
+        @Test
+        @DisplayName("should report unparseable values by row")
+        void shouldReportUnparseableValues() {
+            String body = "name,venue,eventDate,totalSeats,price\n"
+                    + "Good,Hall," + EVENT_DATE + ",10,100\n"
+                    + "Bad,Hall,tomorrow,10,100\n";
+
+            EventImportResponse response = eventImportService.importCsv(new StringReader(body));
+
+            assertThat(response.getImported()).isEqualTo(1);
+            assertThat(response.getErrors()).singleElement().satisfies(error -> {
+                assertThat(error.getRow()).isEqualTo(2);
+                assertThat(error.getMessage()).startsWith("Malformed CSV value");
+            });
+        }
+
+        @Test
+        @DisplayName("should reject a header without the required columns")
+        void shouldRejectIncompleteHeader() {
+            assertThatThrownBy(() -> eventImportService.importCsv(new StringReader("name,venue\nA,B\n")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("eventdate");
+        }
+    }
+
+    private static String json(String name, int totalSeats) {
+        return "{\"name\":\"" + name + "\",\"venue\":\"Tokyo Dome\",\"eventDate\":\"" + EVENT_DATE
+                + "\",\"totalSeats\":" + totalSeats + ",\"price\":5000.0}";
+    }
+}
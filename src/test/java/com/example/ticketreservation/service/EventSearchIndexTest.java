@@ -0,0 +1,155 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSearchRow;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSearchIndex Tests")
+class EventSearchIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private BookingExecutors bookingExecutors;
+
+    @Spy
+    private BookingProperties bookingProperties = new BookingProperties();
+
+    @InjectMocks
+    private EventSearchIndex eventSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventSearchIndex.indexAll(List.of(
+                event(1L, "Test Concert", "Tokyo Dome"),
+                event(2L, "Jazz Festival", "Blue Note Tokyo"),
+                event(3L, "Concert Hall Gala", "Osaka Hall")));
+    }
+
+    @Test
+    @DisplayName("should require both filters to match when both are given")
+    void shouldCombineNameAndVenue() {
+        assertThat(eventSearchIndex.search("concert", null, false, 10)).containsExactly(3L, 1L);
+        assertThat(eventSearchIndex.search("concert", "tokyo", false, 10)).containsExactly(1L);
+        assertThat(eventSearchIndex.search(null, "tokyo", false, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("should return only the best hits up to the limit")
+    void shouldHonourLimit() {
+        assertThat(eventSearchIndex.search(null, "tokyo", false, 1)).containsExactly(1L);
+        assertThat(eventSearchIndex.search(null, "tokyo", false, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject a search without a name or a venue")
+    void shouldRejectEmptySearch() {
+        assertThatThrownBy(() -> eventSearchIndex.search(" ", null, false, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name or a venue");
+    }
+
+    @Test
+    @DisplayName("should follow created, updated and deleted events")
+    void shouldFollowEventChanges() {
+        eventSearchIndex.onEventChanged(EventChangedEvent.created(response(4L, "Rock Concert", "Nagoya Dome")));
+        eventSearchIndex.onEventChanged(EventChangedEvent.updated(response(2L, "Jazz Concert", "Blue Note Tokyo")));
+        eventSearchIndex.onEventChanged(EventChangedEvent.deleted(3L));
+
+        assertThat(eventSearchIndex.search("concert", null, false, 10)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(eventSearchIndex.search(null, "dome", false, 10)).containsExactly(1L, 4L);
+        assertThat(eventSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should forget ids and rebuild from the database")
+    void shouldForgetAndRebuild() {
+        eventSearchIndex.forget(List.of(1L));
+        assertThat(eventSearchIndex.search("test", null, false, 10)).isEmpty();
+
+        runTransactionsInline();
+        when(eventRepository.streamSearchRows()).thenReturn(Stream.of(row(7L, "Opera Night", "Kyoto Hall")));
+        eventSearchIndex.rebuild();
+
+        assertThat(eventSearchIndex.size()).isEqualTo(1);
+        assertThat(eventSearchIndex.search("opera", "kyoto", false, 10)).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("should keep changes that commit while the index is rebuilt")
+    void shouldReplayChangesDuringRebuild() {
+        runTransactionsInline();
+        when(eventRepository.streamSearchRows()).thenAnswer(invocation -> {
+            eventSearchIndex.onEventChanged(EventChangedEvent.created(response(8L, "Ballet Gala", "Kobe Hall")));
+            eventSearchIndex.onEventChanged(EventChangedEvent.deleted(7L));
+            return Stream.of(row(7L, "Opera Night", "Kyoto Hall"));
+        });
+
+        eventSearchIndex.rebuild();
+
+        assertThat(eventSearchIndex.search(null, "hall", false, 10)).containsExactly(8L);
+        assertThat(eventSearchIndex.search("concert", null, false, 10)).isEmpty();
+    }
+
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+                    invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                    return null;
+                })
+                .when(transactionTemplate)
+                .executeWithoutResult(any());
+    }
+
+    private static Event event(Long id, String name, String venue) {
+        return Event.builder().id(id).name(name).venue(venue).build();
+    }
+
+    private static EventResponse response(Long id, String name, String venue) {
+        return EventResponse.builder().id(id).name(name).venue(venue).build();
+    }
+
+    private static EventSearchRow row(Long id, String name, String venue) {
+        return new EventSearchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getVenue() {
+                return venue;
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.repository.EventReadRepository;
+import com.example.ticketreservation.repository.EventSeatCount;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSeatCache Tests")
+class EventSeatCacheTest {
+
+    @Mock
+    private EventReadRepository eventReadRepository;
+
+    @Mock
+    private ObjectProvider<CachedSeatCounter> seatCounterProvider;
+
+    @Mock
+    private CachedSeatCounter seatCounter;
+
+    private final BookingProperties bookingProperties = new BookingProperties();
+
+    private EventSeatCache eventSeatCache;
+
+    @BeforeEach
+    void setUp() {
+        eventSeatCache = new EventSeatCache(eventReadRepository, seatCounterProvider, bookingProperties);
+    }
+
+    @Test
+    @DisplayName("should load only the counts the counter lacks and store them")
+    void shouldLoadMissingCounts() {
+        when(seatCounterProvider.getIfAvailable()).thenReturn(seatCounter);
+        when(seatCounter.get(List.of(1L, 2L, 3L))).thenReturn(Map.of(1L, 40));
+        when(seatCounter.versions(List.of(2L, 3L))).thenReturn(Map.of(2L, 4L, 3L, 0L));
+        when(eventReadRepository.findSeatCountsByIds(List.of(2L, 3L))).thenReturn(List.of(seatCount(2L, 7)));
+
+        Map<Long, Integer> seats = eventSeatCache.availableSeats(List.of(1L, 2L, 3L));
+
+        assertThat(seats).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 40, 2L, 7));
+        verify(seatCounter).putIfUnchanged(Map.of(2L, 7), Map.of(2L, 4L, 3L, 0L));
+    }
+
+    @Test
+    @DisplayName("should not store loaded counts when their versions cannot be read")
+    void shouldNotStoreWithoutVersions() {
+        when(seatCounterProvider.getIfAvailable()).thenReturn(seatCounter);
+        when(seatCounter.get(List.of(1L))).thenReturn(Map.of());
+        when(seatCounter.versions(List.of(1L))).thenThrow(new IllegalStateException("Redis down"));
+        when(eventReadRepository.findSeatCountsByIds(List.of(1L))).thenReturn(List.of(seatCount(1L, 40)));
+
+        assertThat(eventSeatCache.availableSeats(List.of(1L))).containsEntry(1L, 40);
+        verify(seatCounter, never()).putIfUnchanged(any(), any());
+    }
+
+    @Test
+    @DisplayName("should read from the database when there is no counter or it fails")
+    void shouldFallBackToDatabase() {
+        when(eventReadRepository.findSeatCountsByIds(List.of(1L))).thenReturn(List.of(seatCount(1L, 40)));
+
+        assertThat(eventSeatCache.availableSeats(List.of(1L))).containsEntry(1L, 40);
+
+        when(seatCounterProvider.getIfAvailable()).thenReturn(seatCounter);
+        when(seatCounter.get(List.of(1L))).thenThrow(new IllegalStateException("Redis down"));
+
+        assertThat(eventSeatCache.availableSeats(List.of(1L))).containsEntry(1L, 40);
+        verify(eventReadRepository, times(2)).findSeatCountsByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("should add the seats of bookings and cancellations to the stored count")
+    void shouldWriteThrough() {
+        when(seatCounterProvider.getIfAvailable()).thenReturn(seatCounter);
+
+        eventSeatCache.seatsTaken(1L, 3);
+        eventSeatCache.onTicketsBooked(new TicketsBookedEvent(1L, 5));
+        eventSeatCache.onTicketCancelled(new TicketCancelledEvent(1L, 9L, 2));
+
+        verify(seatCounter).add(1L, -3);
+        verify(seatCounter).add(1L, -5);
+        verify(seatCounter).add(1L, 2);
+        verify(seatCounter, never()).remove(any());
+    }
+
+    @Test
+    @DisplayName("should drop the stored count when the counter fails or write-through is off")
+    void shouldDropOnFailureOrWhenDisabled() {
+        when(seatCounterProvider.getIfAvailable()).thenReturn(seatCounter);
+        when(seatCounter.add(1L, -1)).thenThrow(new IllegalStateException("Redis down"));
+
+        eventSeatCache.seatsTaken(1L, 1);
+        bookingProperties.getEventCache().setWriteThroughSeats(false);
+        eventSeatCache.seatsTaken(1L, 1);
+
+        verify(seatCounter, times(1)).add(any(), anyInt());
+        verify(seatCounter, times(2)).remove(1L);
+    }
+
+    @Test
+    @DisplayName("should drop the stored count when seats return without a count or the event changes")
+    void shouldDropOnAvailabilityOrEventChange() {
+        when(seatCounterProvider.getIfAvailable()).thenReturn(seatCounter);
+
+        eventSeatCache.onSeatAvailabilityChanged(new SeatAvailabilityChangedEvent(1L));
+        eventSeatCache.onEventChanged(EventChangedEvent.deleted(2L));
+
+        verify(seatCounter).remove(1L);
+        verify(seatCounter).remove(2L);
+    }
+
+    private static EventSeatCount seatCount(Long id, int availableSeats) {
+        return new EventSeatCount() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getAvailableSeats() {
+                return availableSeats;
+            }
+        };
+    }
+}
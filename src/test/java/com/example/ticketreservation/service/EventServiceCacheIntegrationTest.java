@@ -3,12 +3,15 @@ package com.example.ticketreservation.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.example.ticketreservation.dto.EventAvailabilityResponse;
+import com.example.ticketreservation.dto.EventMetadata;
 import com.example.ticketreservation.dto.EventRequest;
 import com.example.ticketreservation.dto.EventResponse;
 import com.example.ticketreservation.exception.ResourceNotFoundException;
 import com.example.ticketreservation.repository.EventRepository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -52,6 +56,9 @@ class EventServiceCacheIntegrationTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     private EventRequest testEventRequest;
 
     @BeforeEach
@@ -157,6 +164,55 @@ class EventServiceCacheIntegrationTest {
         assertThat(keys).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("should serve repeat reads from the in-process level without Redis")
+    void shouldServeRepeatReadsInProcess() {
+        // Given: An event cached in both levels
+        EventResponse created = eventService.createEvent(testEventRequest);
+        Long eventId = created.getId();
+        eventService.getEventById(eventId);
+        Object cached = cacheManager.getCache("events").get(eventId).get();
+
+        // When: Redis loses the entry
+        redisTemplate.delete("events::" + eventId);
+
+        // Then: The in-process copy is still served
+        assertThat(cached).isInstanceOf(EventMetadata.class);
+        assertThat(cacheManager.getCache("events").get(eventId).get()).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("should keep the seat count apart from the cached metadata")
+    void shouldStoreSeatCountApart() {
+        // Given: Create an event
+        EventResponse created = eventService.createEvent(testEventRequest);
+        Long eventId = created.getId();
+
+        // When: Read it
+        eventService.getEventById(eventId);
+
+        // Then: The metadata entry has no seat count, which is stored as a counter of its own
+        assertThat(stringRedisTemplate.opsForValue().get("events::" + eventId)).doesNotContain("availableSeats");
+        assertThat(stringRedisTemplate.opsForValue().get("event-seats:" + eventId)).isEqualTo("100");
+        assertThat(stringRedisTemplate.getExpire("event-seats:" + eventId)).isPositive();
+    }
+
+    @Test
+    @DisplayName("should return seat counts for many events, leaving out those that do not exist")
+    void shouldReturnAvailabilityOfManyEvents() {
+        // Given: Two events, one of which has its count stored
+        Long first = eventService.createEvent(testEventRequest).getId();
+        Long second = eventService.createEvent(testEventRequest).getId();
+        eventService.getEventById(first);
+
+        // When: Ask for both and one that does not exist
+        List<EventAvailabilityResponse> availability = eventService.getAvailability(List.of(second, 999999L, first));
+
+        // Then: Both counts come back in the order asked for
+        assertThat(availability).extracting(EventAvailabilityResponse::getEventId).containsExactly(second, first);
+        assertThat(availability).extracting(EventAvailabilityResponse::getAvailableSeats).containsExactly(100, 100);
+    }
+
     @Test
     @DisplayName("should return consistent data from cache")
     void shouldReturnConsistentDataFromCache() {
@@ -313,8 +369,8 @@ class EventServiceCacheIntegrationTest {
             eventService.createEvent(secondRequest);
 
             // When: Call getAllEvents multiple times
-            var result1 = eventService.getAllEvents();
-            var result2 = eventService.getAllEvents();
+            var result1 = eventService.getAllEvents(null, null).getItems();
+            var result2 = eventService.getAllEvents(null, null).getItems();
 
             // Then: Results should be consistent
             assertThat(result1).hasSize(2);
@@ -339,15 +395,15 @@ class EventServiceCacheIntegrationTest {
             EventResponse created = eventService.createEvent(futureEvent);
 
             // When: Get available events
-            var availableEvents = eventService.getAvailableEvents();
+            var availableEvents = eventService.getAvailableEvents(null, null).getItems();
 
             // Then: Should include the future event
             assertThat(availableEvents).extracting(EventResponse::getName).contains("Future Concert");
         }
 
         @Test
-        @DisplayName("searchEventsByName should always search database")
-        void searchEventsByNameShouldAlwaysSearchDatabase() {
+        @DisplayName("searchEvents should always load results from the database")
+        void searchEventsShouldAlwaysLoadFromDatabase() {
             // Given: Create events with specific names
             eventService.createEvent(testEventRequest); // "Test Concert"
 
@@ -362,8 +418,9 @@ class EventServiceCacheIntegrationTest {
             eventService.createEvent(jazzEvent);
 
             // When: Search by name
-            var concertResults = eventService.searchEventsByName("Concert");
-            var jazzResults = eventService.searchEventsByName("Jazz");
+            var concertResults =
+                    eventService.searchEvents("Concert", null, false, null, null).getItems();
+            var jazzResults = eventService.searchEvents("Jazz", null, false, null, null).getItems();
 
             // Then: Should return correct results
             assertThat(concertResults).hasSize(1);
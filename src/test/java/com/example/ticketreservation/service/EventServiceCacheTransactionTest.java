@@ -239,8 +239,8 @@ class EventServiceCacheTransactionTest {
         }
 
         @Test
-        @DisplayName("should properly evict cache on ticket cancellation")
-        void shouldProperlyEvictCacheOnTicketCancellation() {
+        @DisplayName("should keep the cached metadata on ticket cancellation")
+        void shouldKeepCachedMetadataOnTicketCancellation() {
             // Given: Create event, book tickets, and cache
             EventResponse created = eventService.createEvent(testEventRequest);
             Long eventId = created.getId();
@@ -260,8 +260,8 @@ class EventServiceCacheTransactionTest {
             // When: Cancel the ticket
             ticketService.cancelTicket(ticket.getId());
 
-            // Then: Cache should be evicted
-            assertThat(cacheManager.getCache("events").get(eventId)).isNull();
+            // Then: The cached metadata should stay, since only the seat count changed
+            assertThat(cacheManager.getCache("events").get(eventId)).isNotNull();
 
             // And: Next read should show restored seats
             EventResponse afterCancel = eventService.getEventById(eventId);
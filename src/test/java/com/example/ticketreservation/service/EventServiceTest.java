@@ -5,15 +5,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.CursorPage;
+import com.example.ticketreservation.dto.EventAvailabilityResponse;
+import com.example.ticketreservation.dto.EventMetadata;
 import com.example.ticketreservation.dto.EventRequest;
 import com.example.ticketreservation.dto.EventResponse;
 import com.example.ticketreservation.entity.Event;
 import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventReadRepository;
 import com.example.ticketreservation.repository.EventRepository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +28,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class EventServiceTest {
@@ -30,10 +39,32 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventReadRepository eventReadRepository;
+
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventMetadataCache eventMetadataCache;
+
+    @Mock
+    private EventSeatCache eventSeatCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SeatShardInventory seatShardInventory;
+
+    @Spy
+    private BookingProperties bookingProperties = new BookingProperties();
+
     @InjectMocks
     private EventService eventService;
 
     private Event testEvent;
+    private EventResponse testEventResponse;
     private EventRequest testEventRequest;
 
     @BeforeEach
@@ -49,6 +80,18 @@ class EventServiceTest {
                 .price(new BigDecimal("5000.0"))
                 .build();
 
+        testEventResponse = EventResponse.builder()
+                .id(1L)
+                .name("Test Concert")
+                .description("A test concert")
+                .venue("Tokyo Dome")
+                .eventDate(LocalDateTime.of(2025, 12, 25, 19, 0))
+                .totalSeats(100)
+                .availableSeats(100)
+                .seatShards(1)
+                .price(new BigDecimal("5000.0"))
+                .build();
+
         testEventRequest = EventRequest.builder()
                 .name("Test Concert")
                 .description("A test concert")
@@ -66,7 +109,7 @@ class EventServiceTest {
         @Test
         @DisplayName("should return all events")
         void shouldReturnAllEvents() {
-            Event event2 = Event.builder()
+            EventResponse event2 = EventResponse.builder()
                     .id(2L)
                     .name("Another Event")
                     .venue("Osaka Hall")
@@ -75,23 +118,57 @@ class EventServiceTest {
                     .availableSeats(50)
                     .price(new BigDecimal("3000.0"))
                     .build();
-            when(eventRepository.findAll()).thenReturn(Arrays.asList(testEvent, event2));
+            when(eventReadRepository.findPageByEventDate(
+                            eq(KeysetCursor.START.getAfter()), eq(0L), any(Pageable.class)))
+                    .thenReturn(Arrays.asList(testEventResponse, event2));
 
-            List<EventResponse> result = eventService.getAllEvents();
+            CursorPage<EventResponse> result = eventService.getAllEvents(null, null);
+
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.getItems().get(0).getName()).isEqualTo("Test Concert");
+            assertThat(result.getItems().get(1).getName()).isEqualTo("Another Event");
+            assertThat(result.getNextCursor()).isNull();
+        }
 
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).getName()).isEqualTo("Test Concert");
-            assertThat(result.get(1).getName()).isEqualTo("Another Event");
+        @Test
+        @DisplayName("should return a cursor that resumes after the last event of a full page")
+        void shouldReturnCursorForFullPage() {
+            EventResponse event2 = EventResponse.builder()
+                    .id(2L)
+                    .name("Another Event")
+                    .venue("Osaka Hall")
+                    .eventDate(LocalDateTime.of(2025, 12, 31, 20, 0))
+                    .totalSeats(50)
+                    .availableSeats(50)
+                    .price(new BigDecimal("3000.0"))
+                    .build();
+            when(eventReadRepository.findPageByEventDate(any(), any(), any(Pageable.class)))
+                    .thenReturn(Arrays.asList(testEventResponse, event2));
+
+            CursorPage<EventResponse> first = eventService.getAllEvents(null, 1);
+            eventService.getAllEvents(first.getNextCursor(), 1);
+
+            assertThat(first.getItems()).extracting(EventResponse::getId).containsExactly(1L);
+            verify(eventReadRepository).findPageByEventDate(eq(testEvent.getEventDate()), eq(1L), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> eventService.getAllEvents("not-a-cursor", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cursor");
         }
 
         @Test
         @DisplayName("should return empty list when no events exist")
         void shouldReturnEmptyListWhenNoEvents() {
-            when(eventRepository.findAll()).thenReturn(List.of());
+            when(eventReadRepository.findPageByEventDate(any(), any(), any(Pageable.class)))
+                    .thenReturn(List.of());
 
-            List<EventResponse> result = eventService.getAllEvents();
+            CursorPage<EventResponse> result = eventService.getAllEvents(null, null);
 
-            assertThat(result).isEmpty();
+            assertThat(result.getItems()).isEmpty();
         }
     }
 
@@ -100,26 +177,78 @@ class EventServiceTest {
     class GetEventByIdTests {
 
         @Test
-        @DisplayName("should return event when found")
+        @DisplayName("should assemble the cached metadata with the live seat count")
         void shouldReturnEventWhenFound() {
-            when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+            when(eventMetadataCache.get(1L)).thenReturn(toMetadata(testEventResponse));
+            when(eventSeatCache.availableSeats(List.of(1L))).thenReturn(Map.of(1L, 42));
 
             EventResponse result = eventService.getEventById(1L);
 
             assertThat(result.getId()).isEqualTo(1L);
             assertThat(result.getName()).isEqualTo("Test Concert");
             assertThat(result.getVenue()).isEqualTo("Tokyo Dome");
+            assertThat(result.getTotalSeats()).isEqualTo(100);
+            assertThat(result.getAvailableSeats()).isEqualTo(42);
         }
 
         @Test
         @DisplayName("should throw ResourceNotFoundException when event not found")
         void shouldThrowExceptionWhenEventNotFound() {
-            when(eventRepository.findById(999L)).thenReturn(Optional.empty());
+            when(eventMetadataCache.get(999L)).thenThrow(new ResourceNotFoundException("Event", "id", 999L));
 
             assertThatThrownBy(() -> eventService.getEventById(999L))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Event");
         }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when the event is deleted after its metadata was cached")
+        void shouldThrowExceptionWhenSeatCountMissing() {
+            when(eventMetadataCache.get(1L)).thenReturn(toMetadata(testEventResponse));
+            when(eventSeatCache.availableSeats(List.of(1L))).thenReturn(Map.of());
+
+            assertThatThrownBy(() -> eventService.getEventById(1L)).isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAvailability")
+    class GetAvailabilityTests {
+
+        @Test
+        @DisplayName("should return the counts of existing events in the order asked for, once each")
+        void shouldReturnCountsInRequestOrder() {
+            when(eventSeatCache.availableSeats(List.of(3L, 1L, 2L))).thenReturn(Map.of(1L, 10, 3L, 30));
+
+            List<EventAvailabilityResponse> result = eventService.getAvailability(List.of(3L, 1L, 3L, 2L));
+
+            assertThat(result).extracting(EventAvailabilityResponse::getEventId).containsExactly(3L, 1L);
+            assertThat(result).extracting(EventAvailabilityResponse::getAvailableSeats).containsExactly(30, 10);
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException for a single event that does not exist")
+        void shouldThrowExceptionWhenEventNotFound() {
+            when(eventSeatCache.availableSeats(List.of(999L))).thenReturn(Map.of());
+
+            assertThatThrownBy(() -> eventService.getAvailability(999L))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should reject missing, empty and too many ids")
+        void shouldRejectInvalidIds() {
+            bookingProperties.getEventCache().setMaxAvailabilityIds(2);
+
+            assertThatThrownBy(() -> eventService.getAvailability((List<Long>) null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> eventService.getAvailability(Arrays.asList(1L, null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> eventService.getAvailability(List.of(1L, 2L, 3L)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("At most 2");
+            verifyNoInteractions(eventSeatCache);
+        }
     }
 
     @Nested
@@ -129,9 +258,10 @@ class EventServiceTest {
         @Test
         @DisplayName("should return available events")
         void shouldReturnAvailableEvents() {
-            when(eventRepository.findAvailableEvents(any(LocalDateTime.class))).thenReturn(List.of(testEvent));
+            when(eventReadRepository.findAvailablePage(any(LocalDateTime.class), any(), any(), any(Pageable.class)))
+                    .thenReturn(List.of(testEventResponse));
 
-            List<EventResponse> result = eventService.getAvailableEvents();
+            List<EventResponse> result = eventService.getAvailableEvents(null, null).getItems();
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getAvailableSeats()).isGreaterThan(0);
@@ -139,28 +269,79 @@ class EventServiceTest {
     }
 
     @Nested
-    @DisplayName("searchEventsByName")
-    class SearchEventsByNameTests {
+    @DisplayName("searchEvents")
+    class SearchEventsTests {
 
         @Test
-        @DisplayName("should return events matching search term")
-        void shouldReturnEventsMatchingSearchTerm() {
-            when(eventRepository.findByNameContainingIgnoreCase("Concert")).thenReturn(List.of(testEvent));
+        @DisplayName("should return matching events in ranking order")
+        void shouldReturnEventsInRankingOrder() {
+            EventResponse event2 = EventResponse.builder()
+                    .id(2L)
+                    .name("Concert Night")
+                    .venue("Osaka Hall")
+                    .build();
+            when(eventSearchIndex.search("Concert", null, false, 51)).thenReturn(List.of(2L, 1L));
+            when(eventReadRepository.findResponsesByIds(List.of(2L, 1L)))
+                    .thenReturn(List.of(testEventResponse, event2));
 
-            List<EventResponse> result = eventService.searchEventsByName("Concert");
+            CursorPage<EventResponse> result = eventService.searchEvents("Concert", null, false, null, null);
 
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getName()).contains("Concert");
+            assertThat(result.getItems()).extracting(EventResponse::getId).containsExactly(2L, 1L);
+            assertThat(result.getNextCursor()).isNull();
         }
 
         @Test
-        @DisplayName("should return empty list when no match")
+        @DisplayName("should return empty list without loading anything when no match")
         void shouldReturnEmptyListWhenNoMatch() {
-            when(eventRepository.findByNameContainingIgnoreCase("NonExistent")).thenReturn(List.of());
+            when(eventSearchIndex.search("NonExistent", null, false, 51)).thenReturn(List.of());
 
-            List<EventResponse> result = eventService.searchEventsByName("NonExistent");
+            List<EventResponse> result =
+                    eventService.searchEvents("NonExistent", null, false, null, null).getItems();
 
             assertThat(result).isEmpty();
+            verifyNoInteractions(eventReadRepository);
+        }
+
+        @Test
+        @DisplayName("should page through the ranking with an offset cursor")
+        void shouldPageThroughRanking() {
+            EventResponse event2 = EventResponse.builder().id(2L).name("Dome Tour").build();
+            when(eventSearchIndex.search(null, "Dome", true, 2)).thenReturn(List.of(1L, 2L));
+            when(eventSearchIndex.search(null, "Dome", true, 3)).thenReturn(List.of(1L, 2L));
+            when(eventReadRepository.findResponsesByIds(List.of(1L))).thenReturn(List.of(testEventResponse));
+            when(eventReadRepository.findResponsesByIds(List.of(2L))).thenReturn(List.of(event2));
+
+            CursorPage<EventResponse> first = eventService.searchEvents(null, "Dome", true, null, 1);
+            CursorPage<EventResponse> second = eventService.searchEvents(null, "Dome", true, first.getNextCursor(), 1);
+
+            assertThat(first.getItems()).extracting(EventResponse::getId).containsExactly(1L);
+            assertThat(first.getNextCursor()).isNotNull();
+            assertThat(second.getItems()).extracting(EventResponse::getId).containsExactly(2L);
+            assertThat(second.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should drop events deleted behind the index and rank again")
+        void shouldForgetDeletedEvents() {
+            when(eventSearchIndex.search("Concert", null, false, 2))
+                    .thenReturn(List.of(9L, 1L))
+                    .thenReturn(List.of(1L));
+            when(eventReadRepository.findResponsesByIds(List.of(9L))).thenReturn(List.of());
+            when(eventReadRepository.findResponsesByIds(List.of(1L))).thenReturn(List.of(testEventResponse));
+
+            CursorPage<EventResponse> result = eventService.searchEvents("Concert", null, false, null, 1);
+
+            assertThat(result.getItems()).extracting(EventResponse::getId).containsExactly(1L);
+            assertThat(result.getNextCursor()).isNull();
+            verify(eventSearchIndex).forget(List.of(9L));
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> eventService.searchEvents("Concert", null, false, "not-a-cursor", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cursor");
         }
     }
 
@@ -179,6 +360,7 @@ class EventServiceTest {
             assertThat(result.getTotalSeats()).isEqualTo(100);
             assertThat(result.getAvailableSeats()).isEqualTo(100);
             verify(eventRepository, times(1)).save(any(Event.class));
+            verify(eventPublisher).publishEvent(EventChangedEvent.created(result));
         }
 
         @Test
@@ -223,7 +405,7 @@ class EventServiceTest {
                     .price(new BigDecimal("6000.0"))
                     .build();
 
-            when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+            when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
             when(eventRepository.save(any(Event.class))).thenReturn(updatedEvent);
 
             EventResponse result = eventService.updateEvent(1L, updateRequest);
@@ -231,6 +413,7 @@ class EventServiceTest {
             assertThat(result.getName()).isEqualTo("Updated Concert");
             assertThat(result.getVenue()).isEqualTo("Yokohama Arena");
             assertThat(result.getTotalSeats()).isEqualTo(150);
+            verify(eventPublisher).publishEvent(EventChangedEvent.updated(result));
         }
 
         @Test
@@ -246,7 +429,7 @@ class EventServiceTest {
                     .price(new BigDecimal("5000.0"))
                     .build();
 
-            when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+            when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
             when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
                 Event saved = invocation.getArgument(0);
                 assertThat(saved.getAvailableSeats()).isEqualTo(100);
@@ -261,7 +444,7 @@ class EventServiceTest {
         @Test
         @DisplayName("should throw ResourceNotFoundException when event not found")
         void shouldThrowExceptionWhenEventNotFound() {
-            when(eventRepository.findById(999L)).thenReturn(Optional.empty());
+            when(eventRepository.findByIdWithLock(999L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> eventService.updateEvent(999L, testEventRequest))
                     .isInstanceOf(ResourceNotFoundException.class);
@@ -275,20 +458,34 @@ class EventServiceTest {
         @Test
         @DisplayName("should delete event successfully")
         void shouldDeleteEventSuccessfully() {
-            when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+            when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
             doNothing().when(eventRepository).delete(testEvent);
 
             eventService.deleteEvent(1L);
 
             verify(eventRepository, times(1)).delete(testEvent);
+            verify(eventPublisher).publishEvent(EventChangedEvent.deleted(1L));
         }
 
         @Test
         @DisplayName("should throw ResourceNotFoundException when event not found")
         void shouldThrowExceptionWhenEventNotFound() {
-            when(eventRepository.findById(999L)).thenReturn(Optional.empty());
+            when(eventRepository.findByIdWithLock(999L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> eventService.deleteEvent(999L)).isInstanceOf(ResourceNotFoundException.class);
         }
     }
+
+    private static EventMetadata toMetadata(EventResponse event) {
+        return EventMetadata.builder()
+                .id(event.getId())
+                .name(event.getName())
+                .description(event.getDescription())
+                .venue(event.getVenue())
+                .eventDate(event.getEventDate())
+                .totalSeats(event.getTotalSeats())
+                .seatShards(event.getSeatShards())
+                .price(event.getPrice())
+                .build();
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.dto.EventSuggestionsResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.repository.EventReadRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSuggestions Tests")
+class EventSuggestionsTest {
+
+    private static final LocalDateTime NEXT_MONTH = LocalDateTime.now().plusDays(30);
+
+    @Mock
+    private EventReadRepository eventReadRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private BookingExecutors bookingExecutors;
+
+    @Mock
+    private MeterRegistry meterRegistry;
+
+    @Spy
+    private BookingProperties bookingProperties = new BookingProperties();
+
+    @InjectMocks
+    private EventSuggestions eventSuggestions;
+
+    @BeforeEach
+    void setUp() {
+        eventSuggestions.onEventChanged(EventChangedEvent.created(event(1L, "Tokyo Jazz Night", "Tokyo Dome", 10)));
+        eventSuggestions.onEventChanged(EventChangedEvent.created(event(2L, "Tokyo Rock Fest", "Tokyo Forum", 40)));
+        eventSuggestions.onEventChanged(EventChangedEvent.created(event(3L, "Osaka Symphony", "Tokyo Dome", 35)));
+    }
+
+    @Test
+    @DisplayName("should weight names and venues by the seats sold for their upcoming events")
+    void shouldWeightBySales() {
+        EventSuggestionsResponse suggestions = eventSuggestions.suggest("tokyo", null);
+
+        assertThat(suggestions.getNames()).containsExactly("Tokyo Rock Fest", "Tokyo Jazz Night");
+        assertThat(suggestions.getVenues()).containsExactly("Tokyo Dome", "Tokyo Forum");
+    }
+
+    @Test
+    @DisplayName("should follow renamed, past and deleted events")
+    void shouldFollowEventChanges() {
+        eventSuggestions.onEventChanged(EventChangedEvent.updated(event(1L, "Tokyo Blues Night", "Tokyo Dome", 10)));
+        eventSuggestions.onEventChanged(EventChangedEvent.updated(EventResponse.builder()
+                .id(2L)
+                .name("Tokyo Rock Fest")
+                .venue("Tokyo Forum")
+                .eventDate(LocalDateTime.now().minusDays(1))
+                .totalSeats(100)
+                .availableSeats(60)
+                .build()));
+        eventSuggestions.onEventChanged(EventChangedEvent.deleted(3L));
+
+        EventSuggestionsResponse suggestions = eventSuggestions.suggest("tokyo", null);
+
+        assertThat(suggestions.getNames()).containsExactly("Tokyo Blues Night");
+        assertThat(suggestions.getVenues()).containsExactly("Tokyo Dome");
+    }
+
+    @Test
+    @DisplayName("should add imported events that are still to come")
+    void shouldIndexImportedEvents() {
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+        eventSuggestions.indexAll(List.of(
+                Event.builder().id(4L).name("Kyoto Gala").venue("Kyoto Hall").eventDate(NEXT_MONTH).build(),
+                Event.builder().id(5L).name("Kyoto Past").venue("Kyoto Hall").eventDate(yesterday).build()));
+
+        assertThat(eventSuggestions.suggest("kyoto", null).getNames()).containsExactly("Kyoto Gala");
+    }
+
+    @Test
+    @DisplayName("should replace the index with the upcoming events in the database on refresh")
+    void shouldRefreshFromDatabase() {
+        doAnswer(invocation -> {
+                    invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                    return null;
+                })
+                .when(transactionTemplate)
+                .executeWithoutResult(any());
+        when(eventReadRepository.streamUpcoming(any()))
+                .thenReturn(Stream.of(event(7L, "Nagoya Opera", "Nagoya Hall", 5)));
+
+        eventSuggestions.refresh();
+
+        assertThat(eventSuggestions.suggest("tokyo", null).getNames()).isEmpty();
+        assertThat(eventSuggestions.suggest("nagoya", null).getVenues()).containsExactly("Nagoya Hall");
+        assertThat(eventSuggestions.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("should cap the limit and suggest nothing for a blank prefix")
+    void shouldHandleLimitsAndBlankPrefix() {
+        bookingProperties.getSuggestions().setMaxLimit(1);
+
+        assertThat(eventSuggestions.suggest("tokyo", 5).getVenues()).containsExactly("Tokyo Dome");
+        assertThat(eventSuggestions.suggest(" ", 5).getNames()).isEmpty();
+        assertThatThrownBy(() -> eventSuggestions.suggest("tokyo", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit");
+    }
+
+    private static EventResponse event(Long id, String name, String venue, int soldSeats) {
+        return EventResponse.builder()
+                .id(id)
+                .name(name)
+                .venue(venue)
+                .eventDate(NEXT_MONTH)
+                .totalSeats(100)
+                .availableSeats(100 - soldSeats)
+                .build();
+    }
+}
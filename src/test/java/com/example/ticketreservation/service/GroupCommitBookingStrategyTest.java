@@ -0,0 +1,273 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "booking.mode=pipeline")
+@DisplayName("GroupCommitBookingStrategy Tests")
+class GroupCommitBookingStrategyTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private BookingExecutors bookingExecutors;
+
+    @Autowired
+    private BookingProperties bookingProperties;
+
+    @Autowired
+    private TicketCodeGenerator ticketCodeGenerator;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        EventRequest eventRequest = EventRequest.builder()
+                .name("Group Commit Concert")
+                .venue("Tokyo Dome")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(20)
+                .price(new BigDecimal("5000.0"))
+                .build();
+        eventId = eventService.createEvent(eventRequest).getId();
+    }
+
+    @Test
+    @DisplayName("should return individual ticket with generated id")
+    void shouldReturnIndividualTicket() {
+        TicketResponse response = ticketService.createTicket(eventId, request("john@example.com", 2));
+
+        assertThat(response.getId()).isNotNull();
+        assertThat(response.getEventId()).isEqualTo(eventId);
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("10000.0");
+        assertThat(ticketRepository.findById(response.getId())).isPresent();
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("should reject bookings that exceed remaining seats")
+    void shouldRejectWhenInsufficientSeats() {
+        assertThatThrownBy(() -> ticketService.createTicket(eventId, request("john@example.com", 21)))
+                .isInstanceOf(InsufficientSeatsException.class);
+    }
+
+    @Test
+    @DisplayName("should reject bookings for unknown events")
+    void shouldRejectUnknownEvent() {
+        assertThatThrownBy(() -> ticketService.createTicket(Long.MAX_VALUE, request("john@example.com", 1)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should never oversell under concurrent bookings")
+    void shouldNeverOversellUnderConcurrentBookings() throws Exception {
+        int threadCount = 40;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            String email = "user" + i + "@example.com";
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    ticketService.createTicket(eventId, request(email, 1));
+                    succeeded.incrementAndGet();
+                } catch (InsufficientSeatsException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new AssertionError(e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded.get()).isEqualTo(20);
+        assertThat(rejected.get()).isEqualTo(20);
+        assertThat(ticketRepository.countByEventId(eventId)).isEqualTo(20);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not write a booking whose caller has timed out")
+    void shouldNotWriteTimedOutBooking() throws Exception {
+        BookingProperties.Pipeline pipeline = bookingProperties.getPipeline();
+        Duration timeout = pipeline.getTimeout();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(pipeline.getWriterThreads());
+        for (int i = 0; i < pipeline.getWriterThreads(); i++) {
+            bookingExecutors.pipelineWriters().execute(() -> {
+                busy.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        try {
+            busy.await();
+            pipeline.setTimeout(Duration.ofMillis(100));
+
+            assertThatThrownBy(() -> ticketService.createTicket(eventId, request("late@example.com", 2)))
+                    .hasMessageContaining("timed out");
+        } finally {
+            pipeline.setTimeout(timeout);
+            release.countDown();
+        }
+
+        // Queued behind the timed-out booking, so it returns only once the writer has passed that one
+        ticketService.createTicket(eventId, request("next@example.com", 1));
+
+        assertThat(ticketRepository.countByEventId(eventId)).isEqualTo(1);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("should not report rejections from a batch that rolled back")
+    void shouldNotReportRejectionsFromRolledBackBatch() throws Exception {
+        CountDownLatch release = blockPipelineWriters();
+        // Whichever of the two is accepted fails the batch insert on its missing name, after the
+        // other was rejected against the seats it took
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<TicketResponse>> failing = new ArrayList<>();
+        try {
+            TicketRequest first = request(null, "a@example.com", 15);
+            TicketRequest second = request(null, "b@example.com", 10);
+            failing.add(executor.submit(() -> ticketService.createTicket(eventId, first)));
+            failing.add(executor.submit(() -> ticketService.createTicket(eventId, second)));
+            Thread.sleep(500);
+        } finally {
+            release.countDown();
+        }
+        for (Future<TicketResponse> booking : failing) {
+            assertThatThrownBy(booking::get).isInstanceOf(ExecutionException.class);
+        }
+        executor.shutdown();
+
+        TicketResponse response = ticketService.createTicket(eventId, request("john@example.com", 15));
+
+        assertThat(response.getNumberOfSeats()).isEqualTo(15);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should fail only the booking whose idempotency key another instance already used")
+    void shouldFailOnlyDuplicateKeyInBatch() throws Exception {
+        CountDownLatch release = blockPipelineWriters();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        List<Future<TicketResponse>> bookings = new ArrayList<>();
+        Ticket stored;
+        try {
+            for (String key : List.of("key-1", "key-dup", "key-3")) {
+                TicketRequest booking =
+                        request(key.replace("key-", "") + "@example.com", 2).withIdempotencyKey(key);
+                bookings.add(executor.submit(() -> ticketService.createTicket(eventId, booking)));
+                Thread.sleep(200);
+            }
+            // Another instance commits the same key after this one found it unused
+            stored = ticketRepository.save(Ticket.builder()
+                    .ticketCode(ticketCodeGenerator.next())
+                    .event(eventRepository.findById(eventId).orElseThrow())
+                    .customerName("Customer")
+                    .customerEmail("dup@example.com")
+                    .idempotencyKey("key-dup")
+                    .numberOfSeats(2)
+                    .totalAmount(new BigDecimal("10000.0"))
+                    .build());
+        } finally {
+            release.countDown();
+        }
+
+        TicketResponse first = bookings.get(0).get();
+        TicketResponse duplicate = bookings.get(1).get();
+        TicketResponse third = bookings.get(2).get();
+        executor.shutdown();
+
+        assertThat(duplicate.getId()).isEqualTo(stored.getId());
+        assertThat(first.getCustomerEmail()).isEqualTo("1@example.com");
+        assertThat(third.getCustomerEmail()).isEqualTo("3@example.com");
+        assertThat(ticketRepository.countByEventId(eventId)).isEqualTo(3);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isEqualTo(16);
+    }
+
+    /** Occupies every pipeline writer until the returned latch is counted down, so bookings queue up. */
+    private CountDownLatch blockPipelineWriters() throws InterruptedException {
+        int writerThreads = bookingProperties.getPipeline().getWriterThreads();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch busy = new CountDownLatch(writerThreads);
+        for (int i = 0; i < writerThreads; i++) {
+            bookingExecutors.pipelineWriters().execute(() -> {
+                busy.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        busy.await();
+        return release;
+    }
+
+    private static TicketRequest request(String email, int seats) {
+        return request("Customer", email, seats);
+    }
+
+    private static TicketRequest request(String customerName, String email, int seats) {
+        return TicketRequest.builder()
+                .customerName(customerName)
+                .customerEmail(email)
+                .numberOfSeats(seats)
+                .build();
+    }
+}
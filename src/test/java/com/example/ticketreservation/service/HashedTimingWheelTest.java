@@ -0,0 +1,70 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HashedTimingWheel Tests")
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(START, 100, 8);
+    }
+
+    @Test
+    @DisplayName("should not expire entries before their deadline")
+    void shouldNotExpireEarly() {
+        wheel.schedule("a", START + 250);
+
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactly("a");
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("should expire overdue entries on the next tick")
+    void shouldExpireOverdueEntries() {
+        wheel.advance(START + 500);
+        wheel.schedule("late", START);
+
+        assertThat(wheel.advance(START + 600)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("should keep entries beyond one revolution for the right number of rounds")
+    void shouldHandleMultipleRounds() {
+        wheel.schedule("far", START + 2_500);
+        wheel.schedule("near", START + 100);
+
+        assertThat(wheel.advance(START + 800)).containsExactly("near");
+        assertThat(wheel.advance(START + 2_400)).isEmpty();
+        assertThat(wheel.advance(START + 2_500)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("should expire many entries in the same bucket together")
+    void shouldExpireEntriesTogether() {
+        for (int i = 0; i < 1_000; i++) {
+            wheel.schedule("hold-" + i, START + 300);
+        }
+
+        assertThat(wheel.pending()).isEqualTo(1_000);
+        assertThat(wheel.advance(START + 300)).hasSize(1_000);
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject non-positive tick duration")
+    void shouldRejectInvalidTick() {
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(START, 0, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ticketreservation.dto.CursorPage;
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("Keyset pagination Tests")
+class KeysetPaginationIntegrationTest {
+
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.now().plusDays(30).withNano(0);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should walk every event exactly once in event date order, breaking ties by id")
+    void shouldWalkEventsAcrossPages() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(createEvent("Paged " + i, EVENT_DATE.plusDays(i / 2)).getId());
+        }
+
+        List<EventResponse> walked = walk(cursor -> eventService.getAllEvents(cursor, 2));
+
+        assertThat(walked).extracting(EventResponse::getId).containsExactlyElementsOf(sortedByDateThenId(expected));
+    }
+
+    @Test
+    @DisplayName("should walk an event's tickets across pages in booking order")
+    void shouldWalkTicketsAcrossPages() {
+        Long eventId = createEvent("Paged Tickets", EVENT_DATE).getId();
+        List<Long> booked = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            booked.add(ticketService.createTicket(eventId, ticket()).getId());
+        }
+
+        List<TicketResponse> walked = walk(cursor -> ticketService.getTicketsByEventId(eventId, cursor, 2));
+
+        assertThat(walked).extracting(TicketResponse::getId).containsExactlyElementsOf(booked);
+        assertThat(ticketService.getTicketsByEmail("paged@example.com", null, 10).getItems()).hasSize(5);
+    }
+
+    private List<Long> sortedByDateThenId(List<Long> ids) {
+        return eventRepository.findAllById(ids).stream()
+                .sorted((a, b) -> a.getEventDate().equals(b.getEventDate())
+                        ? a.getId().compareTo(b.getId())
+                        : a.getEventDate().compareTo(b.getEventDate()))
+                .map(Event::getId)
+                .toList();
+    }
+
+    private static <T> List<T> walk(Function<String, CursorPage<T>> fetch) {
+        List<T> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<T> page = fetch.apply(cursor);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+        return walked;
+    }
+
+    private EventResponse createEvent(String name, LocalDateTime eventDate) {
+        return eventService.createEvent(EventRequest.builder()
+                .name(name)
+                .venue("Tokyo Dome")
+                .eventDate(eventDate)
+                .totalSeats(100)
+                .price(new BigDecimal("5000.0"))
+                .build());
+    }
+
+    private static TicketRequest ticket() {
+        return TicketRequest.builder()
+                .customerName("Paged Buyer")
+                .customerEmail("paged@example.com")
+                .numberOfSeats(1)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.SeatHoldResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.SeatHoldRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+@SpringBootTest(properties = "booking.mode=ledger")
+@DisplayName("LedgerBookingStrategy Tests")
+class LedgerBookingStrategyTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private SeatHoldRepository seatHoldRepository;
+
+    @SpyBean
+    private TicketRepository ticketRepository;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        seatHoldRepository.deleteAll();
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        EventRequest eventRequest = EventRequest.builder()
+                .name("Ledger Concert")
+                .venue("Tokyo Dome")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(5)
+                .price(new BigDecimal("5000.0"))
+                .build();
+        eventId = eventService.createEvent(eventRequest).getId();
+    }
+
+    @Test
+    @DisplayName("should book seats and reject once the ledger runs out")
+    void shouldBookUntilSoldOut() {
+        TicketResponse response = ticketService.createTicket(eventId, request(5));
+
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("25000.0");
+        assertThatThrownBy(() -> ticketService.createTicket(eventId, request(1)))
+                .isInstanceOf(InsufficientSeatsException.class);
+        assertThat(availableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("should book seats returned by a released hold")
+    void shouldBookAfterHoldReleased() {
+        SeatHoldResponse hold = seatHoldService.holdSeats(eventId, request(5));
+        assertThatThrownBy(() -> ticketService.createTicket(eventId, request(1)))
+                .isInstanceOf(InsufficientSeatsException.class);
+
+        seatHoldService.releaseHold(hold.getId());
+        TicketResponse response = ticketService.createTicket(eventId, request(5));
+
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("25000.0");
+        assertThat(availableSeats()).isZero();
+        assertThat(ticketRepository.countByEventId(eventId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not stay sold out after a booking holding the last seats fails")
+    void shouldReopenAfterFailedBooking() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    saving.countDown();
+                    fail.await();
+                    throw new IllegalStateException("Simulated insert failure");
+                })
+                .when(ticketRepository)
+                .save(argThat((Ticket ticket) -> "Failing".equals(ticket.getCustomerName())));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<TicketResponse> failing =
+                    executor.submit(() -> ticketService.createTicket(eventId, request("Failing", 5)));
+            saving.await();
+            assertThatThrownBy(() -> ticketService.createTicket(eventId, request(1)))
+                    .isInstanceOf(InsufficientSeatsException.class);
+
+            fail.countDown();
+            assertThatThrownBy(failing::get).hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            fail.countDown();
+            executor.shutdownNow();
+        }
+
+        TicketResponse response = ticketService.createTicket(eventId, request(5));
+
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("25000.0");
+        assertThat(availableSeats()).isZero();
+    }
+
+    private int availableSeats() {
+        return eventRepository.findById(eventId).orElseThrow().getAvailableSeats();
+    }
+
+    private static TicketRequest request(int seats) {
+        return request("Customer", seats);
+    }
+
+    private static TicketRequest request(String customerName, int seats) {
+        return TicketRequest.builder()
+                .customerName(customerName)
+                .customerEmail("customer@example.com")
+                .numberOfSeats(seats)
+                .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.EventContentionResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OptimisticBookingStrategy Tests")
+class OptimisticBookingStrategyTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BookingProperties bookingProperties;
+    private BookingContentionTracker contentionTracker;
+    private OptimisticBookingStrategy strategy;
+    private Event testEvent;
+    private TicketRequest testRequest;
+
+    @BeforeEach
+    void setUp() {
+        bookingProperties = new BookingProperties();
+        bookingProperties.getOptimistic().setMaxAttempts(3);
+        bookingProperties.getOptimistic().setInitialBackoff(Duration.ofMillis(1));
+        bookingProperties.getOptimistic().setMaxBackoff(Duration.ofMillis(2));
+        contentionTracker = new BookingContentionTracker(bookingProperties, new SimpleMeterRegistry());
+        strategy = new OptimisticBookingStrategy(
+                eventRepository,
+                ticketRepository,
+                new TicketCodeGenerator(0),
+                transactionTemplate,
+                contentionTracker,
+                bookingProperties);
+
+        testEvent = Event.builder()
+                .id(1L)
+                .name("Test Event")
+                .venue("Test Venue")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(100)
+                .availableSeats(50)
+                .price(new BigDecimal("1000.0"))
+                .version(0L)
+                .build();
+        testRequest = TicketRequest.builder()
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .numberOfSeats(2)
+                .build();
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Nested
+    @DisplayName("book")
+    class BookTests {
+
+        @Test
+        @DisplayName("should book with a version-checked flush")
+        void shouldBookWithVersionCheck() {
+            when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+
+            TicketResponse result = strategy.book(1L, testRequest);
+
+            assertThat(result.getNumberOfSeats()).isEqualTo(2);
+            assertThat(testEvent.getAvailableSeats()).isEqualTo(48);
+            verify(eventRepository).saveAndFlush(testEvent);
+            verify(eventRepository, never()).findByIdWithLock(any());
+        }
+
+        @Test
+        @DisplayName("should retry after a version conflict and count the retry")
+        void shouldRetryAfterConflict() {
+            when(eventRepository.findById(1L)).thenAnswer(invocation -> Optional.of(copyOf(testEvent)));
+            when(eventRepository.saveAndFlush(any(Event.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(Event.class, 1L))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            strategy.book(1L, testRequest);
+
+            verify(eventRepository, times(2)).findById(1L);
+            EventContentionResponse contention = contentionTracker.contention(1L).orElseThrow();
+            assertThat(contention.getRetries()).isEqualTo(1);
+            assertThat(contention.getAborts()).isZero();
+        }
+
+        @Test
+        @DisplayName("should abort after exhausting attempts")
+        void shouldAbortAfterExhaustingAttempts() {
+            when(eventRepository.findById(1L)).thenAnswer(invocation -> Optional.of(copyOf(testEvent)));
+            when(eventRepository.saveAndFlush(any(Event.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(Event.class, 1L));
+
+            assertThatThrownBy(() -> strategy.book(1L, testRequest))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+            verify(eventRepository, times(3)).saveAndFlush(any(Event.class));
+            EventContentionResponse contention = contentionTracker.contention(1L).orElseThrow();
+            assertThat(contention.getRetries()).isEqualTo(2);
+            assertThat(contention.getAborts()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not retry when seats are insufficient")
+        void shouldNotRetryWhenInsufficientSeats() {
+            testEvent.setAvailableSeats(1);
+            when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+
+            assertThatThrownBy(() -> strategy.book(1L, testRequest)).isInstanceOf(InsufficientSeatsException.class);
+
+            verify(eventRepository, times(1)).findById(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("backoffMillis")
+    class BackoffTests {
+
+        @Test
+        @DisplayName("should grow exponentially and stay within the cap")
+        void shouldGrowExponentiallyWithinCap() {
+            assertThat(OptimisticBookingStrategy.backoffMillis(1, 5, 200, 1.0)).isEqualTo(5);
+            assertThat(OptimisticBookingStrategy.backoffMillis(3, 5, 200, 1.0)).isEqualTo(20);
+            assertThat(OptimisticBookingStrategy.backoffMillis(10, 5, 200, 1.0)).isEqualTo(200);
+            assertThat(OptimisticBookingStrategy.backoffMillis(64, 5, 200, 1.0)).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("should scale by the jitter factor")
+        void shouldScaleByJitter() {
+            assertThat(OptimisticBookingStrategy.backoffMillis(3, 5, 200, 0.5)).isEqualTo(10);
+            assertThat(OptimisticBookingStrategy.backoffMillis(3, 5, 200, 0.0)).isZero();
+        }
+    }
+
+    private static Event copyOf(Event event) {
+        return Event.builder()
+                .id(event.getId())
+                .name(event.getName())
+                .venue(event.getVenue())
+                .eventDate(event.getEventDate())
+                .totalSeats(event.getTotalSeats())
+                .availableSeats(event.getAvailableSeats())
+                .price(event.getPrice())
+                .version(event.getVersion())
+                .build();
+    }
+}
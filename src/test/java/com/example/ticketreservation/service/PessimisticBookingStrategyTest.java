@@ -0,0 +1,120 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PessimisticBookingStrategy Tests")
+class PessimisticBookingStrategyTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Spy
+    private TicketCodeGenerator ticketCodeGenerator = new TicketCodeGenerator(0);
+
+    @InjectMocks
+    private PessimisticBookingStrategy strategy;
+
+    private Event testEvent;
+    private TicketRequest testRequest;
+
+    @BeforeEach
+    void setUp() {
+        testEvent = Event.builder()
+                .id(1L)
+                .name("Test Event")
+                .venue("Test Venue")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(100)
+                .availableSeats(50)
+                .price(new BigDecimal("1000.0"))
+                .build();
+
+        testRequest = TicketRequest.builder()
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .numberOfSeats(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should create ticket successfully")
+    void shouldCreateTicketSuccessfully() {
+        when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket ticket = invocation.getArgument(0);
+            ticket.setId(1L);
+            return ticket;
+        });
+
+        TicketResponse result = strategy.book(1L, testRequest);
+
+        assertThat(result.getCustomerName()).isEqualTo("John Doe");
+        assertThat(result.getNumberOfSeats()).isEqualTo(2);
+        verify(eventRepository).findByIdWithLock(1L);
+        verify(eventRepository).save(any(Event.class));
+        verify(ticketRepository).save(any(Ticket.class));
+    }
+
+    @Test
+    @DisplayName("should throw exception when event not found")
+    void shouldThrowExceptionWhenEventNotFound() {
+        when(eventRepository.findByIdWithLock(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> strategy.book(999L, testRequest)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should throw exception when insufficient seats")
+    void shouldThrowExceptionWhenInsufficientSeats() {
+        testEvent.setAvailableSeats(1);
+        when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
+
+        assertThatThrownBy(() -> strategy.book(1L, testRequest)).isInstanceOf(InsufficientSeatsException.class);
+        verify(ticketRepository, never()).save(any(Ticket.class));
+    }
+
+    @Test
+    @DisplayName("should decrease available seats after booking")
+    void shouldDecreaseAvailableSeatsAfterBooking() {
+        int initialSeats = testEvent.getAvailableSeats();
+        when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket ticket = invocation.getArgument(0);
+            ticket.setId(1L);
+            return ticket;
+        });
+
+        strategy.book(1L, testRequest);
+
+        assertThat(testEvent.getAvailableSeats()).isEqualTo(initialSeats - 2);
+        verify(eventRepository).save(testEvent);
+    }
+}
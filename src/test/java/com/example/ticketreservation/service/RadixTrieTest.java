@@ -0,0 +1,94 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RadixTrie Tests")
+class RadixTrieTest {
+
+    private RadixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new RadixTrie();
+        trie.add("Tokyo Dome", 5);
+        trie.add("Tokyo Forum", 10);
+        trie.add("Toyosu PIT", 1);
+        trie.add("Osaka Hall", 7);
+    }
+
+    @Test
+    @DisplayName("should complete a prefix case-insensitively, heaviest first")
+    void shouldCompleteHeaviestFirst() {
+        assertThat(trie.complete("to", 10)).containsExactly("Tokyo Forum", "Tokyo Dome", "Toyosu PIT");
+        assertThat(trie.complete("TOKYO D", 10)).containsExactly("Tokyo Dome");
+        assertThat(trie.complete("Kyoto", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return only the top terms up to the limit")
+    void shouldHonourLimit() {
+        assertThat(trie.complete("", 2)).containsExactly("Tokyo Forum", "Osaka Hall");
+        assertThat(trie.complete("to", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should sum the weight of a term added more than once and keep its first spelling")
+    void shouldSumRepeatedTerms() {
+        String display = trie.add("TOKYO DOME", 6);
+
+        assertThat(display).isEqualTo("Tokyo Dome");
+        assertThat(trie.size()).isEqualTo(4);
+        assertThat(trie.complete("tokyo", 10)).containsExactly("Tokyo Dome", "Tokyo Forum");
+    }
+
+    @Test
+    @DisplayName("should keep a term until every occurrence is removed")
+    void shouldRemoveOccurrences() {
+        trie.add("Tokyo Dome", 6);
+
+        trie.remove("Tokyo Dome", 6);
+        assertThat(trie.complete("tokyo", 10)).containsExactly("Tokyo Forum", "Tokyo Dome");
+
+        trie.remove("Tokyo Dome", 5);
+        assertThat(trie.complete("tokyo", 10)).containsExactly("Tokyo Forum");
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should complete terms that are prefixes of other terms")
+    void shouldHandleNestedTerms() {
+        trie.add("Tokyo", 3);
+
+        assertThat(trie.complete("tokyo", 10)).containsExactly("Tokyo Forum", "Tokyo Dome", "Tokyo");
+
+        trie.remove("Tokyo Forum", 10);
+        trie.remove("Tokyo Dome", 5);
+        assertThat(trie.complete("tok", 10)).containsExactly("Tokyo");
+    }
+
+    @Test
+    @DisplayName("should shrink its footprint estimate back when terms are removed")
+    void shouldEstimateFootprint() {
+        RadixTrie empty = new RadixTrie();
+        long emptyBytes = empty.estimatedBytes();
+        empty.add("Tokyo Dome", 1);
+        empty.add("Tokyo Forum", 1);
+
+        assertThat(empty.estimatedBytes()).isGreaterThan(emptyBytes);
+
+        empty.remove("Tokyo Dome", 1);
+        empty.remove("Tokyo Forum", 1);
+        assertThat(empty.estimatedBytes()).isEqualTo(emptyBytes);
+    }
+
+    @Test
+    @DisplayName("should ignore blank terms")
+    void shouldIgnoreBlankTerms() {
+        assertThat(trie.add("  ", 1)).isNull();
+        assertThat(trie.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.SeatHold;
+import com.example.ticketreservation.entity.SeatHoldStatus;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.SeatHoldRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatHoldExpiry Tests")
+class SeatHoldExpiryTest {
+
+    @Mock
+    private SeatHoldRepository seatHoldRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SeatShardInventory seatShardInventory;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private BookingExecutors bookingExecutors;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SeatHoldExpiry seatHoldExpiry;
+
+    @BeforeEach
+    void setUp() {
+        BookingProperties bookingProperties = new BookingProperties();
+        bookingProperties.getHolds().setTickDuration(Duration.ofMillis(100));
+        seatHoldExpiry = new SeatHoldExpiry(
+                seatHoldRepository,
+                eventRepository,
+                seatShardInventory,
+                transactionTemplate,
+                bookingExecutors,
+                bookingProperties,
+                eventPublisher);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("should put a failed batch back on the wheel and expire it on the next tick")
+    void shouldRetryFailedBatch() {
+        long nowMillis = System.currentTimeMillis();
+        Event event = Event.builder().id(1L).availableSeats(0).build();
+        SeatHold hold = SeatHold.builder()
+                .id(10L)
+                .eventId(1L)
+                .numberOfSeats(2)
+                .status(SeatHoldStatus.HELD)
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        when(seatHoldRepository.findByIdInAndStatusWithLock(List.of(10L), SeatHoldStatus.HELD))
+                .thenThrow(new CannotAcquireLockException("lock timeout"))
+                .thenReturn(List.of(hold));
+        when(eventRepository.findAllById(any())).thenReturn(List.of(event));
+        seatHoldExpiry.schedule(10L, hold.getExpiresAt());
+
+        seatHoldExpiry.tick(nowMillis + 100);
+
+        assertThat(hold.getStatus()).isEqualTo(SeatHoldStatus.HELD);
+        assertThat(seatHoldExpiry.pending()).isEqualTo(1);
+
+        seatHoldExpiry.tick(nowMillis + 300);
+
+        assertThat(hold.getStatus()).isEqualTo(SeatHoldStatus.EXPIRED);
+        assertThat(seatHoldExpiry.pending()).isZero();
+        verify(seatShardInventory).release(event, 2);
+    }
+}
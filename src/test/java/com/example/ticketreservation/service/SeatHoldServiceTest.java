@@ -0,0 +1,153 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.SeatHoldResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.SeatHold;
+import com.example.ticketreservation.entity.SeatHoldStatus;
+import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.SeatHoldRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("SeatHoldService Tests")
+class SeatHoldServiceTest {
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    @Autowired
+    private SeatHoldExpiry seatHoldExpiry;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private SeatHoldRepository seatHoldRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        seatHoldRepository.deleteAll();
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        EventRequest eventRequest = EventRequest.builder()
+                .name("Hold Concert")
+                .venue("Tokyo Dome")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(10)
+                .price(new BigDecimal("5000.0"))
+                .build();
+        eventId = eventService.createEvent(eventRequest).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatHoldRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should reserve seats without creating a ticket")
+    void shouldReserveSeatsWithoutTicket() {
+        SeatHoldResponse hold = seatHoldService.holdSeats(eventId, request(4));
+
+        assertThat(hold.getStatus()).isEqualTo(SeatHoldStatus.HELD);
+        assertThat(hold.getExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(availableSeats()).isEqualTo(6);
+        assertThat(ticketRepository.countByEventId(eventId)).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject holds that exceed remaining seats")
+    void shouldRejectWhenInsufficientSeats() {
+        seatHoldService.holdSeats(eventId, request(8));
+
+        assertThatThrownBy(() -> seatHoldService.holdSeats(eventId, request(3)))
+                .isInstanceOf(InsufficientSeatsException.class);
+    }
+
+    @Test
+    @DisplayName("should confirm a hold into a ticket without touching seats again")
+    void shouldConfirmHold() {
+        SeatHoldResponse hold = seatHoldService.holdSeats(eventId, request(2));
+
+        TicketResponse ticket = seatHoldService.confirmHold(hold.getId());
+
+        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.CONFIRMED);
+        assertThat(ticket.getTotalAmount()).isEqualByComparingTo("10000.0");
+        assertThat(seatHoldService.getHoldById(hold.getId()).getTicketId()).isEqualTo(ticket.getId());
+        assertThat(availableSeats()).isEqualTo(8);
+        assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getId())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("should return seats when a hold is released")
+    void shouldReleaseHold() {
+        SeatHoldResponse hold = seatHoldService.holdSeats(eventId, request(3));
+
+        SeatHoldResponse released = seatHoldService.releaseHold(hold.getId());
+
+        assertThat(released.getStatus()).isEqualTo(SeatHoldStatus.RELEASED);
+        assertThat(availableSeats()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should expire overdue holds in one batch and return their seats")
+    void shouldExpireOverdueHolds() {
+        SeatHoldResponse first = seatHoldService.holdSeats(eventId, request(3));
+        SeatHoldResponse second = seatHoldService.holdSeats(eventId, request(2));
+        SeatHoldResponse pending = seatHoldService.holdSeats(eventId, request(1));
+        expireNow(first.getId());
+        expireNow(second.getId());
+
+        int released = seatHoldExpiry.expireHolds(List.of(first.getId(), second.getId(), pending.getId()));
+
+        assertThat(released).isEqualTo(5);
+        assertThat(availableSeats()).isEqualTo(9);
+        assertThat(seatHoldService.getHoldById(first.getId()).getStatus()).isEqualTo(SeatHoldStatus.EXPIRED);
+        assertThat(seatHoldService.getHoldById(pending.getId()).getStatus()).isEqualTo(SeatHoldStatus.HELD);
+        assertThatThrownBy(() -> seatHoldService.confirmHold(first.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void expireNow(Long holdId) {
+        SeatHold hold = seatHoldRepository.findById(holdId).orElseThrow();
+        hold.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        seatHoldRepository.save(hold);
+    }
+
+    private int availableSeats() {
+        return eventRepository.findById(eventId).orElseThrow().getAvailableSeats();
+    }
+
+    private static TicketRequest request(int seats) {
+        return TicketRequest.builder()
+                .customerName("Customer")
+                .customerEmail("customer@example.com")
+                .numberOfSeats(seats)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatInventoryLedger Tests")
+class SeatInventoryLedgerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private SeatInventoryLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        BookingProperties properties = new BookingProperties();
+        properties.setMode(BookingMode.LEDGER);
+        ledger = new SeatInventoryLedger(eventRepository, properties);
+    }
+
+    @Test
+    @DisplayName("should load counter lazily and reserve seats")
+    void shouldLoadLazilyAndReserve() {
+        when(eventRepository.findAvailableSeatsById(1L)).thenReturn(Optional.of(10));
+
+        assertThat(ledger.reserve(1L, 3)).isEqualTo(7);
+        assertThat(ledger.reserve(1L, 7)).isZero();
+        verify(eventRepository, times(1)).findAvailableSeatsById(1L);
+    }
+
+    @Test
+    @DisplayName("should reject reservation when not enough seats remain")
+    void shouldRejectWhenNotEnoughSeats() {
+        ledger.reconcile(1L, 2);
+
+        assertThatThrownBy(() -> ledger.reserve(1L, 3)).isInstanceOf(InsufficientSeatsException.class);
+        assertThat(ledger.reserve(1L, 2)).isZero();
+    }
+
+    @Test
+    @DisplayName("should throw ResourceNotFoundException for unknown event")
+    void shouldThrowForUnknownEvent() {
+        when(eventRepository.findAvailableSeatsById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> ledger.reserve(999L, 1)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should return released seats and apply reconciled counts")
+    void shouldReleaseAndReconcile() {
+        ledger.reconcile(1L, 5);
+        ledger.reserve(1L, 5);
+        ledger.release(1L, 2);
+
+        assertThat(ledger.reserve(1L, 2)).isZero();
+
+        ledger.onEventChanged(EventChangedEvent.deleted(1L));
+        assertThat(ledger.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should never oversell under concurrent reservations")
+    void shouldNeverOversellUnderConcurrency() throws Exception {
+        ledger.reconcile(1L, 100);
+        int threadCount = 32;
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < 10; attempt++) {
+                    try {
+                        ledger.reserve(1L, 1);
+                        accepted.incrementAndGet();
+                    } catch (InsufficientSeatsException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(accepted.get()).isEqualTo(100);
+        assertThat(rejected.get()).isEqualTo(threadCount * 10 - 100);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSeatShardRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SeatShardInventory Tests")
+class SeatShardInventoryTest {
+
+    @Test
+    @DisplayName("splitSeats should spread the remainder over the first shards")
+    void splitSeatsShouldSpreadRemainder() {
+        assertThat(SeatShardInventory.splitSeats(10, 4)).containsExactly(3, 3, 2, 2);
+        assertThat(SeatShardInventory.splitSeats(8, 4)).containsExactly(2, 2, 2, 2);
+        assertThat(SeatShardInventory.splitSeats(2, 4)).containsExactly(1, 1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("hasShards should treat null and one as unsharded")
+    void hasShardsShouldTreatNullAndOneAsUnsharded() {
+        assertThat(SeatShardInventory.hasShards(null)).isFalse();
+        assertThat(SeatShardInventory.hasShards(1)).isFalse();
+        assertThat(SeatShardInventory.hasShards(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("isSharded should reload the shard count once it is forgotten")
+    void isShardedShouldReloadForgottenShardCount() {
+        EventRepository eventRepository = mock(EventRepository.class);
+        SeatShardInventory inventory = new SeatShardInventory(mock(EventSeatShardRepository.class), eventRepository);
+        when(eventRepository.findSeatShardsById(1L)).thenReturn(Optional.of(1)).thenReturn(Optional.of(8));
+
+        assertThat(inventory.isSharded(1L)).isFalse();
+        assertThat(inventory.isSharded(1L)).isFalse();
+
+        inventory.forgetShardCount(1L);
+
+        assertThat(inventory.isSharded(1L)).isTrue();
+        verify(eventRepository, times(2)).findSeatShardsById(1L);
+    }
+
+    @Test
+    @DisplayName("shardCountOf should default to one shard")
+    void shardCountOfShouldDefaultToOne() {
+        assertThat(SeatShardInventory.shardCountOf(Event.builder().build())).isEqualTo(1);
+        assertThat(SeatShardInventory.shardCountOf(Event.builder().seatShards(16).build())).isEqualTo(16);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.EventResponse;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.EventSeatShard;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.EventSeatShardRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("ShardedBookingStrategy Tests")
+class ShardedBookingStrategyTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventSeatShardRepository shardRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        shardRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        eventId = eventService.createEvent(eventRequest(40, 8)).getId();
+    }
+
+    @Test
+    @DisplayName("should spread seats across shards and report their sum")
+    void shouldSpreadSeatsAcrossShards() {
+        EventResponse event = eventService.getEventById(eventId);
+
+        assertThat(event.getAvailableSeats()).isEqualTo(40);
+        assertThat(event.getSeatShards()).isEqualTo(8);
+        assertThat(shardRepository.findAll())
+                .hasSize(8)
+                .extracting(EventSeatShard::getAvailableSeats)
+                .containsOnly(5);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("should book from a shard and decrease the reported seats")
+    void shouldBookFromShard() {
+        TicketResponse response = ticketService.createTicket(eventId, request("john@example.com", 3));
+
+        assertThat(response.getId()).isNotNull();
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("15000.0");
+        assertThat(eventService.getEventById(eventId).getAvailableSeats()).isEqualTo(37);
+    }
+
+    @Test
+    @DisplayName("should combine shards when no single shard can cover the request")
+    void shouldCombineShardsWhenFragmented() {
+        ticketService.createTicket(eventId, request("a@example.com", 5));
+
+        TicketResponse response = ticketService.createTicket(eventId, request("b@example.com", 33));
+
+        assertThat(response.getNumberOfSeats()).isEqualTo(33);
+        assertThat(eventService.getEventById(eventId).getAvailableSeats()).isEqualTo(2);
+        assertThatThrownBy(() -> ticketService.createTicket(eventId, request("c@example.com", 3)))
+                .isInstanceOf(InsufficientSeatsException.class);
+    }
+
+    @Test
+    @DisplayName("should return cancelled seats to a shard")
+    void shouldReleaseSeatsOnCancellation() {
+        TicketResponse ticket = ticketService.createTicket(eventId, request("john@example.com", 4));
+
+        ticketService.cancelTicket(ticket.getId());
+
+        assertThat(eventService.getEventById(eventId).getAvailableSeats()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("should redistribute seats when total seats or shard count change")
+    void shouldRedistributeOnUpdate() {
+        ticketService.createTicket(eventId, request("john@example.com", 10));
+
+        EventResponse resharded = eventService.updateEvent(eventId, eventRequest(60, 4));
+
+        assertThat(resharded.getAvailableSeats()).isEqualTo(50);
+        assertThat(resharded.getSeatShards()).isEqualTo(4);
+        assertThat(shardRepository.findAll())
+                .hasSize(4)
+                .extracting(EventSeatShard::getAvailableSeats)
+                .containsExactlyInAnyOrder(13, 13, 12, 12);
+
+        EventResponse unsharded = eventService.updateEvent(eventId, eventRequest(60, 1));
+
+        assertThat(unsharded.getAvailableSeats()).isEqualTo(50);
+        assertThat(shardRepository.findAll()).isEmpty();
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableSeats()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("should never oversell under concurrent bookings")
+    void shouldNeverOversellUnderConcurrentBookings() throws Exception {
+        int threadCount = 60;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            String email = "user" + i + "@example.com";
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    ticketService.createTicket(eventId, request(email, 1));
+                    succeeded.incrementAndGet();
+                } catch (InsufficientSeatsException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new AssertionError(e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded.get()).isEqualTo(40);
+        assertThat(rejected.get()).isEqualTo(20);
+        assertThat(ticketRepository.countByEventId(eventId)).isEqualTo(40);
+        assertThat(eventService.getEventById(eventId).getAvailableSeats()).isZero();
+    }
+
+    private static EventRequest eventRequest(int totalSeats, int seatShards) {
+        return EventRequest.builder()
+                .name("Stadium Concert")
+                .venue("National Stadium")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(totalSeats)
+                .price(new BigDecimal("5000.0"))
+                .seatShards(seatShards)
+                .build();
+    }
+
+    private static TicketRequest request(String email, int seats) {
+        return TicketRequest.builder()
+                .customerName("Customer")
+                .customerEmail(email)
+                .numberOfSeats(seats)
+                .build();
+    }
+}
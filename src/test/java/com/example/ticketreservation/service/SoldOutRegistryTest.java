@@ -0,0 +1,94 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.exception.SoldOutException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+@DisplayName("SoldOutRegistry Tests")
+class SoldOutRegistryTest {
+
+    private List<Long> broadcasts;
+    private SoldOutRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        broadcasts = new ArrayList<>();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("broadcaster", (SeatAvailabilityBroadcaster) broadcasts::add);
+        registry = new SoldOutRegistry(beanFactory.getBeanProvider(SeatAvailabilityBroadcaster.class));
+    }
+
+    @Test
+    @DisplayName("should let requests through for events it knows nothing about")
+    void shouldPassUnknownEvents() {
+        assertThatCode(() -> registry.check(1L, 100)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("should reject sold-out events and requests above the recorded seats")
+    void shouldRejectAfterRecordedRejection() {
+        registry.record(1L, registry.check(1L, 5), 2);
+
+        assertThatThrownBy(() -> registry.check(1L, 3)).isSameAs(SoldOutException.INSTANCE);
+        assertThatCode(() -> registry.check(1L, 2)).doesNotThrowAnyException();
+
+        registry.record(1L, registry.check(1L, 2), 0);
+
+        assertThatThrownBy(() -> registry.check(1L, 1)).isSameAs(SoldOutException.INSTANCE);
+        assertThatCode(() -> registry.check(2L, 1)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("should never raise the recorded seats")
+    void shouldKeepLowestRecordedSeats() {
+        long generation = registry.check(1L, 5);
+        registry.record(1L, generation, 0);
+        registry.record(1L, generation, 4);
+
+        assertThatThrownBy(() -> registry.check(1L, 1)).isInstanceOf(SoldOutException.class);
+    }
+
+    @Test
+    @DisplayName("should ignore rejections observed before an invalidation")
+    void shouldDiscardStaleRejections() {
+        long generation = registry.check(1L, 5);
+        registry.invalidateLocal(1L);
+        registry.record(1L, generation, 0);
+
+        assertThatCode(() -> registry.check(1L, 5)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("should forget the event and broadcast when seats come back")
+    void shouldInvalidateOnCancellation() {
+        registry.record(1L, registry.check(1L, 5), 0);
+
+        registry.onTicketCancelled(new TicketCancelledEvent(1L, 10L, 2));
+
+        assertThatCode(() -> registry.check(1L, 2)).doesNotThrowAnyException();
+        assertThat(broadcasts).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("should not broadcast invalidations received from other instances")
+    void shouldNotBroadcastLocalInvalidation() {
+        registry.invalidateLocal(1L);
+
+        assertThat(broadcasts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should share one stackless exception instance")
+    void shouldUseStacklessException() {
+        assertThat(SoldOutException.INSTANCE.getStackTrace()).isEmpty();
+        assertThat(SoldOutException.INSTANCE.getAvailableSeats()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StagedBookingStrategy Tests")
+class StagedBookingStrategyTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private SeatShardInventory seatShardInventory;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentProcessor paymentProcessor;
+
+    @Mock
+    private BookingExecutors bookingExecutors;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService paymentWorkers;
+    private StagedBookingStrategy strategy;
+    private Event testEvent;
+    private TicketRequest testRequest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentWorkers = Executors.newSingleThreadExecutor();
+        strategy = new StagedBookingStrategy(
+                eventRepository,
+                ticketRepository,
+                new TicketCodeGenerator(0),
+                seatShardInventory,
+                transactionTemplate,
+                paymentProcessor,
+                bookingExecutors,
+                eventPublisher,
+                meterRegistry);
+
+        testEvent = Event.builder()
+                .id(1L)
+                .name("Test Event")
+                .venue("Test Venue")
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .totalSeats(100)
+                .availableSeats(50)
+                .price(new BigDecimal("1000.0"))
+                .build();
+        testRequest = TicketRequest.builder()
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .numberOfSeats(2)
+                .build();
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient()
+                .doAnswer(invocation -> {
+                    Consumer<TransactionStatus> action = invocation.getArgument(0);
+                    action.accept(null);
+                    return null;
+                })
+                .when(transactionTemplate)
+                .executeWithoutResult(any());
+        lenient().when(bookingExecutors.paymentWorkers()).thenReturn(paymentWorkers);
+        lenient().when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        lenient().when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket ticket = invocation.getArgument(0);
+            ticket.setId(10L);
+            return ticket;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentWorkers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should return a pending ticket once the seats are reserved")
+    void shouldReturnPendingTicket() throws InterruptedException {
+        when(paymentProcessor.charge(anyString(), eq("john@example.com"), any())).thenReturn(true);
+
+        TicketResponse response = strategy.book(1L, testRequest);
+        awaitPayments();
+
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.getStatus()).isEqualTo(TicketStatus.PENDING);
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("2000.0");
+        verify(seatShardInventory).reserve(testEvent, 2);
+    }
+
+    @Test
+    @DisplayName("should confirm the ticket when the payment is approved")
+    void shouldConfirmApprovedPayment() throws InterruptedException {
+        when(paymentProcessor.charge(anyString(), anyString(), any())).thenReturn(true);
+        when(ticketRepository.transitionStatus(eq(10L), eq(TicketStatus.PENDING), eq(TicketStatus.CONFIRMED), any()))
+                .thenReturn(1);
+
+        strategy.book(1L, testRequest);
+        awaitPayments();
+
+        verify(seatShardInventory, never()).release(any(), anyInt());
+        assertThat(meterRegistry
+                        .get("booking.staged.stage")
+                        .tag("stage", "confirm")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should cancel the ticket and release its seats when the payment is declined")
+    void shouldCompensateDeclinedPayment() throws InterruptedException {
+        when(paymentProcessor.charge(anyString(), anyString(), any())).thenReturn(false);
+        when(ticketRepository.transitionStatus(eq(10L), eq(TicketStatus.PENDING), eq(TicketStatus.CANCELLED), any()))
+                .thenReturn(1);
+
+        strategy.book(1L, testRequest);
+        awaitPayments();
+
+        verify(seatShardInventory).release(testEvent, 2);
+        verify(eventPublisher).publishEvent(new SeatAvailabilityChangedEvent(1L));
+        assertThat(meterRegistry
+                        .get("booking.staged.stage")
+                        .tag("stage", "compensate")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should compensate when the payment step fails")
+    void shouldCompensateFailedPayment() throws InterruptedException {
+        when(paymentProcessor.charge(anyString(), anyString(), any()))
+                .thenThrow(new IllegalStateException("gateway down"));
+        when(ticketRepository.transitionStatus(eq(10L), eq(TicketStatus.PENDING), eq(TicketStatus.CANCELLED), any()))
+                .thenReturn(1);
+
+        strategy.book(1L, testRequest);
+        awaitPayments();
+
+        verify(seatShardInventory).release(testEvent, 2);
+    }
+
+    @Test
+    @DisplayName("should not release seats twice when the ticket already left pending")
+    void shouldSkipCompensationWhenAlreadySettled() throws InterruptedException {
+        when(paymentProcessor.charge(anyString(), anyString(), any())).thenReturn(false);
+        when(ticketRepository.transitionStatus(eq(10L), eq(TicketStatus.PENDING), eq(TicketStatus.CANCELLED), any()))
+                .thenReturn(0);
+
+        strategy.book(1L, testRequest);
+        awaitPayments();
+
+        verify(seatShardInventory, never()).release(any(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should not start a payment when the seats cannot be reserved")
+    void shouldNotChargeWhenReservationFails() {
+        doThrow(new InsufficientSeatsException(2, 1)).when(seatShardInventory).reserve(testEvent, 2);
+
+        assertThatThrownBy(() -> strategy.book(1L, testRequest)).isInstanceOf(InsufficientSeatsException.class);
+        verifyNoInteractions(paymentProcessor, bookingExecutors);
+    }
+
+    private void awaitPayments() throws InterruptedException {
+        paymentWorkers.shutdown();
+        assertThat(paymentWorkers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TicketCodeGenerator Tests")
+class TicketCodeGeneratorTest {
+
+    private static final long NOW = TicketCodeGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("should produce grouped base32 codes with a valid check character")
+    void shouldProduceWellFormedCodes() {
+        TicketCodeGenerator generator = new TicketCodeGenerator(0, () -> NOW);
+
+        for (int i = 0; i < 1_000; i++) {
+            String code = generator.next();
+
+            assertThat(code).matches("TKT-[0-9A-HJKMNP-TV-Z]{4}-[0-9A-HJKMNP-TV-Z]{4}-[0-9A-HJKMNP-TV-Z]{5}");
+            assertThat(TicketCodeGenerator.isMistyped(code)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("should detect any single mistyped character")
+    void shouldDetectMistypedCodes() {
+        String code = new TicketCodeGenerator(0, () -> NOW).next();
+        char[] symbols = code.toCharArray();
+
+        for (int position = TicketCodeGenerator.PREFIX.length(); position < symbols.length; position++) {
+            if (symbols[position] == '-') {
+                continue;
+            }
+            for (char replacement : TicketCodeGenerator.ALPHABET.toCharArray()) {
+                if (replacement != symbols[position]) {
+                    char[] typo = symbols.clone();
+                    typo[position] = replacement;
+                    assertThat(TicketCodeGenerator.isMistyped(new String(typo))).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should leave legacy and foreign codes to the lookup")
+    void shouldNotJudgeOtherShapes() {
+        assertThat(TicketCodeGenerator.isMistyped("TKT-1A2B3C4D")).isFalse();
+        assertThat(TicketCodeGenerator.isMistyped("tkt-abcd-efgh-ijklm")).isFalse();
+        assertThat(TicketCodeGenerator.isMistyped(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should scramble values with an invertible permutation")
+    void shouldPermuteReversibly() {
+        long value = TicketCodeGenerator.compose(123_456_789L, 7, 3);
+
+        assertThat(TicketCodeGenerator.permute(value)).isNotEqualTo(value);
+        assertThat(TicketCodeGenerator.unpermute(TicketCodeGenerator.permute(value)))
+                .isEqualTo(value);
+        assertThat(TicketCodeGenerator.permute(value + 1) - TicketCodeGenerator.permute(value))
+                .isNotEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep codes of different nodes apart on the same tick")
+    void shouldSeparateNodes() {
+        String nodeA = new TicketCodeGenerator(1, () -> NOW).next();
+        String nodeB = new TicketCodeGenerator(2, () -> NOW).next();
+
+        assertThat(nodeA).isNotEqualTo(nodeB);
+    }
+
+    @Test
+    @DisplayName("should run ahead of a stalled or backward clock instead of repeating codes")
+    void shouldRunAheadOfClock() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TicketCodeGenerator generator = new TicketCodeGenerator(0, clock::get);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-10);
+            }
+            assertThat(seen.add(generator.next())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("should issue unique codes across concurrent threads")
+    void shouldStayUniqueUnderConcurrency() throws Exception {
+        int threads = 32;
+        int codesPerThread = 5_000;
+        TicketCodeGenerator generator = new TicketCodeGenerator(0, () -> NOW);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < codesPerThread; i++) {
+                    seen.add(generator.next());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(seen).hasSize(threads * codesPerThread);
+    }
+
+    @Test
+    @DisplayName("should reject node ids outside the supported range")
+    void shouldRejectInvalidNodeId() {
+        assertThatThrownBy(() -> new TicketCodeGenerator(TicketCodeGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TicketCodeGenerator(-1, () -> NOW)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
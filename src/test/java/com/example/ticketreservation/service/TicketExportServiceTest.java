@@ -0,0 +1,116 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ticketreservation.dto.EventRequest;
+import com.example.ticketreservation.dto.TicketRequest;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("TicketExportService Tests")
+class TicketExportServiceTest {
+
+    private static final int TICKET_COUNT = TicketExportService.FLUSH_INTERVAL + 5;
+
+    @Autowired
+    private TicketExportService ticketExportService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketCodeGenerator ticketCodeGenerator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        eventId = eventService
+                .createEvent(EventRequest.builder()
+                        .name("Export Night")
+                        .venue("Tokyo Dome")
+                        .eventDate(LocalDateTime.now().plusDays(30))
+                        .totalSeats(TICKET_COUNT)
+                        .price(new BigDecimal("5000.0"))
+                        .build())
+                .getId();
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        List<Ticket> tickets = IntStream.range(0, TICKET_COUNT)
+                .mapToObj(i -> TicketService.toNewEntity(
+                        event,
+                        TicketRequest.builder()
+                                .customerName(i == 0 ? "Doe, \"JD\" John" : "Buyer " + i)
+                                .customerEmail("buyer" + i + "@example.com")
+                                .numberOfSeats(1)
+                                .build(),
+                        ticketCodeGenerator))
+                .toList();
+        ticketRepository.saveAll(tickets);
+    }
+
+    @Test
+    @DisplayName("should stream one JSON object per line across several fetches")
+    void shouldExportNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = ticketExportService.exportTickets(eventId, TicketExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exported).isEqualTo(TICKET_COUNT);
+        assertThat(lines).hasSize(TICKET_COUNT);
+        JsonNode last = objectMapper.readTree(lines.get(TICKET_COUNT - 1));
+        assertThat(last.get("eventId").asLong()).isEqualTo(eventId);
+        assertThat(last.get("eventName").asText()).isEqualTo("Export Night");
+        assertThat(last.get("customerEmail").asText()).isEqualTo("buyer" + (TICKET_COUNT - 1) + "@example.com");
+    }
+
+    @Test
+    @DisplayName("should write a CSV header and quote fields that need it")
+    void shouldExportCsv() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ticketExportService.exportTickets(eventId, TicketExportFormat.CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(TICKET_COUNT + 1);
+        assertThat(lines.get(0)).isEqualTo(String.join(",", TicketExportService.CSV_COLUMNS));
+        assertThat(lines.get(1))
+                .contains(",Export Night,\"Doe, \"\"JD\"\" John\",buyer0@example.com,1,5000.00,CONFIRMED,");
+    }
+
+    @Test
+    @DisplayName("should report an unknown event as not found")
+    void shouldRejectUnknownEvent() {
+        assertThatThrownBy(() -> ticketExportService.requireEvent(Long.MAX_VALUE))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
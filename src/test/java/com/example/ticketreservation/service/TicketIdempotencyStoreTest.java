@@ -0,0 +1,163 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.TicketResponse;
+import com.example.ticketreservation.entity.Event;
+import com.example.ticketreservation.entity.Ticket;
+import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.repository.TicketRepository;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketIdempotencyStore Tests")
+class TicketIdempotencyStoreTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    private TicketIdempotencyStore store;
+    private Ticket storedTicket;
+    private TicketResponse response;
+
+    @BeforeEach
+    void setUp() {
+        store = new TicketIdempotencyStore(ticketRepository, new BookingProperties());
+        Event event = Event.builder().id(1L).name("Test Event").build();
+        storedTicket = Ticket.builder()
+                .id(10L)
+                .ticketCode("TKT-12345678")
+                .event(event)
+                .customerName("John Doe")
+                .customerEmail("john@example.com")
+                .numberOfSeats(2)
+                .totalAmount(new BigDecimal("2000.0"))
+                .status(TicketStatus.CONFIRMED)
+                .idempotencyKey("key-1")
+                .build();
+        response = TicketService.toResponse(storedTicket);
+    }
+
+    @Test
+    @DisplayName("should book once and replay the stored response from memory")
+    void shouldReplayFromMemory() {
+        when(ticketRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.empty());
+        AtomicInteger bookings = new AtomicInteger();
+
+        TicketResponse first = store.execute("key-1", () -> {
+            bookings.incrementAndGet();
+            return response;
+        });
+        TicketResponse replay = store.execute("key-1", () -> {
+            throw new AssertionError("booked twice");
+        });
+
+        assertThat(replay).isEqualTo(first);
+        assertThat(bookings).hasValue(1);
+        verify(ticketRepository, times(1)).findByIdempotencyKey("key-1");
+    }
+
+    @Test
+    @DisplayName("should fall back to the ticket stored in the database")
+    void shouldReplayFromDatabase() {
+        when(ticketRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(storedTicket));
+
+        TicketResponse replay = store.execute("key-1", () -> {
+            throw new AssertionError("booked twice");
+        });
+
+        assertThat(replay.getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("should find a stored response without booking")
+    void shouldFindWithoutBooking() {
+        when(ticketRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.empty());
+
+        assertThat(store.find("key-1")).isEmpty();
+
+        store.execute("key-1", () -> response);
+
+        assertThat(store.find("key-1")).contains(response);
+    }
+
+    @Test
+    @DisplayName("should not remember failed bookings")
+    void shouldForgetFailures() {
+        when(ticketRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> store.execute("key-1", () -> {
+                    throw new InsufficientSeatsException(2, 1);
+                }))
+                .isInstanceOf(InsufficientSeatsException.class);
+
+        assertThat(store.execute("key-1", () -> response)).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("should return the other instance's ticket when the unique key collides")
+    void shouldRecoverFromUniqueKeyViolation() {
+        when(ticketRepository.findByIdempotencyKey("key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(storedTicket));
+
+        TicketResponse result = store.execute("key-1", () -> {
+            throw new DataIntegrityViolationException("duplicate idempotency_key");
+        });
+
+        assertThat(result.getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("should share one booking between concurrent requests with the same key")
+    void shouldCoalesceConcurrentRequests() throws Exception {
+        when(ticketRepository.findByIdempotencyKey("key-1")).thenReturn(Optional.empty());
+        AtomicInteger bookings = new AtomicInteger();
+        CountDownLatch booking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<TicketResponse> first = executor.submit(() -> store.execute("key-1", () -> {
+            bookings.incrementAndGet();
+            booking.countDown();
+            await(release);
+            return response;
+        }));
+        booking.await(5, TimeUnit.SECONDS);
+        Future<TicketResponse> second = executor.submit(() -> store.execute("key-1", () -> {
+            bookings.incrementAndGet();
+            return response;
+        }));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(bookings).hasValue(1);
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -54,6 +55,9 @@ class TicketServiceCacheIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     private Long eventId;
 
     @BeforeEach
@@ -76,11 +80,11 @@ class TicketServiceCacheIntegrationTest {
     }
 
     @Test
-    @DisplayName("should evict event cache when ticket is created")
-    void shouldEvictEventCacheOnTicketCreation() {
+    @DisplayName("should update the stored seat count in place when a ticket is created")
+    void shouldUpdateStoredSeatsOnTicketCreation() {
         // Given: Cache the event
-        eventService.getEventById(eventId);
-        assertThat(cacheManager.getCache("events").get(eventId)).isNotNull();
+        int initialAvailableSeats = eventService.getEventById(eventId).getAvailableSeats();
+        Object metadata = cacheManager.getCache("events").get(eventId).get();
 
         // When: Create a ticket
         TicketRequest ticketRequest = TicketRequest.builder()
@@ -90,13 +94,15 @@ class TicketServiceCacheIntegrationTest {
                 .build();
         ticketService.createTicket(eventId, ticketRequest);
 
-        // Then: Event cache should be evicted (because available seats changed)
-        assertThat(cacheManager.getCache("events").get(eventId)).isNull();
+        // Then: The metadata stays cached and the stored count has the seats taken off
+        assertThat(cacheManager.getCache("events").get(eventId).get()).isSameAs(metadata);
+        assertThat(storedSeats()).isEqualTo(initialAvailableSeats - 2);
+        assertThat(eventService.getAvailability(eventId).getAvailableSeats()).isEqualTo(initialAvailableSeats - 2);
     }
 
     @Test
-    @DisplayName("should reflect updated available seats after cache eviction")
-    void shouldReflectUpdatedAvailableSeatsAfterCacheEviction() {
+    @DisplayName("should reflect updated available seats after booking")
+    void shouldReflectUpdatedAvailableSeatsAfterBooking() {
         // Given: Cache the event and note initial available seats
         EventResponse initialEvent = eventService.getEventById(eventId);
         int initialAvailableSeats = initialEvent.getAvailableSeats();
@@ -115,8 +121,8 @@ class TicketServiceCacheIntegrationTest {
     }
 
     @Test
-    @DisplayName("should evict event cache when ticket is cancelled")
-    void shouldEvictEventCacheOnTicketCancellation() {
+    @DisplayName("should update the stored seat count in place when a ticket is cancelled")
+    void shouldUpdateStoredSeatsOnTicketCancellation() {
         // Given: Create a ticket and cache the event
         TicketRequest ticketRequest = TicketRequest.builder()
                 .customerName("John Doe")
@@ -126,14 +132,17 @@ class TicketServiceCacheIntegrationTest {
         TicketResponse ticket = ticketService.createTicket(eventId, ticketRequest);
 
         // Cache the event after ticket creation
-        eventService.getEventById(eventId);
-        assertThat(cacheManager.getCache("events").get(eventId)).isNotNull();
+        int seatsAfterBooking = eventService.getEventById(eventId).getAvailableSeats();
 
         // When: Cancel the ticket
         ticketService.cancelTicket(ticket.getId());
 
-        // Then: Event cache should be evicted
-        assertThat(cacheManager.getCache("events").get(eventId)).isNull();
+        // Then: The metadata stays cached and the stored count has the seats given back
+        assertThat(cacheManager.getCache("events").get(eventId)).isNotNull();
+        assertThat(storedSeats()).isEqualTo(seatsAfterBooking + 2);
+        EventResponse afterCancellation = eventService.getEventById(eventId);
+        assertThat(afterCancellation.getAvailableSeats()).isEqualTo(seatsAfterBooking + 2);
+        assertThat(afterCancellation.getName()).isEqualTo("Test Concert");
     }
 
     @Test
@@ -179,4 +188,8 @@ class TicketServiceCacheIntegrationTest {
         EventResponse afterBookings = eventService.getEventById(eventId);
         assertThat(afterBookings.getAvailableSeats()).isEqualTo(initialSeats - 3);
     }
+
+    private int storedSeats() {
+        return Integer.parseInt(stringRedisTemplate.opsForValue().get("event-seats:" + eventId));
+    }
 }
@@ -4,14 +4,19 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.CursorPage;
 import com.example.ticketreservation.dto.TicketRequest;
 import com.example.ticketreservation.dto.TicketResponse;
 import com.example.ticketreservation.entity.Event;
 import com.example.ticketreservation.entity.Ticket;
 import com.example.ticketreservation.entity.TicketStatus;
+import com.example.ticketreservation.exception.IdempotencyKeyReuseException;
 import com.example.ticketreservation.exception.InsufficientSeatsException;
 import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.exception.SoldOutException;
 import com.example.ticketreservation.repository.EventRepository;
+import com.example.ticketreservation.repository.TicketReadRepository;
 import com.example.ticketreservation.repository.TicketRepository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -25,9 +30,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class TicketServiceTest {
@@ -35,20 +41,42 @@ class TicketServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private TicketReadRepository ticketReadRepository;
+
     @Mock
     private EventRepository eventRepository;
 
     @Mock
-    private CacheManager cacheManager;
+    private BookingStrategyResolver bookingStrategyResolver;
+
+    @Mock
+    private BookingStrategy bookingStrategy;
 
     @Mock
-    private Cache cache;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SeatShardInventory seatShardInventory;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private TicketIdempotencyStore idempotencyStore;
+
+    @Mock
+    private EventSeatCache eventSeatCache;
+
+    @Spy
+    private BookingProperties bookingProperties = new BookingProperties();
 
     @InjectMocks
     private TicketService ticketService;
 
     private Event testEvent;
     private Ticket testTicket;
+    private TicketResponse testTicketResponse;
     private TicketRequest testRequest;
 
     @BeforeEach
@@ -76,6 +104,7 @@ class TicketServiceTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+        testTicketResponse = TicketService.toResponse(testTicket);
 
         testRequest = TicketRequest.builder()
                 .customerName("John Doe")
@@ -104,20 +133,50 @@ class TicketServiceTest {
                     .updatedAt(LocalDateTime.now())
                     .build();
 
-            when(ticketRepository.findAll()).thenReturn(Arrays.asList(testTicket, ticket2));
+            when(ticketReadRepository.findPageByCreatedAt(any(), any(), any(Pageable.class)))
+                    .thenReturn(Arrays.asList(testTicketResponse, TicketService.toResponse(ticket2)));
 
-            List<TicketResponse> result = ticketService.getAllTickets();
+            CursorPage<TicketResponse> result = ticketService.getAllTickets(null, null);
 
-            assertThat(result).hasSize(2);
-            verify(ticketRepository).findAll();
+            assertThat(result.getItems()).hasSize(2);
+            assertThat(result.getNextCursor()).isNull();
+            verify(ticketReadRepository)
+                    .findPageByCreatedAt(
+                            KeysetCursor.START.getAfter(),
+                            KeysetCursor.START.getAfterId(),
+                            Pageable.ofSize(bookingProperties.getPagination().getDefaultPageSize() + 1));
+        }
+
+        @Test
+        @DisplayName("should cap the page size and return a cursor when more tickets follow")
+        void shouldCapPageSizeAndReturnCursor() {
+            bookingProperties.getPagination().setMaxPageSize(1);
+            when(ticketReadRepository.findPageByCreatedAt(any(), any(), any(Pageable.class)))
+                    .thenReturn(Arrays.asList(testTicketResponse, testTicketResponse));
+
+            CursorPage<TicketResponse> result = ticketService.getAllTickets(null, 100);
+
+            assertThat(result.getItems()).hasSize(1);
+            assertThat(result.getNextCursor())
+                    .isEqualTo(KeysetCursor.encode(testTicket.getCreatedAt(), testTicket.getId()));
+            verify(ticketReadRepository).findPageByCreatedAt(any(), any(), eq(Pageable.ofSize(2)));
+        }
+
+        @Test
+        @DisplayName("should reject a page size below one")
+        void shouldRejectNonPositivePageSize() {
+            assertThatThrownBy(() -> ticketService.getAllTickets(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Page size");
         }
 
         @Test
         @DisplayName("should return empty list when no tickets exist")
         void shouldReturnEmptyListWhenNoTicketsExist() {
-            when(ticketRepository.findAll()).thenReturn(List.of());
+            when(ticketReadRepository.findPageByCreatedAt(any(), any(), any(Pageable.class)))
+                    .thenReturn(List.of());
 
-            List<TicketResponse> result = ticketService.getAllTickets();
+            List<TicketResponse> result = ticketService.getAllTickets(null, null).getItems();
 
             assertThat(result).isEmpty();
         }
@@ -130,7 +189,7 @@ class TicketServiceTest {
         @Test
         @DisplayName("should return ticket when found")
         void shouldReturnTicketWhenFound() {
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(testTicket));
+            when(ticketReadRepository.findResponseById(1L)).thenReturn(Optional.of(testTicketResponse));
 
             TicketResponse result = ticketService.getTicketById(1L);
 
@@ -142,7 +201,7 @@ class TicketServiceTest {
         @Test
         @DisplayName("should throw exception when not found")
         void shouldThrowExceptionWhenNotFound() {
-            when(ticketRepository.findById(999L)).thenReturn(Optional.empty());
+            when(ticketReadRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> ticketService.getTicketById(999L)).isInstanceOf(ResourceNotFoundException.class);
         }
@@ -155,7 +214,8 @@ class TicketServiceTest {
         @Test
         @DisplayName("should return ticket when found by code")
         void shouldReturnTicketWhenFoundByCode() {
-            when(ticketRepository.findByTicketCode("TKT-12345678")).thenReturn(Optional.of(testTicket));
+            when(ticketReadRepository.findResponseByTicketCode("TKT-12345678"))
+                    .thenReturn(Optional.of(testTicketResponse));
 
             TicketResponse result = ticketService.getTicketByCode("TKT-12345678");
 
@@ -165,7 +225,7 @@ class TicketServiceTest {
         @Test
         @DisplayName("should throw exception when code not found")
         void shouldThrowExceptionWhenCodeNotFound() {
-            when(ticketRepository.findByTicketCode("INVALID")).thenReturn(Optional.empty());
+            when(ticketReadRepository.findResponseByTicketCode("INVALID")).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> ticketService.getTicketByCode("INVALID"))
                     .isInstanceOf(ResourceNotFoundException.class);
@@ -179,9 +239,11 @@ class TicketServiceTest {
         @Test
         @DisplayName("should return tickets for email")
         void shouldReturnTicketsForEmail() {
-            when(ticketRepository.findByCustomerEmail("john@example.com")).thenReturn(List.of(testTicket));
+            when(ticketReadRepository.findPageByCustomerEmail(
+                            eq("john@example.com"), any(), any(), any(Pageable.class)))
+                    .thenReturn(List.of(testTicketResponse));
 
-            List<TicketResponse> result = ticketService.getTicketsByEmail("john@example.com");
+            List<TicketResponse> result = ticketService.getTicketsByEmail("john@example.com", null, null).getItems();
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getCustomerEmail()).isEqualTo("john@example.com");
@@ -195,9 +257,10 @@ class TicketServiceTest {
         @Test
         @DisplayName("should return tickets for event")
         void shouldReturnTicketsForEvent() {
-            when(ticketRepository.findByEventId(1L)).thenReturn(List.of(testTicket));
+            when(ticketReadRepository.findPageByEventId(eq(1L), any(), any(), any(Pageable.class)))
+                    .thenReturn(List.of(testTicketResponse));
 
-            List<TicketResponse> result = ticketService.getTicketsByEventId(1L);
+            List<TicketResponse> result = ticketService.getTicketsByEventId(1L, null, null).getItems();
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getEventId()).isEqualTo(1L);
@@ -209,60 +272,89 @@ class TicketServiceTest {
     class CreateTicketTests {
 
         @Test
-        @DisplayName("should create ticket successfully")
-        void shouldCreateTicketSuccessfully() {
-            when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
-            when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
-            when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
-                Ticket ticket = invocation.getArgument(0);
-                ticket.setId(1L);
-                return ticket;
-            });
+        @DisplayName("should delegate booking to the resolved strategy")
+        void shouldDelegateToResolvedStrategy() {
+            TicketResponse expected = TicketService.toResponse(testTicket);
+            when(bookingStrategyResolver.resolve(1L)).thenReturn(bookingStrategy);
+            when(bookingStrategy.book(1L, testRequest)).thenReturn(expected);
 
             TicketResponse result = ticketService.createTicket(1L, testRequest);
 
-            assertThat(result.getCustomerName()).isEqualTo("John Doe");
-            assertThat(result.getNumberOfSeats()).isEqualTo(2);
-            verify(eventRepository).findByIdWithLock(1L);
-            verify(eventRepository).save(any(Event.class));
-            verify(ticketRepository).save(any(Ticket.class));
+            assertThat(result).isEqualTo(expected);
+            verify(bookingStrategy).book(1L, testRequest);
+            verify(eventSeatCache).seatsTaken(1L, 2);
+            verifyNoInteractions(eventRepository, ticketRepository);
         }
 
         @Test
-        @DisplayName("should throw exception when event not found")
-        void shouldThrowExceptionWhenEventNotFound() {
-            when(eventRepository.findByIdWithLock(999L)).thenReturn(Optional.empty());
+        @DisplayName("should propagate insufficient seats from the strategy")
+        void shouldPropagateInsufficientSeats() {
+            when(bookingStrategyResolver.resolve(1L)).thenReturn(bookingStrategy);
+            when(bookingStrategy.book(1L, testRequest)).thenThrow(new InsufficientSeatsException(2, 1));
 
-            assertThatThrownBy(() -> ticketService.createTicket(999L, testRequest))
-                    .isInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> ticketService.createTicket(1L, testRequest))
+                    .isInstanceOf(InsufficientSeatsException.class);
         }
 
         @Test
-        @DisplayName("should throw exception when insufficient seats")
-        void shouldThrowExceptionWhenInsufficientSeats() {
-            testEvent.setAvailableSeats(1);
-            when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
+        @DisplayName("should record the seats left when the strategy rejects the booking")
+        void shouldRecordRejectedSeats() {
+            when(soldOutRegistry.check(1L, 2)).thenReturn(7L);
+            when(bookingStrategyResolver.resolve(1L)).thenReturn(bookingStrategy);
+            when(bookingStrategy.book(1L, testRequest)).thenThrow(new InsufficientSeatsException(2, 1));
 
             assertThatThrownBy(() -> ticketService.createTicket(1L, testRequest))
                     .isInstanceOf(InsufficientSeatsException.class);
+            verify(soldOutRegistry).record(1L, 7L, 1);
+            verifyNoInteractions(eventSeatCache);
         }
 
         @Test
-        @DisplayName("should decrease available seats after booking")
-        void shouldDecreaseAvailableSeatsAfterBooking() {
-            int initialSeats = testEvent.getAvailableSeats();
-            when(eventRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testEvent));
-            when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
-            when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
-                Ticket ticket = invocation.getArgument(0);
-                ticket.setId(1L);
-                return ticket;
-            });
+        @DisplayName("should book through the idempotency store when a key is given")
+        void shouldBookThroughIdempotencyStore() {
+            TicketRequest keyedRequest = testRequest.withIdempotencyKey("key-1");
+            TicketResponse stored = TicketService.toResponse(testTicket);
+            when(idempotencyStore.execute(eq("key-1"), any())).thenReturn(stored);
+
+            TicketResponse result = ticketService.createTicket(1L, keyedRequest);
+
+            assertThat(result).isEqualTo(stored);
+            verifyNoInteractions(bookingStrategyResolver);
+        }
+
+        @Test
+        @DisplayName("should reject a key reused for a different request")
+        void shouldRejectReusedKey() {
+            TicketRequest otherRequest = TicketRequest.builder()
+                    .customerName("John Doe")
+                    .customerEmail("john@example.com")
+                    .numberOfSeats(5)
+                    .idempotencyKey("key-1")
+                    .build();
+            when(idempotencyStore.execute(eq("key-1"), any())).thenReturn(TicketService.toResponse(testTicket));
+
+            assertThatThrownBy(() -> ticketService.createTicket(1L, otherRequest))
+                    .isInstanceOf(IdempotencyKeyReuseException.class);
+        }
 
-            ticketService.createTicket(1L, testRequest);
+        @Test
+        @DisplayName("should reject blank and oversized idempotency keys")
+        void shouldRejectInvalidKeys() {
+            assertThatThrownBy(() -> ticketService.createTicket(1L, testRequest.withIdempotencyKey(" ")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ticketService.createTicket(1L, testRequest.withIdempotencyKey("k".repeat(256))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(idempotencyStore);
+        }
+
+        @Test
+        @DisplayName("should reject sold-out events without resolving a strategy")
+        void shouldRejectSoldOutEventsBeforeBooking() {
+            when(soldOutRegistry.check(1L, 2)).thenThrow(SoldOutException.INSTANCE);
 
-            assertThat(testEvent.getAvailableSeats()).isEqualTo(initialSeats - 2);
-            verify(eventRepository).save(testEvent);
+            assertThatThrownBy(() -> ticketService.createTicket(1L, testRequest))
+                    .isSameAs(SoldOutException.INSTANCE);
+            verifyNoInteractions(bookingStrategyResolver, eventRepository, ticketRepository);
         }
     }
 
@@ -276,13 +368,24 @@ class TicketServiceTest {
             when(ticketRepository.findById(1L)).thenReturn(Optional.of(testTicket));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(testTicket);
             when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
-            when(cacheManager.getCache("events")).thenReturn(cache);
 
             TicketResponse result = ticketService.cancelTicket(1L);
 
             assertThat(result.getStatus()).isEqualTo(TicketStatus.CANCELLED);
             verify(ticketRepository).save(any(Ticket.class));
-            verify(cache).evict(testEvent.getId());
+            verify(eventPublisher).publishEvent(new TicketCancelledEvent(1L, 1L, 2));
+        }
+
+        @Test
+        @DisplayName("should reject cancellation while payment is pending")
+        void shouldRejectCancellationWhilePending() {
+            testTicket.setStatus(TicketStatus.PENDING);
+            when(ticketRepository.findById(1L)).thenReturn(Optional.of(testTicket));
+
+            assertThatThrownBy(() -> ticketService.cancelTicket(1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Ticket payment is still pending");
+            verifyNoInteractions(seatShardInventory, eventPublisher);
         }
 
         @Test
@@ -311,7 +414,6 @@ class TicketServiceTest {
             when(ticketRepository.findById(1L)).thenReturn(Optional.of(testTicket));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(testTicket);
             when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
-            when(cacheManager.getCache("events")).thenReturn(cache);
 
             ticketService.cancelTicket(1L);
 
@@ -0,0 +1,128 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TrigramIndex Tests")
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "Test Concert");
+        index.put(2L, "Jazz Festival");
+        index.put(3L, "Concert Hall Gala");
+        index.put(4L, "Concert");
+    }
+
+    @Test
+    @DisplayName("should match substrings case-insensitively like LIKE would")
+    void shouldMatchSubstrings() {
+        assertThat(ids(index.search("CONCERT", false))).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(ids(index.search("oncer", false))).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(ids(index.search("z fest", false))).containsExactly(2L);
+        assertThat(ids(index.search("Opera", false))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not match texts that only share the query's trigrams out of order")
+    void shouldVerifyCandidates() {
+        index.put(5L, "abcd bcde");
+
+        assertThat(ids(index.search("abcde", false))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should match one and two character queries against word prefixes")
+    void shouldMatchShortQueriesAsWordPrefixes() {
+        assertThat(ids(index.search("g", false))).containsExactly(3L);
+        assertThat(ids(index.search("fe", false))).containsExactly(2L);
+        assertThat(ids(index.search("al", false))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should rank the whole text above a prefix above a later word above any substring")
+    void shouldRankTighterMatchesFirst() {
+        index.put(5L, "Sconcerto");
+
+        assertThat(byScore(index.search("concert", false))).containsExactly(4L, 3L, 1L, 5L);
+    }
+
+    @Test
+    @DisplayName("should tolerate typos in fuzzy mode and rank them below real matches")
+    void shouldTolerateTypos() {
+        assertThat(ids(index.search("Concrt", false))).isEmpty();
+
+        List<Long> fuzzy = byScore(index.search("Concertt", true));
+
+        assertThat(fuzzy).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(ids(index.search("Jaz Festval", true))).containsExactly(2L);
+        assertThat(byScore(index.search("Concert", true)).get(0)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("should report each fuzzy match once with its own count across many texts")
+    void shouldCountFuzzyMatchesAcrossManyTexts() {
+        for (long id = 100; id < 5_100; id++) {
+            index.put(id, "Show " + id);
+        }
+
+        TrigramIndex.Matches fuzzy = index.search("Show 4321x", true);
+
+        assertThat(ids(fuzzy)).doesNotHaveDuplicates().contains(4_320L);
+        assertThat(byScore(fuzzy).get(0)).isEqualTo(4_321L);
+    }
+
+    @Test
+    @DisplayName("should replace the text of an id put again and forget removed ids")
+    void shouldReplaceAndRemove() {
+        index.put(2L, "Rock Concert");
+        index.remove(4L);
+
+        assertThat(ids(index.search("concert", false))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(index.search("jazz", false))).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should keep answering correctly after compacting many dead slots")
+    void shouldCompact() {
+        for (int round = 0; round < 3; round++) {
+            for (long id = 100; id < 2_100; id++) {
+                index.put(id, "Round " + round + " Show " + id);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(2_004);
+        assertThat(ids(index.search("round 2 show 2099", false))).containsExactly(2_099L);
+        assertThat(ids(index.search("round 1", false))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should treat a blank text as a removal and a blank query as matching nothing")
+    void shouldHandleBlanks() {
+        index.put(1L, " ");
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("  ", false).size()).isZero();
+    }
+
+    private static List<Long> ids(TrigramIndex.Matches matches) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            ids.add(matches.id(i));
+        }
+        return ids;
+    }
+
+    private static List<Long> byScore(TrigramIndex.Matches matches) {
+        return EventSearchIndex.top(matches, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.ticketreservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.example.ticketreservation.config.BookingExecutors;
+import com.example.ticketreservation.config.BookingProperties;
+import com.example.ticketreservation.dto.QueueTokenResponse;
+import com.example.ticketreservation.exception.InsufficientSeatsException;
+import com.example.ticketreservation.exception.QueueAdmissionException;
+import com.example.ticketreservation.exception.ResourceNotFoundException;
+import com.example.ticketreservation.repository.EventRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitingRoom Tests")
+class WaitingRoomTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private BookingExecutors bookingExecutors;
+
+    private BookingProperties bookingProperties;
+    private WaitingRoom waitingRoom;
+
+    @BeforeEach
+    void setUp() {
+        bookingProperties = new BookingProperties();
+        BookingProperties.WaitingRoom settings = bookingProperties.getWaitingRoom();
+        settings.setEnabled(true);
+        settings.setAdmissionRate(2);
+        settings.setTickInterval(Duration.ofMillis(500));
+        settings.setAdmissionTtl(Duration.ofSeconds(10));
+        settings.setSoldOutCheckInterval(Duration.ofHours(1));
+        waitingRoom = new WaitingRoom(eventRepository, bookingExecutors, bookingProperties);
+        lenient().when(eventRepository.findTotalAvailableSeatsById(1L)).thenReturn(Optional.of(100L));
+    }
+
+    @Nested
+    @DisplayName("join")
+    class JoinTests {
+
+        @Test
+        @DisplayName("should hand out FIFO positions with an ETA")
+        void shouldHandOutFifoPositions() {
+            QueueTokenResponse first = waitingRoom.join(1L);
+            QueueTokenResponse second = waitingRoom.join(1L);
+            QueueTokenResponse third = waitingRoom.join(1L);
+
+            assertThat(first.getStatus()).isEqualTo(QueueTokenStatus.WAITING);
+            assertThat(first.getPosition()).isEqualTo(1);
+            assertThat(third.getPosition()).isEqualTo(3);
+            assertThat(third.getEstimatedWaitSeconds()).isEqualTo(2);
+            assertThat(second.getToken()).isNotEqualTo(first.getToken());
+        }
+
+        @Test
+        @DisplayName("should reject unknown events")
+        void shouldRejectUnknownEvents() {
+            when(eventRepository.findTotalAvailableSeatsById(99L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> waitingRoom.join(99L)).isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should admit immediately when disabled")
+        void shouldAdmitImmediatelyWhenDisabled() {
+            bookingProperties.getWaitingRoom().setEnabled(false);
+
+            assertThat(waitingRoom.join(1L).getStatus()).isEqualTo(QueueTokenStatus.ADMITTED);
+            assertThatCode(() -> waitingRoom.admit(1L, null)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("should reject joins once the queue is full")
+        void shouldRejectJoinsWhenFull() {
+            bookingProperties.getWaitingRoom().setMaxQueueSize(2);
+            waitingRoom.join(1L);
+            waitingRoom.join(1L);
+
+            assertThatThrownBy(() -> waitingRoom.join(1L)).isInstanceOf(QueueAdmissionException.class);
+
+            waitingRoom.tick(1_000);
+
+            assertThat(waitingRoom.join(1L).getStatus()).isEqualTo(QueueTokenStatus.WAITING);
+        }
+
+        @Test
+        @DisplayName("should drop waiting tokens that are not polled in time")
+        void shouldExpireUnpolledWaitingTokens() {
+            BookingProperties.WaitingRoom settings = bookingProperties.getWaitingRoom();
+            settings.setMaxQueueSize(2);
+            settings.setAdmissionRate(0);
+            settings.setWaitingTtl(Duration.ofSeconds(30));
+            String token = waitingRoom.join(1L).getToken();
+            waitingRoom.join(1L);
+
+            waitingRoom.tick(System.currentTimeMillis() + 60_000);
+
+            assertThatThrownBy(() -> waitingRoom.status(1L, token)).isInstanceOf(ResourceNotFoundException.class);
+            waitingRoom.join(1L);
+            assertThat(waitingRoom.join(1L).getStatus()).isEqualTo(QueueTokenStatus.WAITING);
+        }
+    }
+
+    @Nested
+    @DisplayName("admission")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("should admit tokens at the configured rate in FIFO order")
+        void shouldAdmitAtConfiguredRate() {
+            String first = waitingRoom.join(1L).getToken();
+            String second = waitingRoom.join(1L).getToken();
+            String third = waitingRoom.join(1L).getToken();
+
+            waitingRoom.tick(1_000);
+
+            assertThat(waitingRoom.status(1L, first).getStatus()).isEqualTo(QueueTokenStatus.ADMITTED);
+            assertThat(waitingRoom.status(1L, second).getStatus()).isEqualTo(QueueTokenStatus.WAITING);
+            assertThat(waitingRoom.status(1L, third).getPosition()).isEqualTo(2);
+
+            waitingRoom.tick(1_500);
+
+            assertThat(waitingRoom.status(1L, second).getStatus()).isEqualTo(QueueTokenStatus.ADMITTED);
+        }
+
+        @Test
+        @DisplayName("should let an admitted token book exactly once")
+        void shouldConsumeAdmittedToken() {
+            String token = waitingRoom.join(1L).getToken();
+            waitingRoom.tick(1_000);
+
+            waitingRoom.admit(1L, token);
+
+            assertThatThrownBy(() -> waitingRoom.admit(1L, token)).isInstanceOf(QueueAdmissionException.class);
+        }
+
+        @Test
+        @DisplayName("should reject waiting and missing tokens with their position")
+        void shouldRejectWaitingTokens() {
+            waitingRoom.join(1L);
+            String token = waitingRoom.join(1L).getToken();
+
+            assertThatThrownBy(() -> waitingRoom.admit(1L, token))
+                    .isInstanceOfSatisfying(
+                            QueueAdmissionException.class, e -> assertThat(e.getPosition()).isEqualTo(2));
+            assertThatThrownBy(() -> waitingRoom.admit(1L, null)).isInstanceOf(QueueAdmissionException.class);
+        }
+
+        @Test
+        @DisplayName("should admit a bulk order only when every event has an admitted token")
+        void shouldAdmitBulkOrderAllOrNothing() {
+            when(eventRepository.findTotalAvailableSeatsById(2L)).thenReturn(Optional.of(100L));
+            String first = waitingRoom.join(1L).getToken();
+            String second = waitingRoom.join(2L).getToken();
+            waitingRoom.tick(1_000);
+            String waiting = waitingRoom.join(2L).getToken();
+
+            assertThatThrownBy(() -> waitingRoom.admitAll(List.of(1L, 2L), Map.of(1L, first, 2L, waiting)))
+                    .isInstanceOf(QueueAdmissionException.class);
+            assertThatThrownBy(() -> waitingRoom.admitAll(List.of(1L, 2L), Map.of(1L, first)))
+                    .isInstanceOf(QueueAdmissionException.class);
+
+            waitingRoom.admitAll(List.of(1L, 2L), Map.of(1L, first, 2L, second));
+
+            assertThatThrownBy(() -> waitingRoom.admit(1L, first)).isInstanceOf(QueueAdmissionException.class);
+        }
+
+        @Test
+        @DisplayName("should drop admitted tokens that are not used in time")
+        void shouldExpireUnusedAdmissions() {
+            String token = waitingRoom.join(1L).getToken();
+            waitingRoom.tick(1_000);
+
+            waitingRoom.tick(12_000);
+
+            assertThatThrownBy(() -> waitingRoom.status(1L, token)).isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("sold out")
+    class SoldOutTests {
+
+        @Test
+        @DisplayName("should short-circuit waiting tokens once seats reach zero")
+        void shouldShortCircuitWhenSoldOut() {
+            bookingProperties.getWaitingRoom().setSoldOutCheckInterval(Duration.ZERO);
+            String token = waitingRoom.join(1L).getToken();
+            when(eventRepository.findTotalAvailableSeatsById(1L)).thenReturn(Optional.of(0L));
+
+            waitingRoom.tick(System.currentTimeMillis());
+
+            assertThat(waitingRoom.status(1L, token).getStatus()).isEqualTo(QueueTokenStatus.SOLD_OUT);
+            assertThat(waitingRoom.join(1L).getStatus()).isEqualTo(QueueTokenStatus.SOLD_OUT);
+            assertThatThrownBy(() -> waitingRoom.admit(1L, token)).isInstanceOf(InsufficientSeatsException.class);
+        }
+
+        @Test
+        @DisplayName("should forget every token once sold out and start afresh when seats return")
+        void shouldForgetTokensWhenSoldOut() {
+            bookingProperties.getWaitingRoom().setSoldOutCheckInterval(Duration.ZERO);
+            String token = waitingRoom.join(1L).getToken();
+            waitingRoom.join(1L);
+            when(eventRepository.findTotalAvailableSeatsById(1L))
+                    .thenReturn(Optional.of(0L))
+                    .thenReturn(Optional.of(5L));
+
+            waitingRoom.tick(System.currentTimeMillis());
+            waitingRoom.tick(System.currentTimeMillis());
+
+            assertThatThrownBy(() -> waitingRoom.status(1L, token)).isInstanceOf(ResourceNotFoundException.class);
+            assertThat(waitingRoom.join(1L).getPosition()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("estimatedWaitSeconds should round up")
+    void estimatedWaitSecondsShouldRoundUp() {
+        assertThat(WaitingRoom.estimatedWaitSeconds(1, 50)).isEqualTo(1);
+        assertThat(WaitingRoom.estimatedWaitSeconds(100, 50)).isEqualTo(2);
+        assertThat(WaitingRoom.estimatedWaitSeconds(101, 50)).isEqualTo(3);
+    }
+}